@@ -0,0 +1,22 @@
+package com.asyncgate.apigatewayserver.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 게이트웨이에 캐시된 GET 응답 본문과 재검증에 필요한 헤더
+ */
+public record CachedResponse(
+        byte[] body,
+        MediaType contentType,
+        String etag,
+        long storedAtNanos
+) {
+
+    public CachedResponse refreshed(final long nowNanos) {
+        return new CachedResponse(body, contentType, etag, nowNanos);
+    }
+
+    public boolean isFresh(final long nowNanos, final long ttlNanos) {
+        return nowNanos - storedAtNanos < ttlNanos;
+    }
+}
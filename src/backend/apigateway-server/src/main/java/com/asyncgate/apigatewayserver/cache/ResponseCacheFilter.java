@@ -0,0 +1,236 @@
+package com.asyncgate.apigatewayserver.cache;
+
+import com.asyncgate.apigatewayserver.filter.AuthorizationHeaderFilter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 라우트의 GET 응답을 (route, principal, path + query) 단위로 짧게 캐시하는 opt-in 필터
+ * AuthorizationHeaderFilter 뒤에 두어야 하며, 인증되지 않은 요청은 캐시하지 않는다
+ *   - name: ResponseCacheFilter
+ *     args:
+ *       ttl: 5s
+ *       paths: /guilds, /guilds/{guildId}
+ *       exclude-paths: /guilds/invitations
+ * ttl 안의 요청은 서비스로 가지 않고, ttl 이 지나면 저장된 ETag 로 If-None-Match 재검증을 보낸다 (304 면 본문 재사용)
+ * 같은 사용자가 이 라우트로 쓰기 요청을 보내면 해당 사용자의 캐시는 무효화된다
+ * 다른 사용자의 쓰기로 바뀌는 응답(초대함 등)은 무효화할 수 없으므로 paths 변수에 걸리더라도 exclude-paths 로 뺀다
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheFilter(final ResponseCacheStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public GatewayFilter apply(final Config config) {
+        // 라우트 설정 시 한 번만 파싱
+        List<PathPattern> patterns = config.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        List<PathPattern> excludePatterns = config.getExcludePaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        long ttlNanos = config.getTtl().toNanos();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String principal = exchange.getAttribute(AuthorizationHeaderFilter.MEMBER_ID_ATTRIBUTE);
+            if (principal == null) {
+                return chain.filter(exchange);
+            }
+
+            String routeId = routeId(exchange);
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                store.invalidate(routeId, principal);
+                return chain.filter(exchange)
+                        .doFinally(signalType -> store.invalidate(routeId, principal));
+            }
+
+            if (!matches(patterns, request) || matchesAny(excludePatterns, request) || noCache(request.getHeaders())) {
+                return chain.filter(exchange);
+            }
+
+            String key = store.key(routeId, principal, request.getURI().getRawPath(), request.getURI().getRawQuery());
+            CachedResponse cached = store.get(key);
+            String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+
+            if (cached != null && cached.isFresh(System.nanoTime(), ttlNanos)) {
+                if (cached.etag() != null && cached.etag().equals(ifNoneMatch)) {
+                    return notModified(exchange.getResponse(), cached);
+                }
+                return writeCached(exchange.getResponse(), cached, HttpStatus.OK, "HIT");
+            }
+
+            // 만료된 항목은 서비스에 ETag 재검증을 요청 (클라이언트가 직접 보낸 If-None-Match 는 그대로 둔다)
+            boolean revalidating = cached != null && cached.etag() != null && ifNoneMatch == null;
+            ServerHttpRequest forwarded = revalidating
+                    ? request.mutate().headers(headers -> headers.set(HttpHeaders.IF_NONE_MATCH, cached.etag())).build()
+                    : request;
+
+            ServerHttpResponse response = exchange.getResponse();
+            return chain.filter(exchange.mutate()
+                    .request(forwarded)
+                    .response(new CachingResponse(response, key, revalidating ? cached : null))
+                    .build());
+        };
+    }
+
+    private static String routeId(final ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "";
+    }
+
+    private static boolean matches(final List<PathPattern> patterns, final ServerHttpRequest request) {
+        return patterns.isEmpty() || matchesAny(patterns, request);
+    }
+
+    private static boolean matchesAny(final List<PathPattern> patterns, final ServerHttpRequest request) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean noCache(final HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+
+    private static boolean cacheable(final HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return !headers.containsKey(HttpHeaders.SET_COOKIE)
+                && (cacheControl == null || !cacheControl.contains("no-store"));
+    }
+
+    private static Mono<Void> notModified(final ServerHttpResponse response, final CachedResponse cached) {
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        return response.setComplete();
+    }
+
+    private static Mono<Void> writeCached(
+            final ServerHttpResponse response,
+            final CachedResponse cached,
+            final HttpStatus status,
+            final String cacheStatus
+    ) {
+        response.setStatusCode(status);
+        HttpHeaders headers = response.getHeaders();
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        if (cached.etag() != null) {
+            headers.setETag(cached.etag());
+        }
+        headers.setContentLength(cached.body().length);
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * 서비스 응답을 가로채 200 이면 저장하고, 재검증 결과가 304 면 저장된 본문으로 200 응답을 만든다
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final CachedResponse revalidated;
+
+        private CachingResponse(final ServerHttpResponse delegate, final String key, final CachedResponse revalidated) {
+            super(delegate);
+            this.key = key;
+            this.revalidated = revalidated;
+        }
+
+        @Override
+        public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+            if (revalidated != null && HttpStatus.NOT_MODIFIED.equals(getStatusCode())) {
+                CachedResponse refreshed = revalidated.refreshed(System.nanoTime());
+                store.put(key, refreshed);
+                return Flux.from(body)
+                        .doOnNext(DataBufferUtils::release)
+                        .then(writeCached(getDelegate(), refreshed, HttpStatus.OK, "REVALIDATED"));
+            }
+
+            if (!HttpStatus.OK.equals(getStatusCode()) || !cacheable(getHeaders())) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                store.put(key, new CachedResponse(
+                        bytes,
+                        getHeaders().getContentType(),
+                        getHeaders().getETag(),
+                        System.nanoTime()
+                ));
+                getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    public static class Config {
+
+        private Duration ttl = Duration.ofSeconds(5);
+        private List<String> paths = new ArrayList<>();
+        private List<String> excludePaths = new ArrayList<>();
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(final Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(final List<String> paths) {
+            this.paths = paths;
+        }
+
+        public List<String> getExcludePaths() {
+            return excludePaths;
+        }
+
+        public void setExcludePaths(final List<String> excludePaths) {
+            this.excludePaths = excludePaths;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.asyncgate.apigatewayserver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * (route, principal, path + query) -> 응답 캐시
+ * 전체 크기는 본문 바이트 기준으로 제한하고, ttl 이 지난 항목도 retention 동안은 ETag 재검증용으로 남겨 둔다
+ * 쓰기 요청이 오면 (route, principal) 의 세대 번호를 올려 이전 항목을 한 번에 무효화한다
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final Cache<String, CachedResponse> responses;
+    private final Cache<String, Long> generations;
+    private final int maxEntryBytes;
+
+    public ResponseCacheStore(
+            @Value("${gateway.response-cache.max-bytes:67108864}") final long maxBytes,
+            @Value("${gateway.response-cache.max-entry-bytes:262144}") final int maxEntryBytes,
+            @Value("${gateway.response-cache.retention:5m}") final Duration retention
+    ) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                .expireAfterWrite(retention)
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(retention)
+                .build();
+    }
+
+    public String key(final String routeId, final String principal, final String path, final String query) {
+        Long generation = generations.getIfPresent(scope(routeId, principal));
+        return routeId + '|' + principal + '|' + (generation == null ? 0 : generation) + '|' + path
+                + (query == null ? "" : '?' + query);
+    }
+
+    public CachedResponse get(final String key) {
+        return responses.getIfPresent(key);
+    }
+
+    public void put(final String key, final CachedResponse response) {
+        if (response.body().length <= maxEntryBytes) {
+            responses.put(key, response);
+        }
+    }
+
+    public void invalidate(final String routeId, final String principal) {
+        generations.asMap().merge(scope(routeId, principal), 1L, Long::sum);
+    }
+
+    private static String scope(final String routeId, final String principal) {
+        return routeId + '|' + principal;
+    }
+}
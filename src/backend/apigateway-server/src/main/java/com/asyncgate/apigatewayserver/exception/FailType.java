@@ -15,7 +15,10 @@ public enum FailType {
     JWT_EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "Jwt_4012", "JWT 토큰이 만료되었습니다."),
     JWT_MALFORMED_TOKEN(HttpStatus.UNAUTHORIZED, "Jwt_4013", "잘못된 형식의 JWT 토큰입니다."),
     JWT_UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "Jwt_4014", "지원하지 않는 JWT 토큰입니다."),
-    JWT_INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Jwt_4015", "유효하지 않은 JWT 토큰입니다.");
+    JWT_INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Jwt_4015", "유효하지 않은 JWT 토큰입니다."),
+
+    // -------------------------------------------      Overload       -------------------------------------------
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "Gateway_5031", "요청이 많아 잠시 후 다시 시도해 주세요.");
 
     ;
     private final HttpStatus status;
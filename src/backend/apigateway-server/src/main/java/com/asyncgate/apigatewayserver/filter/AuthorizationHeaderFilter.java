@@ -1,16 +1,20 @@
 package com.asyncgate.apigatewayserver.filter;
 
 import com.asyncgate.apigatewayserver.exception.ApiGatewayServerException;
-import com.asyncgate.apigatewayserver.jwt.JwtTokenProvider;
+import com.asyncgate.apigatewayserver.jwt.InternalIdentitySigner;
+import com.asyncgate.apigatewayserver.jwt.TokenVerificationCache;
+import com.asyncgate.apigatewayserver.jwt.VerifiedToken;
+import com.asyncgate.apigatewayserver.support.logging.RequestDiagnostics;
 import com.asyncgate.apigatewayserver.support.response.FailResponse;
 import com.asyncgate.apigatewayserver.exception.FailType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -23,21 +27,26 @@ import reactor.core.publisher.Mono;
 @Component
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
 
+    public static final String MEMBER_ID_ATTRIBUTE = "asyncgate.memberId";
+
     private static final String BEARER_PREFIX = "Bearer ";
-    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVerificationCache tokenVerificationCache;
     private final ObjectMapper objectMapper;
+    private final RequestDiagnostics requestDiagnostics;
 
-    private static final List<String> NO_NEED_URLS = List.of(
+    private static final PublicPathMatcher NO_NEED_URLS = PublicPathMatcher.of(
         "/sign-up", "/sign-in", "/validation/email", "/validation/authentication-code", "/room/profile"
     );
 
     public AuthorizationHeaderFilter(
-            final JwtTokenProvider jwtTokenProvider,
-            final ObjectMapper objectMapper
+            final TokenVerificationCache tokenVerificationCache,
+            final ObjectMapper objectMapper,
+            final RequestDiagnostics requestDiagnostics
     ) {
         super(Config.class);
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenVerificationCache = tokenVerificationCache;
         this.objectMapper = objectMapper;
+        this.requestDiagnostics = requestDiagnostics;
     }
 
     @Override
@@ -47,10 +56,13 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             String path = request.getURI().getPath();
             HttpHeaders headers = request.getHeaders();
 
-            log.info("API Gateway 요청: [URI={}]", path);
-            log.info("요청 헤더: {}", headers);
+            // 헤더 덤프는 route 별 샘플링된 요청에만, 토큰 값은 가려서 기록
+            String route = routeId(exchange);
+            if (requestDiagnostics.sampled(route)) {
+                requestDiagnostics.headers(route, "API Gateway 요청: [URI=" + path + "]", headers);
+            }
 
-            if (NO_NEED_URLS.contains(path)) {
+            if (NO_NEED_URLS.matches(path)) {
                 return chain.filter(exchange);
             }
 
@@ -62,24 +74,34 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             String authorizationHeader = headers.getFirst(HttpHeaders.AUTHORIZATION);
 
             if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
-                log.warn("Authorization 헤더 형식 오류: {}", authorizationHeader);
+                log.warn("Authorization 헤더 형식 오류");
                 return onError(exchange, FailType.AUTHORIZATION_INVALID_FORMAT);
             }
 
             String jwt = authorizationHeader.replace(BEARER_PREFIX, "");
-            log.info("JWT 토큰: {}", jwt);
 
+            VerifiedToken verified;
             try {
-                jwtTokenProvider.validate(jwt);
-                log.info("JWT 유효성 검사 통과");
+                // 같은 토큰은 만료 전까지 digest 캐시로 재검증 없이 통과
+                verified = tokenVerificationCache.verify(jwt);
             } catch (ApiGatewayServerException e) {
                 log.error("JWT 검증 실패: {}", e.getMessage());
                 return onError(exchange, e.getFailType());
             }
 
+            // 뒤따르는 필터(ResponseCacheFilter 등) 가 사용자 단위로 동작할 수 있도록 검증된 memberId 를 남긴다
+            if (verified.memberId() != null) {
+                exchange.getAttributes().put(MEMBER_ID_ATTRIBUTE, verified.memberId());
+            }
+
             ServerHttpRequest modifiedRequest = exchange.getRequest()
                     .mutate()
-                    .header(HttpHeaders.AUTHORIZATION, jwt)
+                    .headers(h -> {
+                        h.set(HttpHeaders.AUTHORIZATION, jwt);
+                        if (verified.identityHeader() != null) {
+                            h.set(InternalIdentitySigner.HEADER, verified.identityHeader());
+                        }
+                    })
                     .build();
 
             return chain.filter(
@@ -90,6 +112,10 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
         };
     }
 
+    private static String routeId(final ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : RequestDiagnostics.DEFAULT_ROUTE;
+    }
 
     private Mono<Void> onError(
             final ServerWebExchange exchange,
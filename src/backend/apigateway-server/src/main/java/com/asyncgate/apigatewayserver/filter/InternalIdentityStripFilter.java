@@ -0,0 +1,31 @@
+package com.asyncgate.apigatewayserver.filter;
+
+import com.asyncgate.apigatewayserver.jwt.InternalIdentitySigner;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트가 보낸 내부 신원 헤더는 모든 라우트에서 제거 (AuthorizationHeaderFilter 만 다시 붙일 수 있다)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InternalIdentityStripFilter implements GlobalFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!exchange.getRequest().getHeaders().containsKey(InternalIdentitySigner.HEADER)) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange.mutate()
+                .request(exchange.getRequest().mutate()
+                        .headers(headers -> headers.remove(InternalIdentitySigner.HEADER))
+                        .build())
+                .build());
+    }
+}
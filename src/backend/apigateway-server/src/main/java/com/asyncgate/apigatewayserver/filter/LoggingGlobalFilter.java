@@ -3,49 +3,94 @@ package com.asyncgate.apigatewayserver.filter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class LoggingGlobalFilter implements GlobalFilter {
 
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
     private static final Logger requestLogger = LoggerFactory.getLogger("HttpRequestLog");
     private static final Logger responseLogger = LoggerFactory.getLogger("HttpResponseLog");
 
+    // 0.0 ~ 1.0, 5xx 응답은 샘플링과 무관하게 기록
+    private final double sampleRate;
+
+    public LoggingGlobalFilter(@Value("${logging.access.sample-rate:1.0}") final double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        MDC.put("method", request.getMethod().name());
-        MDC.put("requestUri", request.getURI().toString());
-        MDC.put("sourceIp", request.getHeaders().getFirst("X-Real-IP") != null
-                ? request.getHeaders().getFirst("X-Real-IP")
-                : request.getRemoteAddress() != null ? request.getRemoteAddress().toString() : "unknown");
-        MDC.put("userAgent", request.getHeaders().getFirst("User-Agent"));
-        MDC.put("xForwardedFor", request.getHeaders().getFirst("X-Forwarded-For"));
-        MDC.put("xForwardedProto", request.getHeaders().getFirst("X-Forwarded-Proto"));
-        String requestId = UUID.randomUUID().toString();
-        MDC.put("requestId", requestId);
-        MDC.put("startTime", String.valueOf(System.nanoTime()));
-
-        requestLogger.info("Request received for URI: {}", request.getURI());
-
-        return chain.filter(exchange)
-                .doOnSuccess(aVoid -> {
-                    String startTimeStr = MDC.get("startTime");
-                    long startTime = startTimeStr != null ? Long.parseLong(startTimeStr) : System.nanoTime();
-                    double executionTime = (System.nanoTime() - startTime) / 1_000_000_000.0;
-                    MDC.put("responseTime", String.format("%.3f초", executionTime));
-                    responseLogger.info("Response sent successfully for URI: {}", request.getURI());
-                })
-                .doFinally(signalType -> MDC.clear());
+        ServerHttpRequest original = exchange.getRequest();
+        String incoming = original.getHeaders().getFirst(REQUEST_ID_HEADER);
+        boolean valid = RequestIds.isValid(incoming);
+        String requestId = valid ? incoming : RequestIds.next();
+
+        // 다운스트림 서비스가 같은 requestId 로 로그를 남기도록 헤더로 전달 (형식이 맞지 않는 값은 덮어씀)
+        ServerHttpRequest request = valid
+                ? original
+                : original.mutate().header(REQUEST_ID_HEADER, requestId).build();
+        exchange.getResponse().getHeaders().set(REQUEST_ID_HEADER, requestId);
+
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (sampled) {
+            log(requestLogger, request, requestId, null, -1, "Request received");
+        }
+
+        // MDC 는 Reactor 스레드 전환 시 유실되므로 값은 지역 변수로 들고, 기록 시점에만 MDC 에 채운다
+        long startTime = System.nanoTime();
+        return chain.filter(incoming != null ? exchange : exchange.mutate().request(request).build())
+                .doFinally(signalType -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (sampled || (status != null && status.is5xxServerError())) {
+                        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+                        log(responseLogger, request, requestId, status, elapsedMs, "Response sent");
+                    }
+                });
+    }
+
+    private void log(
+            final Logger logger,
+            final ServerHttpRequest request,
+            final String requestId,
+            final HttpStatusCode status,
+            final long elapsedMs,
+            final String message
+    ) {
+        String realIp = request.getHeaders().getFirst("X-Real-IP");
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        try {
+            MDC.put("requestId", requestId);
+            MDC.put("method", request.getMethod().name());
+            MDC.put("requestUri", request.getPath().value());
+            MDC.put("sourceIp", realIp != null ? realIp
+                    : remoteAddress != null ? remoteAddress.getHostString() : "unknown");
+            MDC.put("userAgent", request.getHeaders().getFirst("User-Agent"));
+            MDC.put("xForwardedFor", request.getHeaders().getFirst("X-Forwarded-For"));
+            MDC.put("xForwardedProto", request.getHeaders().getFirst("X-Forwarded-Proto"));
+            if (status != null) {
+                MDC.put("status", String.valueOf(status.value()));
+            }
+            if (elapsedMs >= 0) {
+                MDC.put("responseTime", elapsedMs + "ms");
+            }
+            logger.info("{} for URI: {}", message, request.getPath());
+        } finally {
+            MDC.clear();
+        }
     }
 }
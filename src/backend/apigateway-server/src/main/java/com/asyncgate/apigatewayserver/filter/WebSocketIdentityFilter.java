@@ -0,0 +1,61 @@
+package com.asyncgate.apigatewayserver.filter;
+
+import com.asyncgate.apigatewayserver.exception.ApiGatewayServerException;
+import com.asyncgate.apigatewayserver.jwt.TokenVerificationCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket handshake 의 Sec-WebSocket-Protocol("v10.stomp, <JWT>") 에서 memberId 를 꺼내 sticky 라우팅 키로 남긴다
+ * 브라우저 WebSocket 은 Authorization 헤더를 보낼 수 없으므로 AuthorizationHeaderFilter 대신 사용하고,
+ * 인증 실패 시 거절은 기존처럼 각 서버의 handshake interceptor 가 담당한다
+ */
+@Slf4j
+@Component
+public class WebSocketIdentityFilter extends AbstractGatewayFilterFactory<WebSocketIdentityFilter.Config> {
+
+    private static final String PROTOCOL_HEADER = "Sec-WebSocket-Protocol";
+    private static final String STOMP_PROTOCOL = "v10.stomp";
+
+    private final TokenVerificationCache tokenVerificationCache;
+
+    public WebSocketIdentityFilter(final TokenVerificationCache tokenVerificationCache) {
+        super(Config.class);
+        this.tokenVerificationCache = tokenVerificationCache;
+    }
+
+    @Override
+    public GatewayFilter apply(final Config config) {
+        return (exchange, chain) -> {
+            String jwt = token(exchange.getRequest().getHeaders().getFirst(PROTOCOL_HEADER));
+            if (jwt != null) {
+                try {
+                    String memberId = tokenVerificationCache.verify(jwt).memberId();
+                    if (memberId != null) {
+                        exchange.getAttributes().put(AuthorizationHeaderFilter.MEMBER_ID_ATTRIBUTE, memberId);
+                    }
+                } catch (ApiGatewayServerException e) {
+                    log.debug("WebSocket 토큰 검증 실패: {}", e.getMessage());
+                }
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    private static String token(final String protocolHeader) {
+        if (protocolHeader == null) {
+            return null;
+        }
+        String[] parts = protocolHeader.split(",");
+        if (parts.length < 2 || !STOMP_PROTOCOL.equals(parts[0].trim())) {
+            return null;
+        }
+        String token = parts[1].trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,50 @@
+package com.asyncgate.apigatewayserver.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * 다운스트림 서비스가 JWT 를 다시 파싱하지 않도록 검증된 회원 id 를 서명해 내부 헤더로 전달
+ * 형식: {memberId}.{expiresAtMillis}.{base64url(HMAC-SHA256(memberId.expiresAtMillis))}
+ * internal.identity.secret-key 가 비어 있으면 헤더를 붙이지 않는다 (서비스는 JWT 검증으로 동작)
+ * "service:" 접두어는 서비스 간 호출 전용 신원이므로 사용자 요청에는 서명하지 않는다
+ */
+@Component
+public class InternalIdentitySigner {
+
+    public static final String HEADER = "X-Internal-Identity";
+    private static final String SERVICE_PREFIX = "service:";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public InternalIdentitySigner(@Value("${internal.identity.secret-key:}") final String secretKey) {
+        this.key = secretKey.isBlank() ? null : new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    public String sign(final String memberId, final long expiresAtMillis) {
+        if (key == null || memberId.startsWith(SERVICE_PREFIX)) {
+            return null;
+        }
+
+        String payload = memberId + "." + expiresAtMillis;
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(key);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("internal identity 서명 실패", e);
+        }
+    }
+}
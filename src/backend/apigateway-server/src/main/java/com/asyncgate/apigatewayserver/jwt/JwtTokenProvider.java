@@ -5,6 +5,7 @@ import com.asyncgate.apigatewayserver.exception.FailType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -12,28 +13,41 @@ import io.jsonwebtoken.security.SignatureException;
 import java.security.Key;
 import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements InitializingBean {
 
     public static final String HMAC_SHA256 = "HmacSHA256";
 
     @Value("${jwt.secret-key}")
     private String secretKey;
 
-    public void validate(final String token) {
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private JwtParser parser;
+
+    @Override
+    public void afterPropertiesSet() {
+        Key key = new SecretKeySpec(secretKey.getBytes(), HMAC_SHA256);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    public Claims validate(final String token) {
+        if (JwtExpiryPrecheck.isExpired(token, System.currentTimeMillis())) {
+            throw new ApiGatewayServerException(FailType.JWT_EXPIRED_TOKEN);
+        }
+
         try {
-            Key key = new SecretKeySpec(secretKey.getBytes(), HMAC_SHA256);
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = parser.parseClaimsJws(token);
             String subject = claims.getBody().getSubject();
             if (StringUtils.isBlank(subject)) {
                 throw new ApiGatewayServerException(FailType.JWT_INVALID_TOKEN);
             }
+            return claims.getBody();
         } catch (SignatureException e) {
             throw new ApiGatewayServerException(FailType.JWT_INVALID_SIGNATURE);
         } catch (ExpiredJwtException e) {
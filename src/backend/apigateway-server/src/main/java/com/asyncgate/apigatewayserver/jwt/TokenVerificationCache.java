@@ -0,0 +1,92 @@
+package com.asyncgate.apigatewayserver.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 digest(SHA-256) -> 검증 결과 캐시
+ * 항목은 토큰 만료 시각까지만 유지되고, 검증 실패는 캐시하지 않는다
+ */
+@Component
+public class TokenVerificationCache {
+
+    private static final String MEMBER_ID_CLAIM_NAME = "mid";
+    private static final long NO_EXPIRY_TTL_MILLIS = 60_000L;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final InternalIdentitySigner internalIdentitySigner;
+    private final Cache<String, VerifiedToken> cache;
+
+    public TokenVerificationCache(
+            final JwtTokenProvider jwtTokenProvider,
+            final InternalIdentitySigner internalIdentitySigner,
+            @Value("${gateway.auth.cache.max-size:100000}") final long maxSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.internalIdentitySigner = internalIdentitySigner;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public VerifiedToken verify(final String token) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        // 검증 실패 시 ApiGatewayServerException 이 그대로 전파된다
+        Claims claims = jwtTokenProvider.validate(token);
+        String memberId = claims.get(MEMBER_ID_CLAIM_NAME, String.class) != null
+                ? claims.get(MEMBER_ID_CLAIM_NAME, String.class)
+                : claims.getSubject();
+        // exp 가 없는 토큰은 짧게만 캐시
+        long expiresAtMillis = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + NO_EXPIRY_TTL_MILLIS;
+
+        VerifiedToken verified = new VerifiedToken(
+                memberId,
+                expiresAtMillis,
+                internalIdentitySigner.sign(memberId, expiresAtMillis)
+        );
+        cache.put(digest, verified);
+        return verified;
+    }
+
+    private static String digest(final String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.asyncgate.apigatewayserver.jwt;
+
+/**
+ * 게이트웨이에서 검증이 끝난 토큰 정보 (검증 결과 캐시의 값)
+ */
+public record VerifiedToken(
+        String memberId,
+        long expiresAtMillis,
+        String identityHeader
+) {
+}
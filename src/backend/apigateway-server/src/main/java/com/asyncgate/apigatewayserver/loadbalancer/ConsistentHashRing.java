@@ -0,0 +1,104 @@
+package com.asyncgate.apigatewayserver.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 인스턴스 목록에 대한 consistent hash ring (ketama 방식, 인스턴스당 가상 노드 160개)
+ * 인스턴스가 추가 / 제거되면 전체 키 중 약 1/N 만 다른 인스턴스로 옮겨지고,
+ * 같은 인스턴스 목록을 보는 게이트웨이 인스턴스끼리는 같은 키를 같은 인스턴스로 보낸다
+ */
+final class ConsistentHashRing {
+
+    private static final int VIRTUAL_NODES = 160;
+    private static final int POINTS_PER_DIGEST = 4;
+
+    private final Set<String> members;
+    private final long[] points;
+    private final ServiceInstance[] owners;
+
+    private ConsistentHashRing(final Set<String> members, final long[] points, final ServiceInstance[] owners) {
+        this.members = members;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    static ConsistentHashRing of(final List<ServiceInstance> instances) {
+        // 목록 순서와 무관하게 같은 ring 이 만들어지도록 정렬 후 배치
+        List<ServiceInstance> sorted = instances.stream()
+                .sorted(Comparator.comparing(ConsistentHashRing::member))
+                .toList();
+
+        Set<String> members = new HashSet<>();
+        TreeMap<Long, ServiceInstance> ring = new TreeMap<>();
+        for (ServiceInstance instance : sorted) {
+            String member = member(instance);
+            members.add(member);
+            for (int i = 0; i < VIRTUAL_NODES / POINTS_PER_DIGEST; i++) {
+                byte[] digest = md5(member + "-" + i);
+                for (int h = 0; h < POINTS_PER_DIGEST; h++) {
+                    ring.putIfAbsent(point(digest, h), instance);
+                }
+            }
+        }
+
+        long[] points = new long[ring.size()];
+        ServiceInstance[] owners = new ServiceInstance[ring.size()];
+        int index = 0;
+        for (Map.Entry<Long, ServiceInstance> entry : ring.entrySet()) {
+            points[index] = entry.getKey();
+            owners[index] = entry.getValue();
+            index++;
+        }
+        return new ConsistentHashRing(members, points, owners);
+    }
+
+    boolean matches(final List<ServiceInstance> instances) {
+        if (instances.size() != members.size()) {
+            return false;
+        }
+        for (ServiceInstance instance : instances) {
+            if (!members.contains(member(instance))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    ServiceInstance locate(final String key) {
+        int index = Arrays.binarySearch(points, point(md5(key), 0));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    private static String member(final ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static long point(final byte[] digest, final int h) {
+        return ((long) (digest[3 + h * 4] & 0xFF) << 24)
+                | ((long) (digest[2 + h * 4] & 0xFF) << 16)
+                | ((long) (digest[1 + h * 4] & 0xFF) << 8)
+                | (digest[h * 4] & 0xFF);
+    }
+
+    private static byte[] md5(final String value) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.asyncgate.apigatewayserver.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = StickyLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,116 @@
+package com.asyncgate.apigatewayserver.loadbalancer;
+
+import com.asyncgate.apigatewayserver.filter.AuthorizationHeaderFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * route metadata 에 sticky-key 가 있는 요청은 키의 consistent hash 로 인스턴스를 고정하고, 나머지는 delegate(round robin) 에 맡긴다
+ * sticky-key: member 는 검증된 memberId, 그 외 값은 같은 이름의 path 변수 → query parameter → memberId 순으로 키를 찾는다
+ * path 변수와 query parameter 는 같은 키("room_id:<값>")가 되므로 /room/{room_id}/** 요청과 ?room_id= 소켓은 같은 인스턴스로 간다
+ *
+ * 인스턴스가 추가 / 제거되면 ring 이 바뀌어 약 1/N 의 방이 다른 인스턴스로 옮겨진다
+ * 이미 연결된 소켓은 이전 인스턴스에 남고 이후 요청과 새 소켓만 새 인스턴스로 가므로,
+ * 옮겨진 방은 기존 참가자가 재연결할 때까지 두 인스턴스에 나뉘어 있을 수 있다
+ */
+public class StickyLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    public static final String STICKY_KEY_METADATA = "sticky-key";
+    private static final String MEMBER = "member";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final ReactorServiceInstanceLoadBalancer delegate;
+    private volatile ConsistentHashRing ring;
+
+    public StickyLoadBalancer(
+            final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+            final ReactorServiceInstanceLoadBalancer delegate
+    ) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(final Request request) {
+        String key = stickyKey(request);
+        if (key == null) {
+            return delegate.choose(request);
+        }
+
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request)
+                .next()
+                .map(instances -> instances.isEmpty()
+                        ? new EmptyResponse()
+                        : new DefaultResponse(ring(instances).locate(key)));
+    }
+
+    // 인스턴스 목록이 바뀐 경우에만 ring 을 다시 만든다 (이미 연결된 소켓은 그대로 두고 새 연결부터 적용)
+    private ConsistentHashRing ring(final List<ServiceInstance> instances) {
+        ConsistentHashRing current = ring;
+        if (current == null || !current.matches(instances)) {
+            current = ConsistentHashRing.of(instances);
+            ring = current;
+        }
+        return current;
+    }
+
+    private static String stickyKey(final Request request) {
+        if (!(request.getContext() instanceof RequestDataContext context) || context.getClientRequest() == null) {
+            return null;
+        }
+        RequestData requestData = context.getClientRequest();
+        Map<String, Object> attributes = requestData.getAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Route route = (Route) attributes.get(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Object source = route != null ? route.getMetadata().get(STICKY_KEY_METADATA) : null;
+        if (source == null) {
+            return null;
+        }
+
+        if (!MEMBER.equals(source.toString())) {
+            String value = keyValue(source.toString(), requestData);
+            if (value != null && !value.isBlank()) {
+                return source + ":" + value;
+            }
+        }
+
+        Object memberId = attributes.get(AuthorizationHeaderFilter.MEMBER_ID_ATTRIBUTE);
+        return memberId != null ? MEMBER + ":" + memberId : null;
+    }
+
+    // Path predicate 가 채운 URI template 변수를 먼저 보고, 없으면 query parameter 를 본다
+    private static String keyValue(final String name, final RequestData requestData) {
+        Object variables = requestData.getAttributes().get(ServerWebExchangeUtils.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get(name) != null) {
+            return map.get(name).toString();
+        }
+        if (requestData.getUrl() == null) {
+            return null;
+        }
+        return UriComponentsBuilder.fromUri(requestData.getUrl())
+                .build()
+                .getQueryParams()
+                .getFirst(name);
+    }
+}
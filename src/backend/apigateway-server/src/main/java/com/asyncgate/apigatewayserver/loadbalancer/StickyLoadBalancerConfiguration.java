@@ -0,0 +1,31 @@
+package com.asyncgate.apigatewayserver.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 child context 설정 (@LoadBalancerClients 의 defaultConfiguration)
+ * component scan 대상이 되면 모든 서비스가 같은 로드밸런서를 공유하게 되므로 @Configuration 을 붙이지 않는다
+ */
+public class StickyLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> stickyLoadBalancer(
+            final Environment environment,
+            final LoadBalancerClientFactory loadBalancerClientFactory
+    ) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new StickyLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                new RoundRobinLoadBalancer(
+                        loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                        serviceId
+                )
+        );
+    }
+}
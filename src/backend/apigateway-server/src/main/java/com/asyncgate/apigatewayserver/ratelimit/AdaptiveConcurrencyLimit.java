@@ -0,0 +1,72 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 서비스 하나의 동시 요청 한도 (AIMD)
+ * 응답이 느리거나 과부하 응답이면 한도를 비율만큼 줄이고, 한도를 충분히 쓰는 동안 정상 응답이 오면 1/limit 씩 늘린다
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    // 읽기는 요청마다, 쓰기는 응답마다 일어나므로 읽기는 lock 없이 volatile 로
+    private volatile double limit;
+    private long lastBackoffNanos;
+
+    AdaptiveConcurrencyLimit(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final long latencyThresholdNanos,
+            final double backoffRatio
+    ) {
+        this.limit = initialLimit;
+        this.lastBackoffNanos = System.nanoTime();
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    boolean tryAcquire() {
+        int currentLimit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 클라이언트가 끊은 요청(measured = false) 은 한도 조정에 반영하지 않는다
+    void release(final long startNanos, final long endNanos, final boolean overloaded, final boolean measured) {
+        int current = inFlight.getAndDecrement();
+        if (!measured) {
+            return;
+        }
+
+        synchronized (this) {
+            if (overloaded || endNanos - startNanos > latencyThresholdNanos) {
+                // 같은 혼잡 구간에서 끝난 응답들이 연달아 줄이지 않도록, 줄인 뒤 시작된 요청만 다시 줄일 수 있다
+                if (startNanos - lastBackoffNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastBackoffNanos = endNanos;
+                }
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,132 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import com.asyncgate.apigatewayserver.exception.FailType;
+import com.asyncgate.apigatewayserver.support.response.FailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다운스트림 서비스(lb://SERVICE-ID) 별 적응형 동시 요청 제한
+ * 한도를 넘는 요청은 서비스의 Tomcat 스레드 풀을 채우기 전에 게이트웨이에서 503 으로 돌려보낸다
+ * WebSocket 처럼 오래 유지되는 연결은 제외한다
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String WEBSOCKET = "websocket";
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    public AdaptiveConcurrencyLimitFilter(
+            final ObjectMapper objectMapper,
+            @Value("${gateway.concurrency.enabled:true}") final boolean enabled,
+            @Value("${gateway.concurrency.initial-limit:200}") final int initialLimit,
+            @Value("${gateway.concurrency.min-limit:20}") final int minLimit,
+            @Value("${gateway.concurrency.max-limit:2000}") final int maxLimit,
+            @Value("${gateway.concurrency.latency-threshold-ms:2000}") final long latencyThresholdMillis,
+            @Value("${gateway.concurrency.backoff-ratio:0.9}") final double backoffRatio
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null || isWebSocket(exchange, route.getUri())) {
+            return chain.filter(exchange);
+        }
+
+        String service = route.getUri().getHost();
+        AdaptiveConcurrencyLimit limit = limits.computeIfAbsent(service, key -> new AdaptiveConcurrencyLimit(
+                initialLimit, minLimit, maxLimit, latencyThresholdNanos, backoffRatio
+        ));
+
+        if (!limit.tryAcquire()) {
+            log.warn("동시 요청 한도 초과: service={}, limit={}", service, limit.limit());
+            return reject(exchange);
+        }
+
+        long startTime = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signalType -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean overloaded = signalType == SignalType.ON_ERROR || isOverloaded(status);
+                    limit.release(startTime, System.nanoTime(), overloaded, signalType != SignalType.CANCEL);
+                });
+    }
+
+    // 라우트가 결정된 뒤, 서비스 인스턴스를 고르기 직전에 실행
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+
+    private static boolean isWebSocket(final ServerWebExchange exchange, final URI uri) {
+        String scheme = uri.getScheme();
+        return "ws".equals(scheme) || "wss".equals(scheme)
+                || WEBSOCKET.equalsIgnoreCase(exchange.getRequest().getHeaders().getUpgrade());
+    }
+
+    private static boolean isOverloaded(final HttpStatusCode status) {
+        return status != null && (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status.value() == HttpStatus.BAD_GATEWAY.value()
+                || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status.value() == HttpStatus.GATEWAY_TIMEOUT.value());
+    }
+
+    private Mono<Void> reject(final ServerWebExchange exchange) {
+        FailType failType = FailType.SERVICE_OVERLOADED;
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(failType.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+
+        try {
+            byte[] bytes = objectMapper.writeValueAsString(FailResponse.of(
+                    failType.getErrorCode(),
+                    failType.getMessage(),
+                    failType.getStatus().value()
+            )).getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        } catch (Exception e) {
+            log.error("Failed to create error response", e);
+            return response.setComplete();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import io.netty.handler.ipfilter.IpFilterRuleType;
+import io.netty.handler.ipfilter.IpSubnetFilterRule;
+import io.netty.util.NetUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * rate limit 키 = 클라이언트 IP
+ * 접속 주소가 신뢰하는 프록시(gateway.rate-limit.client-ip.trusted-proxies, IP 또는 CIDR)일 때만 프록시가 넣은 헤더(기본 X-Real-IP)를 믿는다
+ * 그 외에는 클라이언트가 헤더를 위조할 수 있으므로 실제 접속 주소를 사용한다
+ */
+@Component
+public class ClientAddressKeyResolver implements KeyResolver {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final String clientIpHeader;
+    private final List<IpSubnetFilterRule> trustedProxies;
+
+    public ClientAddressKeyResolver(
+            @Value("${gateway.rate-limit.client-ip.header:X-Real-IP}") final String clientIpHeader,
+            @Value("${gateway.rate-limit.client-ip.trusted-proxies:}") final List<String> trustedProxies
+    ) {
+        this.clientIpHeader = clientIpHeader;
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(ClientAddressKeyResolver::subnet)
+                .toList();
+    }
+
+    @Override
+    public Mono<String> resolve(final ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return Mono.just(UNKNOWN);
+        }
+        String remoteIp = remoteAddress.getAddress().getHostAddress();
+        if (!trusted(remoteAddress.getAddress())) {
+            return Mono.just(remoteIp);
+        }
+        String forwarded = forwardedClientIp(exchange.getRequest().getHeaders().getFirst(clientIpHeader));
+        return Mono.just(forwarded != null ? forwarded : remoteIp);
+    }
+
+    // X-Forwarded-For 처럼 여러 주소가 오면 오른쪽(가까운 프록시)부터 신뢰하지 않는 첫 주소를 클라이언트로 본다
+    private String forwardedClientIp(final String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        String[] addresses = headerValue.split(",");
+        String client = null;
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            InetAddress address = NetUtil.createInetAddressFromIpAddressString(addresses[i].trim());
+            if (address == null) {
+                return client;
+            }
+            client = address.getHostAddress();
+            if (!trusted(address)) {
+                return client;
+            }
+        }
+        return client;
+    }
+
+    private boolean trusted(final InetAddress address) {
+        InetSocketAddress socketAddress = new InetSocketAddress(address, 0);
+        return trustedProxies.stream().anyMatch(rule -> rule.matches(socketAddress));
+    }
+
+    private static IpSubnetFilterRule subnet(final String proxy) {
+        int slash = proxy.indexOf('/');
+        String ip = slash < 0 ? proxy : proxy.substring(0, slash);
+        if (!NetUtil.isValidIpV4Address(ip) && !NetUtil.isValidIpV6Address(ip)) {
+            throw new IllegalArgumentException("trusted-proxies 는 IP 또는 CIDR 이어야 합니다: " + proxy);
+        }
+        int maxPrefix = NetUtil.isValidIpV4Address(ip) ? 32 : 128;
+        int prefix = slash < 0 ? maxPrefix : Integer.parseInt(proxy.substring(slash + 1));
+        return new IpSubnetFilterRule(ip, prefix, IpFilterRuleType.ACCEPT);
+    }
+}
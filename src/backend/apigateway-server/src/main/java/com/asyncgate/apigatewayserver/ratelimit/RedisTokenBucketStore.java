@@ -0,0 +1,41 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 게이트웨이 인스턴스 간 공유되는 Redis token bucket
+ * bucket 갱신은 Lua 스크립트 한 번으로 원자적으로 처리하고, 의미는 TokenBucketStore 와 같다
+ */
+final class RedisTokenBucketStore {
+
+    private static final String KEY_PREFIX = "gateway:rate-limit:";
+    private static final RedisScript<Long> SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    RedisTokenBucketStore(final ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 소비 후 남은 token 수, 부족하면 -1
+     */
+    Mono<Long> tryConsume(
+            final String key,
+            final int replenishRate,
+            final int burstCapacity,
+            final int requestedTokens
+    ) {
+        return redisTemplate.execute(
+                SCRIPT,
+                List.of(KEY_PREFIX + key),
+                List.of(String.valueOf(replenishRate), String.valueOf(burstCapacity), String.valueOf(requestedTokens))
+        ).next();
+    }
+}
@@ -0,0 +1,146 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RequestRateLimiter 필터용 token bucket (라우트 + 클라이언트 키 단위)
+ * 라우트 설정은 RedisRateLimiter 와 같은 형태로 받는다
+ *   - name: RequestRateLimiter
+ *     args:
+ *       rate-limiter: "#{@tokenBucketRateLimiter}"
+ *       token-bucket-rate-limiter.replenish-rate: 1
+ *       token-bucket-rate-limiter.burst-capacity: 5
+ * 기본은 인스턴스별 in-memory bucket, gateway.rate-limit.redis.enabled=true 면 Redis 로 인스턴스 간 공유한다
+ * Redis 가 느리거나 장애면 in-memory bucket 으로 대신 판단한다 (제한이 풀리지는 않고 인스턴스 단위로 좁아짐)
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private final TokenBucketStore store;
+    private final RedisTokenBucketStore redisStore;
+    private final Duration redisTimeout;
+    private final AtomicBoolean redisFailing = new AtomicBoolean();
+
+    public TokenBucketRateLimiter(
+            final ConfigurationService configurationService,
+            final ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+            @Value("${gateway.rate-limit.stripes:64}") final int stripes,
+            @Value("${gateway.rate-limit.max-keys:100000}") final int maxKeys,
+            @Value("${gateway.rate-limit.redis.enabled:false}") final boolean redisEnabled,
+            @Value("${gateway.rate-limit.redis.timeout:100ms}") final Duration redisTimeout
+    ) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.store = new TokenBucketStore(stripes, maxKeys);
+        this.redisStore = redisEnabled ? new RedisTokenBucketStore(redisTemplate.getObject()) : null;
+        this.redisTimeout = redisTimeout;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(final String routeId, final String id) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            throw new IllegalArgumentException("No Configuration found for route " + routeId);
+        }
+
+        String key = routeId + ':' + id;
+        if (redisStore == null) {
+            return Mono.just(response(consumeLocal(key, config), config));
+        }
+        return redisStore.tryConsume(key, config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens())
+                .timeout(redisTimeout)
+                .doOnNext(remaining -> {
+                    if (redisFailing.compareAndSet(true, false)) {
+                        log.info("rate limit Redis 복구, 공유 bucket 사용 재개");
+                    }
+                })
+                .onErrorResume(e -> {
+                    if (redisFailing.compareAndSet(false, true)) {
+                        log.warn("rate limit Redis 사용 불가, in-memory bucket 으로 대체: {}", e.toString());
+                    }
+                    return Mono.fromSupplier(() -> consumeLocal(key, config));
+                })
+                .map(remaining -> response(remaining, config));
+    }
+
+    private long consumeLocal(final String key, final Config config) {
+        return store.tryConsume(
+                key,
+                config.getReplenishRate(),
+                config.getBurstCapacity(),
+                config.getRequestedTokens(),
+                System.nanoTime()
+        );
+    }
+
+    private Response response(final long remaining, final Config config) {
+        return new Response(remaining >= 0, Map.of(
+                REMAINING_HEADER, String.valueOf(Math.max(remaining, 0)),
+                REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()),
+                REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens())
+        ));
+    }
+
+    @Validated
+    public static class Config {
+
+        // 초당 채워지는 token 수
+        @Min(1)
+        private int replenishRate;
+
+        // bucket 최대 크기 (순간적으로 허용되는 요청 수)
+        @Min(1)
+        private int burstCapacity = 1;
+
+        @Min(1)
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(final int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(final int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(final int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
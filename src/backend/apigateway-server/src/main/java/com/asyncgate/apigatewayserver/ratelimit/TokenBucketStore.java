@@ -0,0 +1,84 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키별 token bucket 을 stripe 단위 lock 으로 보관하는 in-memory 저장소
+ * 키는 hash 로 stripe 에 나뉘어 서로 다른 stripe 끼리는 경합하지 않고,
+ * stripe 마다 최대 개수를 넘으면 가장 오래 쓰이지 않은 bucket 부터 버린다 (버려진 키는 가득 찬 bucket 으로 다시 시작)
+ */
+final class TokenBucketStore {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Stripe[] stripes;
+
+    TokenBucketStore(final int stripeCount, final int maxKeys) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(Math.max(1, maxKeys / count));
+        }
+    }
+
+    /**
+     * @return 소비 후 남은 token 수, 부족하면 -1
+     */
+    long tryConsume(
+            final String key,
+            final int replenishRate,
+            final int burstCapacity,
+            final int requestedTokens,
+            final long nowNanos
+    ) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(burstCapacity, nowNanos);
+                stripe.put(key, bucket);
+            }
+
+            double refilled = bucket.tokens + (nowNanos - bucket.lastRefillNanos) * replenishRate / NANOS_PER_SECOND;
+            bucket.tokens = Math.min(burstCapacity, refilled);
+            bucket.lastRefillNanos = nowNanos;
+
+            if (bucket.tokens < requestedTokens) {
+                return -1;
+            }
+            bucket.tokens -= requestedTokens;
+            return (long) bucket.tokens;
+        }
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(final double tokens, final long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private final int maxKeys;
+
+        private Stripe(final int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Bucket> eldest) {
+            return size() > maxKeys;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.asyncgate.apigatewayserver.support.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/diagnostics  구간별 샘플링 비율 조회
+ * 조회 전용, 비율 변경은 설정 + /actuator/refresh 로만 한다 (공개 포트에서 임의로 로그를 켜지 못하도록)
+ */
+@Component
+@Endpoint(id = "diagnostics")
+public class DiagnosticsEndpoint {
+
+    private final RequestDiagnostics requestDiagnostics;
+
+    public DiagnosticsEndpoint(final RequestDiagnostics requestDiagnostics) {
+        this.requestDiagnostics = requestDiagnostics;
+    }
+
+    @ReadOperation
+    public Map<String, Double> sampleRates() {
+        return requestDiagnostics.sampleRates();
+    }
+}
@@ -0,0 +1,27 @@
+-- TokenBucketStore.tryConsume 의 Redis 버전 (인스턴스 간 공유 bucket)
+-- KEYS[1] = bucket 키, ARGV = replenish_rate, burst_capacity, requested_tokens
+-- 반환: 소비 후 남은 token 수, 부족하면 -1
+local replenish_rate = tonumber(ARGV[1])
+local burst_capacity = tonumber(ARGV[2])
+local requested_tokens = tonumber(ARGV[3])
+
+-- 게이트웨이 인스턴스 간 시계 차이를 피하려고 Redis 서버 시각을 사용 (마이크로초)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or burst_capacity
+local last_refill = tonumber(bucket[2]) or now
+
+tokens = math.min(burst_capacity, tokens + math.max(0, now - last_refill) * replenish_rate / 1000000)
+
+local remaining = -1
+if tokens >= requested_tokens then
+  tokens = tokens - requested_tokens
+  remaining = math.floor(tokens)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+-- 가득 찰 때까지 걸리는 시간의 두 배가 지나면 가득 찬 bucket 과 같으므로 버린다
+redis.call('PEXPIRE', KEYS[1], math.ceil(burst_capacity / replenish_rate * 2000) + 1000)
+return remaining
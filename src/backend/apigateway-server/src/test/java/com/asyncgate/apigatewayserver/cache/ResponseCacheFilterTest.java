@@ -0,0 +1,227 @@
+package com.asyncgate.apigatewayserver.cache;
+
+import com.asyncgate.apigatewayserver.filter.AuthorizationHeaderFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String GUILDS = "/guilds";
+
+    private final Route route = Route.async()
+            .id("guild-server")
+            .uri("lb://GUILD-SERVER")
+            .predicate(exchange -> true)
+            .build();
+
+    private ResponseCacheFilter responseCacheFilter;
+    private StubDownstream downstream;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheFilter = new ResponseCacheFilter(new ResponseCacheStore(1_048_576, 65_536, Duration.ofMinutes(5)));
+        downstream = new StubDownstream("\"v1\"", "{\"result\":[\"guild-1\"]}");
+    }
+
+    @Test
+    @DisplayName("ttl 안의 같은 GET 은 서비스로 보내지 않고 캐시된 본문으로 응답한다")
+    void hit() {
+        GatewayFilter filter = filter(Duration.ofMinutes(1));
+
+        MockServerWebExchange miss = get("member-1", null);
+        filter.filter(miss, downstream).block();
+        MockServerWebExchange hit = get("member-1", null);
+        filter.filter(hit, downstream).block();
+
+        assertThat(downstream.requests).hasSize(1);
+        assertThat(miss.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(hit.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hit.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(hit.getResponse().getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(hit.getResponse().getBodyAsString().block()).isEqualTo("{\"result\":[\"guild-1\"]}");
+    }
+
+    @Test
+    @DisplayName("ttl 안에서 클라이언트 If-None-Match 가 저장된 ETag 와 같으면 서비스 호출 없이 304 로 응답한다")
+    void hitNotModified() {
+        GatewayFilter filter = filter(Duration.ofMinutes(1));
+        filter.filter(get("member-1", null), downstream).block();
+
+        MockServerWebExchange conditional = get("member-1", "\"v1\"");
+        filter.filter(conditional, downstream).block();
+
+        assertThat(downstream.requests).hasSize(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getResponse().getBodyAsString().block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 저장된 ETag 로 재검증하고, 서비스가 304 면 저장된 본문으로 200 응답한다")
+    void revalidated() {
+        GatewayFilter filter = filter(Duration.ZERO);
+        filter.filter(get("member-1", null), downstream).block();
+
+        MockServerWebExchange revalidated = get("member-1", null);
+        filter.filter(revalidated, downstream).block();
+
+        assertThat(downstream.requests).hasSize(2);
+        assertThat(downstream.requests.get(1).getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+        assertThat(downstream.notModified).hasValue(true);
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(revalidated.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("REVALIDATED");
+        assertThat(revalidated.getResponse().getBodyAsString().block()).isEqualTo("{\"result\":[\"guild-1\"]}");
+    }
+
+    @Test
+    @DisplayName("재검증 중 본문이 바뀌었으면 새 본문을 저장하고 그대로 전달한다")
+    void revalidatedWithNewBody() {
+        GatewayFilter filter = filter(Duration.ZERO);
+        filter.filter(get("member-1", null), downstream).block();
+        downstream.change("\"v2\"", "{\"result\":[\"guild-1\",\"guild-2\"]}");
+
+        MockServerWebExchange changed = get("member-1", null);
+        filter.filter(changed, downstream).block();
+
+        assertThat(downstream.notModified).hasValue(false);
+        assertThat(changed.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(changed.getResponse().getBodyAsString().block()).isEqualTo("{\"result\":[\"guild-1\",\"guild-2\"]}");
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 쓰기 요청은 해당 사용자의 캐시만 무효화한다")
+    void invalidateOnWrite() {
+        GatewayFilter filter = filter(Duration.ofMinutes(1));
+        filter.filter(get("member-1", null), downstream).block();
+        filter.filter(get("member-2", null), downstream).block();
+
+        filter.filter(exchange(HttpMethod.POST, "member-1", null), downstream).block();
+        MockServerWebExchange afterWrite = get("member-1", null);
+        filter.filter(afterWrite, downstream).block();
+        MockServerWebExchange otherMember = get("member-2", null);
+        filter.filter(otherMember, downstream).block();
+
+        assertThat(downstream.requests).hasSize(4);
+        assertThat(afterWrite.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(otherMember.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청과 paths 밖의 경로는 캐시하지 않는다")
+    void bypass() {
+        GatewayFilter filter = filter(Duration.ofMinutes(1));
+
+        filter.filter(get(null, null), downstream).block();
+        filter.filter(get(null, null), downstream).block();
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/guild-1/channels"), downstream).block();
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/guild-1/channels"), downstream).block();
+
+        assertThat(downstream.requests).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("paths 변수에 걸려도 exclude-paths 의 경로(초대함)는 캐시하지 않는다")
+    void excludedPath() {
+        GatewayFilter filter = filter(Duration.ofMinutes(1));
+
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/invitations"), downstream).block();
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/invitations"), downstream).block();
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/guild-1"), downstream).block();
+        filter.filter(exchange(HttpMethod.GET, "member-1", null, "/guilds/guild-1"), downstream).block();
+
+        assertThat(downstream.requests).hasSize(3);
+    }
+
+    private GatewayFilter filter(final Duration ttl) {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setTtl(ttl);
+        config.setPaths(List.of(GUILDS, "/guilds/{guildId}"));
+        config.setExcludePaths(List.of("/guilds/invitations"));
+        return responseCacheFilter.apply(config);
+    }
+
+    private MockServerWebExchange get(final String memberId, final String ifNoneMatch) {
+        return exchange(HttpMethod.GET, memberId, ifNoneMatch);
+    }
+
+    private MockServerWebExchange exchange(final HttpMethod method, final String memberId, final String ifNoneMatch) {
+        return exchange(method, memberId, ifNoneMatch, GUILDS);
+    }
+
+    private MockServerWebExchange exchange(
+            final HttpMethod method,
+            final String memberId,
+            final String ifNoneMatch,
+            final String path
+    ) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.method(method, path);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        if (memberId != null) {
+            exchange.getAttributes().put(AuthorizationHeaderFilter.MEMBER_ID_ATTRIBUTE, memberId);
+        }
+        return exchange;
+    }
+
+    /**
+     * ResultEtagAdvice 를 둔 서비스처럼 동작하는 stub
+     * NettyWriteResponseFilter 처럼 304 에도 (빈) 본문을 writeWith 로 쓴다
+     */
+    private static final class StubDownstream implements GatewayFilterChain {
+
+        private final List<HttpHeaders> requests = new ArrayList<>();
+        private final AtomicReference<Boolean> notModified = new AtomicReference<>();
+        private String etag;
+        private String body;
+
+        private StubDownstream(final String etag, final String body) {
+            change(etag, body);
+        }
+
+        private void change(final String etag, final String body) {
+            this.etag = etag;
+            this.body = body;
+        }
+
+        @Override
+        public Mono<Void> filter(final ServerWebExchange exchange) {
+            requests.add(exchange.getRequest().getHeaders());
+            ServerHttpResponse response = exchange.getResponse();
+            boolean matched = etag.equals(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+            notModified.set(matched);
+            response.getHeaders().setETag(etag);
+            if (matched) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.writeWith(Flux.empty());
+            }
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+        }
+    }
+}
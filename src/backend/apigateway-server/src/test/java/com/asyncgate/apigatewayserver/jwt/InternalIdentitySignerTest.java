@@ -0,0 +1,37 @@
+package com.asyncgate.apigatewayserver.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalIdentitySignerTest {
+
+    private final InternalIdentitySigner signer = new InternalIdentitySigner("internal-identity-test-key");
+
+    @Test
+    @DisplayName("{memberId}.{expiresAtMillis}.{base64url 서명} 형식으로 서명하고 같은 입력이면 같은 값이다")
+    void signsInHeaderFormat() {
+        String header = signer.sign("member-1", 1_700_000_000_000L);
+
+        assertThat(header).startsWith("member-1.1700000000000.");
+        assertThat(header.substring(header.lastIndexOf('.') + 1)).matches("[A-Za-z0-9_-]{43}");
+        assertThat(signer.sign("member-1", 1_700_000_000_000L)).isEqualTo(header);
+        assertThat(signer.sign("member-2", 1_700_000_000_000L)).isNotEqualTo(header);
+    }
+
+    @Test
+    @DisplayName("service: 접두어 memberId 는 서비스 신원으로 위장할 수 있으므로 서명하지 않는다")
+    void refusesServicePrefix() {
+        assertThat(signer.sign("service:guild-server", 1_700_000_000_000L)).isNull();
+    }
+
+    @Test
+    @DisplayName("키가 비어 있으면 비활성화되어 헤더를 만들지 않는다")
+    void disabledWithoutKey() {
+        InternalIdentitySigner disabled = new InternalIdentitySigner("");
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.sign("member-1", 1_700_000_000_000L)).isNull();
+    }
+}
@@ -0,0 +1,118 @@
+package com.asyncgate.apigatewayserver.loadbalancer;
+
+import com.asyncgate.apigatewayserver.filter.AuthorizationHeaderFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StickyLoadBalancerTest {
+
+    private static final String SERVICE_ID = "SIGNALING-SERVER";
+
+    private final StickyLoadBalancer loadBalancer = loadBalancer();
+
+    @Test
+    @DisplayName("방 REST 요청의 path 변수와 소켓의 query parameter 가 같은 room_id 면 같은 인스턴스로 간다")
+    void roomPathAndSocketQueryShareInstance() {
+        for (int room = 0; room < 20; room++) {
+            String roomId = "room-" + room;
+            ServiceInstance rest = choose(
+                    "/signalings/room/" + roomId + "/join",
+                    Map.of("room_id", roomId),
+                    "member-1"
+            );
+            ServiceInstance socket = choose("/signalings/signal?room_id=" + roomId, Map.of(), "member-2");
+
+            assertThat(socket.getInstanceId()).isEqualTo(rest.getInstanceId());
+        }
+    }
+
+    @Test
+    @DisplayName("room_id 가 없으면 memberId 로 고정한다")
+    void fallbackToMember() {
+        ServiceInstance first = choose("/signalings/signal", Map.of(), "member-1");
+        ServiceInstance second = choose("/signalings/signal", Map.of(), "member-1");
+
+        assertThat(second.getInstanceId()).isEqualTo(first.getInstanceId());
+    }
+
+    @Test
+    @DisplayName("방마다 키가 달라 여러 인스턴스로 나뉜다")
+    void spreadAcrossInstances() {
+        Set<String> instanceIds = new HashSet<>();
+        IntStream.range(0, 50).forEach(room -> instanceIds.add(
+                choose("/signalings/signal?room_id=room-" + room, Map.of(), "member-1").getInstanceId()
+        ));
+
+        assertThat(instanceIds).hasSize(3);
+    }
+
+    private ServiceInstance choose(final String path, final Map<String, String> uriVariables, final String memberId) {
+        Route route = Route.async()
+                .id("signaling-server-room")
+                .uri("lb://" + SERVICE_ID)
+                .predicate(exchange -> true)
+                .metadata(StickyLoadBalancer.STICKY_KEY_METADATA, "room_id")
+                .build();
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        attributes.put(ServerWebExchangeUtils.URI_TEMPLATE_VARIABLES_ATTRIBUTE, uriVariables);
+        attributes.put(AuthorizationHeaderFilter.MEMBER_ID_ATTRIBUTE, memberId);
+        RequestData requestData = new RequestData(
+                HttpMethod.GET,
+                URI.create("http://gateway" + path),
+                new HttpHeaders(),
+                new LinkedMultiValueMap<>(),
+                attributes
+        );
+
+        Response<ServiceInstance> response = loadBalancer
+                .choose(new DefaultRequest<>(new RequestDataContext(requestData)))
+                .block();
+        assertThat(response).isNotNull();
+        assertThat(response.hasServer()).isTrue();
+        return response.getServer();
+    }
+
+    private static StickyLoadBalancer loadBalancer() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("serviceInstanceListSupplier", ServiceInstanceListSuppliers.from(
+                SERVICE_ID,
+                instance("10.0.0.1"),
+                instance("10.0.0.2"),
+                instance("10.0.0.3")
+        ));
+        return new StickyLoadBalancer(
+                beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                new RoundRobinLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), SERVICE_ID)
+        );
+    }
+
+    private static ServiceInstance instance(final String host) {
+        return new DefaultServiceInstance(host + ":8080", SERVICE_ID, host, 8080, false);
+    }
+}
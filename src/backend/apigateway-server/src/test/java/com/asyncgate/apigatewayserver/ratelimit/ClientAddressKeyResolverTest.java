@@ -0,0 +1,74 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientAddressKeyResolverTest {
+
+    private final ClientAddressKeyResolver resolver =
+            new ClientAddressKeyResolver("X-Real-IP", List.of("10.0.0.0/8", " 192.168.0.10 "));
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청은 헤더를 무시하고 접속 주소를 키로 쓴다")
+    void ignoreHeaderFromUntrustedAddress() {
+        assertThat(resolve("203.0.113.7", "198.51.100.1")).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시에서 온 요청은 X-Real-IP 를 키로 쓴다")
+    void useHeaderFromTrustedProxy() {
+        assertThat(resolve("10.1.2.3", "198.51.100.1")).isEqualTo("198.51.100.1");
+        assertThat(resolve("192.168.0.10", "198.51.100.2")).isEqualTo("198.51.100.2");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시라도 헤더가 없거나 IP 가 아니면 접속 주소를 쓴다")
+    void fallBackToRemoteAddress() {
+        assertThat(resolve("10.1.2.3", null)).isEqualTo("10.1.2.3");
+        assertThat(resolve("10.1.2.3", "evil.example.com")).isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    @DisplayName("여러 주소가 오면 오른쪽부터 신뢰하지 않는 첫 주소를 클라이언트로 본다")
+    void rightmostUntrustedAddress() {
+        assertThat(resolve("10.1.2.3", "1.1.1.1, 198.51.100.1, 10.9.9.9")).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 설정하지 않으면 항상 접속 주소를 쓴다")
+    void noTrustedProxies() {
+        ClientAddressKeyResolver noProxies = new ClientAddressKeyResolver("X-Real-IP", List.of(""));
+
+        MockServerWebExchange exchange = exchange("10.1.2.3", "198.51.100.1");
+
+        assertThat(noProxies.resolve(exchange).block()).isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    @DisplayName("IP / CIDR 이 아닌 신뢰 프록시 설정은 시작 시 거절한다")
+    void rejectInvalidTrustedProxy() {
+        assertThatThrownBy(() -> new ClientAddressKeyResolver("X-Real-IP", List.of("proxy.internal")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String resolve(final String remoteIp, final String realIp) {
+        return resolver.resolve(exchange(remoteIp, realIp)).block();
+    }
+
+    private MockServerWebExchange exchange(final String remoteIp, final String realIp) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/users/sign-in")
+                .remoteAddress(new InetSocketAddress(remoteIp, 40000));
+        if (realIp != null) {
+            request.header("X-Real-IP", realIp);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
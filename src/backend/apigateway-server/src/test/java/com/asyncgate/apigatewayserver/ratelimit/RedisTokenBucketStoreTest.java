@@ -0,0 +1,103 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenBucketStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory firstConnectionFactory;
+    private static LettuceConnectionFactory secondConnectionFactory;
+    private static ReactiveStringRedisTemplate redisTemplate;
+    private static RedisTokenBucketStore first;
+    private static RedisTokenBucketStore second;
+
+    @BeforeAll
+    static void setUp() {
+        firstConnectionFactory = connectionFactory();
+        secondConnectionFactory = connectionFactory();
+        redisTemplate = new ReactiveStringRedisTemplate(firstConnectionFactory);
+        first = new RedisTokenBucketStore(redisTemplate);
+        // 별도 연결을 쓰는 두 번째 게이트웨이 인스턴스
+        second = new RedisTokenBucketStore(new ReactiveStringRedisTemplate(secondConnectionFactory));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        firstConnectionFactory.destroy();
+        secondConnectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("burst 만큼 소비하면 남은 token 을 돌려주고 그 다음 요청은 거절한다")
+    void consumeUntilEmpty() {
+        String key = key();
+
+        assertThat(first.tryConsume(key, 1, 3, 1).block()).isEqualTo(2L);
+        assertThat(first.tryConsume(key, 1, 3, 1).block()).isEqualTo(1L);
+        assertThat(first.tryConsume(key, 1, 3, 1).block()).isZero();
+        assertThat(first.tryConsume(key, 1, 3, 1).block()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("게이트웨이 인스턴스가 달라도 같은 bucket 을 공유한다")
+    void shareBucketAcrossInstances() {
+        String key = key();
+
+        assertThat(first.tryConsume(key, 1, 2, 1).block()).isEqualTo(1L);
+        assertThat(second.tryConsume(key, 1, 2, 1).block()).isZero();
+        assertThat(first.tryConsume(key, 1, 2, 1).block()).isEqualTo(-1L);
+        assertThat(second.tryConsume(key, 1, 2, 1).block()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 replenish-rate 만큼 다시 채워진다")
+    void refill() throws InterruptedException {
+        String key = key();
+        assertThat(first.tryConsume(key, 10, 10, 10).block()).isZero();
+        assertThat(first.tryConsume(key, 10, 10, 1).block()).isEqualTo(-1L);
+
+        Thread.sleep(300);
+
+        assertThat(first.tryConsume(key, 10, 10, 1).block()).isBetween(1L, 9L);
+    }
+
+    @Test
+    @DisplayName("쓰이지 않는 bucket 은 만료 시간이 걸려 Redis 에 남지 않는다")
+    void expireIdleBucket() {
+        String key = key();
+        first.tryConsume(key, 1, 5, 1).block();
+
+        Long ttl = redisTemplate.getExpire("gateway:rate-limit:" + key).map(duration -> duration.toMillis()).block();
+
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(11_000L);
+    }
+
+    private static String key() {
+        return "route:" + UUID.randomUUID();
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+}
@@ -0,0 +1,80 @@
+package com.asyncgate.apigatewayserver.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final String ROUTE_ID = "user-server-sign-in";
+
+    private LettuceConnectionFactory connectionFactory;
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("기본은 in-memory bucket 으로 burst 를 넘는 요청을 거절한다")
+    void localBucket() {
+        TokenBucketRateLimiter rateLimiter = rateLimiter(false);
+
+        assertThat(isAllowed(rateLimiter, "198.51.100.1")).isTrue();
+        assertThat(isAllowed(rateLimiter, "198.51.100.1")).isTrue();
+        assertThat(isAllowed(rateLimiter, "198.51.100.1")).isFalse();
+        assertThat(isAllowed(rateLimiter, "198.51.100.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 에 연결할 수 없으면 제한을 풀지 않고 in-memory bucket 으로 판단한다")
+    void fallBackToLocalBucketWhenRedisIsDown() {
+        TokenBucketRateLimiter rateLimiter = rateLimiter(true);
+
+        Response response = rateLimiter.isAllowed(ROUTE_ID, "198.51.100.1").block();
+
+        assertThat(response.isAllowed()).isTrue();
+        assertThat(response.getHeaders()).containsEntry(TokenBucketRateLimiter.REMAINING_HEADER, "1");
+        assertThat(isAllowed(rateLimiter, "198.51.100.1")).isTrue();
+        assertThat(isAllowed(rateLimiter, "198.51.100.1")).isFalse();
+    }
+
+    private boolean isAllowed(final TokenBucketRateLimiter rateLimiter, final String clientIp) {
+        return rateLimiter.isAllowed(ROUTE_ID, clientIp).block().isAllowed();
+    }
+
+    private TokenBucketRateLimiter rateLimiter(final boolean redisEnabled) {
+        // 아무것도 떠 있지 않은 포트 (연결 거부)
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1));
+        connectionFactory.afterPropertiesSet();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+                Map.of("redisTemplate", new ReactiveStringRedisTemplate(connectionFactory))
+        );
+
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+                null,
+                beanFactory.getBeanProvider(ReactiveStringRedisTemplate.class),
+                4,
+                100,
+                redisEnabled,
+                Duration.ofMillis(500)
+        );
+        rateLimiter.getConfig().put(ROUTE_ID, new TokenBucketRateLimiter.Config()
+                .setReplenishRate(1)
+                .setBurstCapacity(2)
+                .setRequestedTokens(1));
+        return rateLimiter;
+    }
+}
@@ -0,0 +1,47 @@
+// 진단 로그 샘플링 비율별 처리량 비교용 k6 스크립트 (게이트웨이 HTTP + chat WebSocket 핸드셰이크)
+// k6 run -e BASE_URL=http://localhost:8000 -e WS_URL=ws://localhost:8700/asyncgate-chat -e TOKEN=... load.js
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8000';
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8700/asyncgate-chat';
+const TOKEN = __ENV.TOKEN;
+const VUS = Number(__ENV.VUS || 500);
+
+export const options = {
+    scenarios: {
+        gateway_http: {
+            executor: 'constant-vus',
+            exec: 'gatewayHttp',
+            vus: VUS,
+            duration: '2m',
+        },
+        ws_handshake: {
+            executor: 'constant-vus',
+            exec: 'wsHandshake',
+            vus: Math.max(1, Math.floor(VUS / 10)),
+            duration: '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function gatewayHttp() {
+    const res = http.get(`${BASE_URL}/users/friends`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+    });
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+// 핸드셰이크 + STOMP CONNECT 후 바로 종료 (헤더 덤프가 일어나던 구간만 반복)
+export function wsHandshake() {
+    const res = ws.connect(WS_URL, { headers: { 'Sec-WebSocket-Protocol': `v10.stomp, ${TOKEN}` } }, (socket) => {
+        socket.on('open', () => {
+            socket.send(`CONNECT\naccept-version:1.0\nAuthorization:Bearer ${TOKEN}\n\n\0`);
+        });
+        socket.on('message', () => socket.close());
+        socket.setTimeout(() => socket.close(), 2000);
+    });
+    check(res, { 'status is 101': (r) => r && r.status === 101 });
+}
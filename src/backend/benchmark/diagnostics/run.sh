@@ -0,0 +1,23 @@
+#!/usr/bin/env sh
+# 진단 로그를 전부 남길 때(1.0, 기존 헤더 덤프와 같은 양) 와 끈 상태(0.0) 의 처리량 비교
+# 샘플링 비율은 actuator 로 바꾸므로 서비스 재기동이 필요 없다
+# 사용법: TOKEN=... GATEWAY_ACTUATOR=http://localhost:8000/actuator CHAT_ACTUATOR=http://localhost:8700/actuator ./run.sh
+set -eu
+
+: "${TOKEN:?TOKEN 이 필요합니다}"
+GATEWAY_ACTUATOR=${GATEWAY_ACTUATOR:-http://localhost:8000/actuator}
+CHAT_ACTUATOR=${CHAT_ACTUATOR:-http://localhost:8700/actuator}
+
+for rate in 1.0 0.0; do
+    echo "== diagnostics sample-rate=${rate}"
+    for actuator in "${GATEWAY_ACTUATOR}" "${CHAT_ACTUATOR}"; do
+        curl -sf -X POST -H "Authorization: Bearer ${TOKEN}" -H 'Content-Type: application/json' \
+            -d "{\"sampleRate\": ${rate}}" "${actuator}/diagnostics/default" > /dev/null
+    done
+
+    k6 run --summary-export "summary-${rate}.json" load.js
+done
+
+for f in summary-*.json; do
+    echo "${f}: $(jq -c '{rps: .metrics.http_reqs.rate, p99: .metrics.http_req_duration["p(99)"], ws: .metrics.ws_sessions.rate}' "${f}")"
+done
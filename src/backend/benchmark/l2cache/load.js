@@ -0,0 +1,50 @@
+// guild-server 2차 캐시 비교용 k6 스크립트 - 읽기 95% (길드 상세 조회), 쓰기 5% (길드 이름 수정 후 즉시 재조회)
+// k6 run -e BASE_URL=http://localhost:8000 -e TOKEN=... -e GUILD_ID=... load.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8000';
+const TOKEN = __ENV.TOKEN;
+const GUILD_ID = __ENV.GUILD_ID;
+const VUS = Number(__ENV.VUS || 200);
+const WRITE_RATIO = Number(__ENV.WRITE_RATIO || 0.05);
+
+const staleReads = new Rate('stale_reads');
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: '2m',
+        },
+    },
+    // 태그별 지표가 summary 에 남도록 임계값을 걸어 둔다
+    thresholds: {
+        'http_req_duration{kind:read}': ['p(99)>=0'],
+        'http_req_duration{kind:write}': ['p(99)>=0'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const headers = { Authorization: `Bearer ${TOKEN}` };
+
+export default function () {
+    if (Math.random() < WRITE_RATIO) {
+        // 수정 직후 (게이트웨이가 다른 인스턴스로 보낼 수 있는) 조회에서 새 이름이 보이는지 확인
+        // 다른 VU 의 수정과 겹치면 stale 로 집계될 수 있으므로 두 프로파일 간 상대 비교로 본다
+        const name = `bench-${__VU}-${__ITER}`.slice(0, 30);
+        const res = http.patch(`${BASE_URL}/guilds/guilds/${GUILD_ID}`,
+            { name, isPrivate: 'false' },
+            { headers, tags: { kind: 'write' } });
+        check(res, { 'write 2xx': (r) => r.status >= 200 && r.status < 300 });
+
+        const read = http.get(`${BASE_URL}/guilds/guilds/${GUILD_ID}`, { headers, tags: { kind: 'read' } });
+        staleReads.add(read.status === 200 && !read.body.includes(name));
+        return;
+    }
+
+    const res = http.get(`${BASE_URL}/guilds/guilds/${GUILD_ID}`, { headers, tags: { kind: 'read' } });
+    check(res, { 'read 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
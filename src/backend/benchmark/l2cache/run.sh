@@ -0,0 +1,21 @@
+#!/usr/bin/env sh
+# 2차 캐시를 끈 상태(prod) 와 켠 상태(prod,l2cache) 에 같은 읽기/쓰기 혼합 부하를 걸고 요약을 남긴다
+# 인스턴스를 2개 이상 띄워야 수정 후 다른 인스턴스에서 읽는 경우(제거 전파) 까지 포함된다
+# 사용법: TOKEN=... GUILD_ID=... RESTART_CMD="<SPRING_PROFILES_ACTIVE 로 guild-server 재기동하는 명령>" ./run.sh
+set -eu
+
+: "${RESTART_CMD:?RESTART_CMD 가 필요합니다}"
+WARMUP_SECONDS=${WARMUP_SECONDS:-60}
+
+for profile in prod prod,l2cache; do
+    echo "== SPRING_PROFILES_ACTIVE=${profile}"
+    SPRING_PROFILES_ACTIVE=${profile} sh -c "${RESTART_CMD}"
+    sleep "${WARMUP_SECONDS}"
+
+    k6 run --summary-export "summary-$(echo "${profile}" | tr ',' '-').json" load.js
+done
+
+# 처리량, 읽기 p99, 수정 직후 읽기에서 이전 값이 보인 비율(stale_reads) 을 비교한다
+for f in summary-*.json; do
+    echo "${f}: $(jq -c '{rps: .metrics.http_reqs.rate, read_p99: .metrics["http_req_duration{kind:read}"]["p(99)"], stale: .metrics.stale_reads.rate}' "${f}")"
+done
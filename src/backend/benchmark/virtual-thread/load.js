@@ -0,0 +1,39 @@
+// platform thread / virtual thread 프로파일 처리량, p99 비교용 k6 스크립트
+// k6 run -e BASE_URL=http://localhost:8000 -e TOKEN=... -e VUS=2000 load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8000';
+const TOKEN = __ENV.TOKEN;
+const VUS = Number(__ENV.VUS || 2000);
+
+export const options = {
+    scenarios: {
+        blocking_io: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// JDBC(길드 목록), Feign(DM 목록 -> user-server), Redis/JDBC(친구 목록) 를 고르게 섞는다
+const paths = [
+    '/guilds/guilds',
+    '/guilds/direct',
+    '/users/friends',
+];
+
+export default function () {
+    const path = paths[__ITER % paths.length];
+    const res = http.get(`${BASE_URL}${path}`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+        tags: { name: path },
+    });
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,21 @@
+#!/usr/bin/env sh
+# 같은 부하를 platform thread(prod) 와 virtual thread(prod,virtual) 프로파일에 차례로 걸고 요약을 남긴다
+# 사용법: TOKEN=... RESTART_CMD="<SPRING_PROFILES_ACTIVE 로 서비스 재기동하는 명령>" ./run.sh
+#   pinning 로그는 JAVA_TOOL_OPTIONS=-Djdk.tracePinnedThreads=short 로 함께 수집된다
+set -eu
+
+: "${RESTART_CMD:?RESTART_CMD 가 필요합니다}"
+WARMUP_SECONDS=${WARMUP_SECONDS:-60}
+
+for profile in prod prod,virtual; do
+    echo "== SPRING_PROFILES_ACTIVE=${profile}"
+    SPRING_PROFILES_ACTIVE=${profile} JAVA_TOOL_OPTIONS="-Djdk.tracePinnedThreads=short" sh -c "${RESTART_CMD}"
+    sleep "${WARMUP_SECONDS}"
+
+    k6 run --summary-export "summary-$(echo "${profile}" | tr ',' '-').json" load.js
+done
+
+# http_reqs(rate) 와 http_req_duration p(99) 를 나란히 비교한다
+for f in summary-*.json; do
+    echo "${f}: $(jq -c '{rps: .metrics.http_reqs.rate, p99: .metrics.http_req_duration["p(99)"]}' "${f}")"
+done
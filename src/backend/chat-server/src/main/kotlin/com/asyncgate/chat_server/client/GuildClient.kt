@@ -1,8 +1,11 @@
 package com.asyncgate.chat_server.client
 
+import com.asyncgate.chat_server.filter.InternalIdentityVerifier
 import jakarta.ws.rs.core.HttpHeaders
 import org.springframework.cloud.openfeign.FeignClient
 import org.springframework.web.bind.annotation.GetMapping
+import org.springframework.web.bind.annotation.PostMapping
+import org.springframework.web.bind.annotation.RequestBody
 import org.springframework.web.bind.annotation.RequestHeader
 
 @FeignClient(name = "guild-server")
@@ -12,4 +15,18 @@ interface GuildClient {
     fun getGuildIds(
         @RequestHeader(HttpHeaders.AUTHORIZATION) jwtToken: String,
     ): List<String>
+
+    /**
+     * 여러 사용자의 길드 ID 를 한 번에 조회 (응답: userId -> guildIds)
+     * 내부 전용 API 이므로 ServiceIdentitySigner 가 서명한 서비스 신원을 함께 보낸다
+     */
+    @PostMapping("/guilds/memberships/users")
+    fun getGuildIdsByUserIds(
+        @RequestHeader(InternalIdentityVerifier.HEADER) serviceIdentity: String,
+        @RequestBody request: MembershipLookupRequest,
+    ): Map<String, List<String>>
 }
+
+data class MembershipLookupRequest(
+    val ids: List<String>,
+)
@@ -0,0 +1,41 @@
+package com.asyncgate.chat_server.client
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * 내부 전용 API 호출 시 X-Internal-Identity 헤더에 "service:chat-server" 신원을 서명
+ * 게이트웨이와 같은 internal.identity.secret-key 를 사용하며, 게이트웨이는 service: 접두어를 서명하지 않는다
+ */
+@Component
+class ServiceIdentitySigner(
+    @Value("\${internal.identity.secret-key:}") secretKey: String,
+    @Value("\${spring.application.name:chat-server}") serviceName: String,
+) {
+
+    companion object {
+        private const val HMAC_SHA256 = "HmacSHA256"
+        private const val TTL_MILLIS = 60_000L
+    }
+
+    private val identity = "service:$serviceName"
+
+    private val prototype: Mac? = if (secretKey.isBlank()) {
+        null
+    } else {
+        Mac.getInstance(HMAC_SHA256).apply {
+            init(SecretKeySpec(secretKey.toByteArray(StandardCharsets.UTF_8), HMAC_SHA256))
+        }
+    }
+
+    fun sign(): String {
+        val mac = prototype ?: throw IllegalStateException("internal.identity.secret-key 가 설정되지 않았습니다.")
+        val payload = "$identity.${System.currentTimeMillis() + TTL_MILLIS}"
+        val signature = (mac.clone() as Mac).doFinal(payload.toByteArray(StandardCharsets.UTF_8))
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature)
+    }
+}
@@ -1,15 +1,33 @@
 package com.asyncgate.chat_server.config
 
 import feign.Logger
+import feign.Request
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.cloud.openfeign.EnableFeignClients
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import java.util.concurrent.TimeUnit
 
 @Configuration
 @EnableFeignClients(basePackages = ["com.asyncgate.chat_server.client"])
-class FeignClientConfig {
+class FeignClientConfig(
+    @Value("\${feign.connect-timeout-ms:1000}") private val connectTimeoutMs: Long,
+    @Value("\${feign.read-timeout-ms:3000}") private val readTimeoutMs: Long,
+) {
     @Bean
     fun feignLoggerLevel(): Logger.Level {
         return Logger.Level.FULL
     }
+
+    // 응답이 느린 서버 때문에 요청 스레드가 무한정 묶이지 않도록 타임아웃 지정
+    @Bean
+    fun feignRequestOptions(): Request.Options {
+        return Request.Options(
+            connectTimeoutMs,
+            TimeUnit.MILLISECONDS,
+            readTimeoutMs,
+            TimeUnit.MILLISECONDS,
+            true,
+        )
+    }
 }
@@ -2,6 +2,7 @@ package com.asyncgate.chat_server.controller
 
 import com.asyncgate.chat_server.controller.docs.DirectControllerDocs
 import com.asyncgate.chat_server.domain.ReadStatus
+import com.asyncgate.chat_server.filter.InternalIdentityVerifier
 import com.asyncgate.chat_server.filter.JwtTokenProvider
 import com.asyncgate.chat_server.service.DirectService
 import com.asyncgate.chat_server.support.response.SuccessResponse
@@ -16,17 +17,18 @@ import org.springframework.web.bind.annotation.ModelAttribute
 import org.springframework.web.bind.annotation.PostMapping
 import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.ResponseBody
+import java.util.concurrent.CompletableFuture
 
 @Controller
 class DirectController(
     private val directService: DirectService,
     private val jwtTokenProvider: JwtTokenProvider,
+    private val internalIdentityVerifier: InternalIdentityVerifier,
 ) : DirectControllerDocs {
 
     @MessageMapping("/chat/direct/send-message")
     fun direct(@Payload directMessageCreate: DirectMessageCreate, message: Message<*>) {
-        val jwtToken = CustomSecurityContext.extractJwtTokenForStomp(message)
-        val userId = jwtTokenProvider.extract(jwtToken)
+        val userId = CustomSecurityContext.extractUserIdForStomp(message)
         val directMessage = directMessageCreate.toDomain(userId)
         directService.send(directMessage)
     }
@@ -38,35 +40,32 @@ class DirectController(
 
     @MessageMapping("/chat/direct/typing")
     fun typing(@Payload directTyping: DirectMessageTypingRequest, message: Message<*>) {
-        val jwtToken = CustomSecurityContext.extractJwtTokenForStomp(message)
-        val userId = jwtTokenProvider.extract(jwtToken)
+        val userId = CustomSecurityContext.extractUserIdForStomp(message)
         val directMessage = directTyping.toDomain(userId)
         directService.typing(directMessage)
     }
 
     @MessageMapping("/chat/direct/edit")
     fun edit(@Payload directEdit: DirectMessageEditRequest, message: Message<*>) {
-        val jwtToken = CustomSecurityContext.extractJwtTokenForStomp(message)
-        val userId = jwtTokenProvider.extract(jwtToken)
+        val userId = CustomSecurityContext.extractUserIdForStomp(message)
         val directMessage = directEdit.toDomain(userId)
         directService.edit(directMessage)
     }
 
     @MessageMapping("/chat/direct/delete")
     fun sendDeleteMessage(@Payload directDelete: DirectMessageDeleteRequest, message: Message<*>) {
-        val jwtToken = CustomSecurityContext.extractJwtTokenForStomp(message)
-        val userId = jwtTokenProvider.extract(jwtToken)
+        val userId = CustomSecurityContext.extractUserIdForStomp(message)
         val directMessage = directDelete.toDomain(userId)
         directService.delete(directMessage)
     }
 
     @ResponseBody
     @PostMapping("/chat/direct/file")
-    override fun uploadFile(@ModelAttribute fileRequest: FileRequest, servletRequest: HttpServletRequest): SuccessResponse<FileUploadResponse> {
-        val jwtToken = CustomSecurityContext.extractJwtTokenForHttp(servletRequest)
-        val userId = jwtTokenProvider.extract(jwtToken)
-        val response = directService.upload(fileRequest, userId)
-        return SuccessResponse.created(response)
+    override fun uploadFile(@ModelAttribute fileRequest: FileRequest, servletRequest: HttpServletRequest): CompletableFuture<SuccessResponse<FileUploadResponse>> {
+        // 게이트웨이가 검증한 요청은 서명된 내부 신원 헤더를 사용하고, 없으면 JWT 를 직접 검증
+        val userId = internalIdentityVerifier.verify(servletRequest.getHeader(InternalIdentityVerifier.HEADER))
+            ?: jwtTokenProvider.extract(CustomSecurityContext.extractJwtTokenForHttp(servletRequest))
+        return directService.upload(fileRequest, userId).thenApply { SuccessResponse.created(it) }
     }
 
     @ResponseBody
@@ -1,10 +1,10 @@
 package com.asyncgate.chat_server.controller
 
-import com.asyncgate.chat_server.filter.JwtTokenProvider
 import com.asyncgate.chat_server.filter.LoginSessionRequest
 import com.asyncgate.chat_server.filter.LoginType
 import com.asyncgate.chat_server.filter.StateRequest
 import com.asyncgate.chat_server.filter.StatusType
+import com.asyncgate.chat_server.support.utility.CustomSecurityContext
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.http.HttpStatus
@@ -16,9 +16,7 @@ import org.springframework.web.bind.annotation.RestController
 import org.springframework.web.server.ResponseStatusException
 
 @RestController
-class WebSocketDisconnectController(
-    private val jwtTokenProvider: JwtTokenProvider,
-) {
+class WebSocketDisconnectController {
 
     companion object {
         private val log: Logger = LoggerFactory.getLogger(WebSocketDisconnectController::class.java)
@@ -35,15 +33,10 @@ class WebSocketDisconnectController(
         val currentSessionId = accessor.sessionId
             ?: throw ResponseStatusException(HttpStatus.BAD_REQUEST, "Session ID is missing")
 
-        // ✅ JWT 토큰 가져오기
-        val jwtToken = accessor.getFirstNativeHeader("jwt-token")
-            ?: throw ResponseStatusException(HttpStatus.BAD_REQUEST, "JWT Token is missing")
-
-        log.info("📌 받은 JWT Token: $jwtToken")
         log.info("📌 받은 세션 ID: $currentSessionId")
 
-        // ✅ JWT 토큰에서 사용자 ID 추출
-        val currentUserId = jwtTokenProvider.extract(jwtToken)
+        // ✅ 연결 시 검증해 둔 사용자 ID 사용 (JWT 를 다시 검증하지 않음)
+        val currentUserId = CustomSecurityContext.extractUserIdForStomp(message)
 
         val logOutSessionRequest = LoginSessionRequest(
             type = LoginType.LOGOUT,
@@ -23,6 +23,7 @@ import org.springframework.web.bind.annotation.ModelAttribute
 import org.springframework.web.bind.annotation.PostMapping
 import org.springframework.web.bind.annotation.PutMapping
 import org.springframework.web.bind.annotation.RequestParam
+import java.util.concurrent.CompletableFuture
 
 @Tag(name = "Direct Message API", description = "Direct 메시지 관련 API (WebSocket 기반)")
 @SecurityRequirement(name = "JWT TOKEN")
@@ -144,7 +145,7 @@ interface DirectControllerDocs {
         @ModelAttribute
         fileRequest: FileRequest,
         servletRequest: HttpServletRequest,
-    ): SuccessResponse<FileUploadResponse>
+    ): CompletableFuture<SuccessResponse<FileUploadResponse>>
 
     @Operation(
         summary = "Direct 메시지 페이징 조회 (HTTP)",
@@ -21,6 +21,7 @@ enum class FailType(
     X_UPLOAD_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5001", "S3 이미지 업로드에 실패하였습니다."),
     X_DELETE_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5002", "S3 이미지 제거에 실패하였습니다."),
     X_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "S3_5003", "파일이 S3에 존재하지 않습니다."),
+    X_UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S3_5031", "업로드 요청이 많아 잠시 후 다시 시도해주세요."),
 
     X_DIRECT_INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DirectMessage_5001", "DirectMessage id는 null일 수 없습니다."),
 
@@ -0,0 +1,54 @@
+package com.asyncgate.chat_server.filter
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.Base64
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * 게이트웨이가 JWT 검증 후 붙여 주는 내부 신원 헤더(X-Internal-Identity) 검증
+ * 복사본: 기준은 guild-server 의 security.filter.InternalIdentityVerifier (서비스 신원용 verifyService 는 그쪽에만 있음, 수정 시 함께 변경)
+ */
+@Component
+class InternalIdentityVerifier(
+    @Value("\${internal.identity.secret-key:}") secretKey: String,
+) {
+
+    companion object {
+        const val HEADER = "X-Internal-Identity"
+        private const val HMAC_SHA256 = "HmacSHA256"
+    }
+
+    private val prototype: Mac? = if (secretKey.isBlank()) {
+        null
+    } else {
+        Mac.getInstance(HMAC_SHA256).apply {
+            init(SecretKeySpec(secretKey.toByteArray(StandardCharsets.UTF_8), HMAC_SHA256))
+        }
+    }
+
+    fun verify(headerValue: String?): String? {
+        val mac = prototype ?: return null
+        if (headerValue == null) return null
+
+        val signatureAt = headerValue.lastIndexOf('.')
+        val expiresAt = if (signatureAt <= 0) -1 else headerValue.lastIndexOf('.', signatureAt - 1)
+        if (expiresAt <= 0) return null
+
+        val expiresAtMillis = headerValue.substring(expiresAt + 1, signatureAt).toLongOrNull() ?: return null
+        if (expiresAtMillis <= System.currentTimeMillis()) return null
+
+        val signature = try {
+            Base64.getUrlDecoder().decode(headerValue.substring(signatureAt + 1))
+        } catch (e: IllegalArgumentException) {
+            return null
+        }
+
+        // Mac 은 thread-safe 하지 않으므로 초기화된 prototype 을 복제해서 사용
+        val expected = (mac.clone() as Mac).doFinal(headerValue.substring(0, signatureAt).toByteArray(StandardCharsets.UTF_8))
+        return if (MessageDigest.isEqual(expected, signature)) headerValue.substring(0, expiresAt) else null
+    }
+}
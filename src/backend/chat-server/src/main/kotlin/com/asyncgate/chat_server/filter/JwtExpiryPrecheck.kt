@@ -0,0 +1,60 @@
+package com.asyncgate.chat_server.filter
+
+import java.util.Base64
+
+/**
+ * 서명 검증 전에 payload 의 exp 만 읽어 만료 토큰을 먼저 거르는 용도
+ * 복사본: 기준은 guild-server 의 security.filter.JwtExpiryPrecheck (수정 시 함께 변경)
+ */
+internal object JwtExpiryPrecheck {
+
+    private val decoder = Base64.getUrlDecoder()
+    private val expClaim = "\"exp\":".toByteArray(Charsets.US_ASCII)
+
+    fun isExpired(token: String, nowMillis: Long): Boolean {
+        val first = token.indexOf('.')
+        val second = if (first < 0) -1 else token.indexOf('.', first + 1)
+        if (second < 0) {
+            return false
+        }
+
+        val payload = try {
+            decoder.decode(token.substring(first + 1, second))
+        } catch (e: IllegalArgumentException) {
+            return false
+        }
+
+        var index = indexOfExp(payload)
+        if (index < 0) {
+            return false
+        }
+
+        var exp = 0L
+        var digits = 0
+        while (index < payload.size && payload[index] == ' '.code.toByte()) {
+            index++
+        }
+        while (index < payload.size && payload[index] in '0'.code.toByte()..'9'.code.toByte() && digits < 18) {
+            exp = exp * 10 + (payload[index] - '0'.code.toByte())
+            index++
+            digits++
+        }
+        return digits > 0 && exp * 1000 < nowMillis
+    }
+
+    private fun indexOfExp(payload: ByteArray): Int {
+        outer@ for (i in 0..payload.size - expClaim.size) {
+            for (j in expClaim.indices) {
+                if (payload[i + j] != expClaim[j]) {
+                    continue@outer
+                }
+            }
+            // 문자열 값 안에 이스케이프되어 들어간 "exp": 는 무시
+            if (i > 0 && payload[i - 1] == '\\'.code.toByte()) {
+                continue
+            }
+            return i + expClaim.size
+        }
+        return -1
+    }
+}
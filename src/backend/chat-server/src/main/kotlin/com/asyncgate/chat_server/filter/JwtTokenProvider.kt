@@ -4,19 +4,20 @@ import com.asyncgate.chat_server.exception.ChatServerException
 import com.asyncgate.chat_server.exception.FailType
 import io.jsonwebtoken.Claims
 import io.jsonwebtoken.ExpiredJwtException
-import io.jsonwebtoken.Jws
+import io.jsonwebtoken.JwtParser
 import io.jsonwebtoken.Jwts
 import io.jsonwebtoken.MalformedJwtException
 import io.jsonwebtoken.UnsupportedJwtException
 import io.jsonwebtoken.security.SignatureException
 import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.InitializingBean
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
 import java.security.Key
 import javax.crypto.spec.SecretKeySpec
 
 @Component
-class JwtTokenProvider {
+class JwtTokenProvider : InitializingBean {
 
     private val log = LoggerFactory.getLogger(JwtTokenProvider::class.java)
 
@@ -27,45 +28,41 @@ class JwtTokenProvider {
     @Value("\${jwt.secret-key}")
     private lateinit var secretKey: String
 
-    fun validate(token: String): Boolean {
-        try {
-            val key: Key = SecretKeySpec(secretKey.toByteArray(), HMAC_SHA256)
-            val claims: Jws<Claims> = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-            val subject: String? = claims.body.subject
-            if (subject.isNullOrBlank()) {
-                throw ChatServerException(FailType.JWT_INVALID_TOKEN)
-            }
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private lateinit var parser: JwtParser
 
-            log.info("🔑 [JWT] Token valid. Subject: ${claims.body.subject}, Expiration: ${claims.body.expiration}")
-            return true
-        } catch (e: SignatureException) {
-            throw ChatServerException(FailType.JWT_INVALID_SIGNATURE)
-        } catch (e: ExpiredJwtException) {
-            throw ChatServerException(FailType.JWT_EXPIRED_TOKEN)
-        } catch (e: MalformedJwtException) {
-            throw ChatServerException(FailType.JWT_MALFORMED_TOKEN)
-        } catch (e: UnsupportedJwtException) {
-            throw ChatServerException(FailType.JWT_UNSUPPORTED_TOKEN)
-        } catch (e: Exception) {
+    override fun afterPropertiesSet() {
+        val key: Key = SecretKeySpec(secretKey.toByteArray(), HMAC_SHA256)
+        parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build()
+    }
+
+    fun validate(token: String): Boolean {
+        val claims = parse(token)
+        if (claims.subject.isNullOrBlank()) {
             throw ChatServerException(FailType.JWT_INVALID_TOKEN)
         }
+
+        log.debug("🔑 [JWT] Token valid. Subject: {}, Expiration: {}", claims.subject, claims.expiration)
+        return true
     }
 
     fun extract(token: String): String {
+        val mid = parse(token)["mid"] as? String
+        if (mid.isNullOrBlank()) {
+            throw ChatServerException(FailType.JWT_INVALID_TOKEN)
+        }
+        return mid
+    }
+
+    private fun parse(token: String): Claims {
+        if (JwtExpiryPrecheck.isExpired(token, System.currentTimeMillis())) {
+            throw ChatServerException(FailType.JWT_EXPIRED_TOKEN)
+        }
+
         try {
-            val key: Key = SecretKeySpec(secretKey.toByteArray(), HMAC_SHA256)
-            val claims: Jws<Claims> = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-            val mid = claims.body["mid"] as? String
-            if (mid.isNullOrBlank()) {
-                throw ChatServerException(FailType.JWT_INVALID_TOKEN)
-            }
-            return mid
+            return parser.parseClaimsJws(token).body
         } catch (e: SignatureException) {
             throw ChatServerException(FailType.JWT_INVALID_SIGNATURE)
         } catch (e: ExpiredJwtException) {
@@ -1,7 +1,7 @@
 package com.asyncgate.chat_server.filter
 
 import com.asyncgate.chat_server.exception.ChatServerException
-import com.asyncgate.chat_server.exception.FailType
+import com.asyncgate.chat_server.support.logging.RequestDiagnostics
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.http.HttpStatus
@@ -10,19 +10,20 @@ import org.springframework.messaging.MessageChannel
 import org.springframework.messaging.simp.stomp.StompCommand
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor
 import org.springframework.messaging.support.ChannelInterceptor
-import org.springframework.messaging.support.MessageBuilder
 import org.springframework.stereotype.Component
 import org.springframework.web.server.ResponseStatusException
 
 @Component
 class FilterChannelInterceptor(
     private val jwtTokenProvider: JwtTokenProvider,
+    private val requestDiagnostics: RequestDiagnostics,
 ) : ChannelInterceptor {
 
     companion object {
         private val log: Logger = LoggerFactory.getLogger(FilterChannelInterceptor::class.java)
         private const val AUTHORIZATION_HEADER = "Authorization"
         private const val BEARER_PREFIX = "Bearer "
+        private const val DIAGNOSTICS_ROUTE = "stomp"
     }
 
     private fun extractToken(headerValue: String?): String? {
@@ -37,62 +38,62 @@ class FilterChannelInterceptor(
 
     override fun preSend(message: Message<*>, channel: MessageChannel): Message<*> {
         val headerAccessor = StompHeaderAccessor.wrap(message)
-        log.info("📥 [STOMP] Command: ${headerAccessor.command}, sessionId: ${headerAccessor.sessionId}")
 
         if (StompCommand.CONNECT == headerAccessor.command) {
             val rawAuth = headerAccessor.getFirstNativeHeader(AUTHORIZATION_HEADER)
-            log.info("🔑 [STOMP] Raw Authorization Header: $rawAuth")
             val jwtToken = extractToken(rawAuth)
             if (jwtToken.isNullOrBlank()) {
                 log.error("🚨 [STOMP] Access Token is missing or improperly formatted!")
                 throw ResponseStatusException(HttpStatus.UNAUTHORIZED, "Access token is missing")
             }
-            try {
-                if (!jwtTokenProvider.validate(jwtToken)) {
-                    log.error("🚨 [STOMP] Access Token validation failed!")
-                    throw ResponseStatusException(HttpStatus.UNAUTHORIZED)
-                }
-                log.info("✅ [STOMP] CONNECT 요청 처리 완료")
+            // extract 가 서명 / 만료를 함께 검증, 연결 단위로 한 번만 검증하고 이후 메시지는 세션 속성의 userId 를 사용
+            val userId = try {
+                jwtTokenProvider.extract(jwtToken)
             } catch (e: ChatServerException) {
-                createErrorMessage(e.failType)
+                log.error("🚨 [STOMP] Access Token validation failed: {}", e.failType.message)
+                throw ResponseStatusException(HttpStatus.UNAUTHORIZED, e.failType.message)
             }
+            val sessionAttributes = headerAccessor.sessionAttributes
+            val handshakeUserId = sessionAttributes?.get(WebSocketHandshakeInterceptor.USER_ID_ATTRIBUTE)
+            if (handshakeUserId != null && handshakeUserId != userId) {
+                log.error("🚨 [STOMP] CONNECT 토큰의 사용자가 핸드셰이크 사용자와 다름")
+                throw ResponseStatusException(HttpStatus.UNAUTHORIZED)
+            }
+            sessionAttributes?.put(WebSocketHandshakeInterceptor.USER_ID_ATTRIBUTE, userId)
         }
         return message
     }
 
     override fun postSend(message: Message<*>, channel: MessageChannel, sent: Boolean) {
         val accessor = StompHeaderAccessor.wrap(message)
-        log.info("📡 [STOMP] Command: ${accessor.command}, sessionId: ${accessor.sessionId}, sent: $sent")
+
+        // 프레임 단위 로그는 샘플링된 경우에만 남긴다 (네이티브 헤더의 토큰은 가림)
+        if (requestDiagnostics.sampled(DIAGNOSTICS_ROUTE)) {
+            requestDiagnostics.headers(
+                DIAGNOSTICS_ROUTE,
+                "[STOMP] Command: ${accessor.command}, sessionId: ${accessor.sessionId}, sent: $sent",
+                accessor.toNativeHeaderMap()
+            )
+        }
 
         when (accessor.command) {
-            StompCommand.CONNECT -> {
-                log.info("✅ [STOMP] CONNECT 성공 - sessionId: ${accessor.sessionId}")
-                handleConnect(accessor)
-                log.info("🔎 [STOMP] CONNECTED 프레임 헤더: ${accessor.messageHeaders}")
-                accessor.messageHeaders.forEach { header ->
-                    log.info("messageHeader = $header")
-                }
-            }
-            StompCommand.DISCONNECT -> {
-                log.info("🔌 [STOMP] DISCONNECT 요청 - sessionId: ${accessor.sessionId}")
-                handleDisconnect(accessor)
-            }
+            StompCommand.CONNECT -> handleConnect(accessor)
+            StompCommand.DISCONNECT -> handleDisconnect(accessor)
             else -> {}
         }
     }
 
     private fun handleDisconnect(accessor: StompHeaderAccessor) {
-        log.info("🔌 [STOMP] WebSocket 연결 해제 - sessionId: ${accessor.sessionId}")
+        log.debug("🔌 [STOMP] WebSocket 연결 해제 - sessionId: {}", accessor.sessionId)
     }
 
     private fun handleConnect(accessor: StompHeaderAccessor) {
         val currentSessionId = accessor.sessionId
             ?: throw ResponseStatusException(HttpStatus.BAD_REQUEST, "Not session now")
-        val rawAuth = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)
-        val jwtToken = extractToken(rawAuth)
+        // preSend 에서 검증한 userId 재사용
+        val currentUserId = accessor.sessionAttributes?.get(WebSocketHandshakeInterceptor.USER_ID_ATTRIBUTE) as? String
             ?: throw ResponseStatusException(HttpStatus.BAD_REQUEST, "JWT token is missing")
-        val currentUserId = jwtTokenProvider.extract(jwtToken)
-        log.info("🔑 [STOMP] 유저 ID 추출 완료: $currentUserId")
+        log.debug("🔑 [STOMP] 유저 ID 추출 완료: {}", currentUserId)
 
         val loginSessionRequest = LoginSessionRequest(
             type = LoginType.LOGIN,
@@ -108,18 +109,6 @@ class FilterChannelInterceptor(
         // 시그널링 서버에 전달 (주석)
         // messageSender.signaling(stateTopic, stateRequest)
     }
-
-    /**
-     * STOMP ERROR 프레임 생성 메서드
-     */
-    private fun createErrorMessage(failType: FailType): Message<*> {
-        val errorAccessor = StompHeaderAccessor.create(StompCommand.ERROR)
-        errorAccessor.messageHeaders[StompHeaderAccessor.STOMP_MESSAGE_HEADER] = failType.message
-        errorAccessor.messageHeaders["errorCode"] = failType.errorCode
-        errorAccessor.messageHeaders["status"] = failType.status.value()
-
-        return MessageBuilder.createMessage(ByteArray(0), errorAccessor.messageHeaders)
-    }
 }
 
 data class LoginSessionRequest(
@@ -1,6 +1,7 @@
 package com.asyncgate.chat_server.filter
 
 import com.asyncgate.chat_server.exception.ChatServerException
+import com.asyncgate.chat_server.support.logging.RequestDiagnostics
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.http.HttpStatus
@@ -13,10 +14,13 @@ import org.springframework.web.socket.server.HandshakeInterceptor
 @Component
 class WebSocketHandshakeInterceptor(
     private val jwtTokenProvider: JwtTokenProvider,
+    private val requestDiagnostics: RequestDiagnostics,
 ) : HandshakeInterceptor {
 
     companion object {
         private val log: Logger = LoggerFactory.getLogger(WebSocketHandshakeInterceptor::class.java)
+        const val USER_ID_ATTRIBUTE = "userId"
+        private const val DIAGNOSTICS_ROUTE = "ws-handshake"
     }
 
     /**
@@ -37,11 +41,9 @@ class WebSocketHandshakeInterceptor(
         wsHandler: WebSocketHandler,
         attributes: MutableMap<String, Any>,
     ): Boolean {
-        log.info("✅ WebSocket Handshake - JWT 검증 시작")
         val headers = request.headers
-        log.info("headers.size = ${headers.size}")
-        for ((key, value) in headers) {
-            log.info("header = $key : $value")
+        if (requestDiagnostics.sampled(DIAGNOSTICS_ROUTE)) {
+            requestDiagnostics.headers(DIAGNOSTICS_ROUTE, "WebSocket Handshake", headers)
         }
 
         val protocols = headers["Sec-WebSocket-Protocol"]
@@ -61,28 +63,20 @@ class WebSocketHandshakeInterceptor(
         }
         val (_, jwtToken) = pair
 
-        try {
-            if (!jwtTokenProvider.validate(jwtToken)) {
-                log.info("❌ WebSocket Handshake 실패: 유효하지 않은 JWT 토큰")
-                response.setStatusCode(HttpStatus.UNAUTHORIZED)
-                response.headers["WWW-Authenticate"] =
-                    "Bearer error=\"invalid_token\", error_description=\"invalid JWT token\""
-                return false
-            }
+        // extract 가 서명 / 만료 / mid 를 한 번에 검증하므로 validate 를 따로 호출하지 않는다
+        val userId = try {
+            jwtTokenProvider.extract(jwtToken)
         } catch (e: ChatServerException) {
             log.info("❌ WebSocket Handshake 실패: {}", e.failType.message)
-            val message = e.failType.message
-            val status = e.failType.status
 
-            response.setStatusCode(status)
+            response.setStatusCode(e.failType.status)
             response.headers["WWW-Authenticate"] =
-                "Bearer error=\"invalid_token\", error_description=\""
-
+                "Bearer error=\"invalid_token\", error_description=\"invalid JWT token\""
             return false
         }
 
-        val userId = jwtTokenProvider.extract(jwtToken)
-        log.info("✅ WebSocket Handshake 성공 - userId: $userId")
+        attributes[USER_ID_ATTRIBUTE] = userId
+        log.debug("✅ WebSocket Handshake 성공 - userId: {}", userId)
 
         return true
     }
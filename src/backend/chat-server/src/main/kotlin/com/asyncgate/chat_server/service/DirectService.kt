@@ -11,6 +11,7 @@ import com.asyncgate.chat_server.exception.FailType
 import com.asyncgate.chat_server.kafka.KafkaProperties
 import com.asyncgate.chat_server.repository.DirectMessageRepository
 import com.asyncgate.chat_server.repository.ReadStatusRepository
+import com.asyncgate.chat_server.support.utility.ImageThumbnailer
 import com.asyncgate.chat_server.support.utility.S3Util
 import com.asyncgate.chat_server.support.utility.toDomain
 import com.asyncgate.chat_server.support.utility.toEntity
@@ -18,9 +19,11 @@ import com.asyncgate.chat_server.support.utility.toFileResponse
 import com.asyncgate.chat_server.support.utility.toPagingResponse
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.kafka.core.KafkaTemplate
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.util.concurrent.CompletableFuture
 
 interface DirectService {
     fun send(directMessage: DirectMessage)
@@ -28,7 +31,7 @@ interface DirectService {
     fun typing(directMessage: DirectMessage)
     fun edit(directMessage: DirectMessage)
     fun delete(directMessage: DirectMessage)
-    fun upload(fileRequest: FileRequest, userId: String): FileUploadResponse
+    fun upload(fileRequest: FileRequest, userId: String): CompletableFuture<FileUploadResponse>
     fun readPaging(channelId: String, page: Int, size: Int): DirectPagingResponse
 }
 
@@ -43,10 +46,15 @@ class DirectServiceImpl(
     private val directMessageRepository: DirectMessageRepository,
 
     private val s3Util: S3Util,
+    private val imageThumbnailer: ImageThumbnailer,
+    @Value("\${image.thumbnail.max-size:256}") private val thumbnailSize: Int,
 ) : DirectService {
 
     companion object {
         private val log: Logger = LoggerFactory.getLogger(DirectServiceImpl::class.java)
+        private val SERVER_THUMBNAIL_TYPES = setOf(
+            DirectMessageType.IMAGE, DirectMessageType.STICKER, DirectMessageType.EMOJI,
+        )
     }
 
     @Transactional
@@ -145,34 +153,29 @@ class DirectServiceImpl(
         kafkaTemplateForDirectMessage.send(kafkaProperties.topic.directAction, key, directMessage)
     }
 
-    @Transactional
-    override fun upload(fileRequest: FileRequest, userId: String): FileUploadResponse {
+    // 파일 업로드는 업로드 풀에서 진행되고, 저장과 이벤트 발행은 업로드가 끝난 뒤 이어서 수행 (요청 스레드는 대기하지 않음)
+    override fun upload(fileRequest: FileRequest, userId: String): CompletableFuture<FileUploadResponse> {
         val directMessage = fileRequest.toDomain(userId, fileRequest.fileType)
         val key = fileRequest.channelId
 
-        when (fileRequest.fileType) {
+        val uploaded = when (fileRequest.fileType) {
             DirectMessageType.CODE, DirectMessageType.SNIPPET,
-            -> {
-                val codeDirectMessage = uploadCode(fileRequest, directMessage)
-                val domain = directMessageRepository.save(codeDirectMessage)
-                val response = domain.toFileResponse(domain, userId, fileRequest)
-                kafkaTemplateForFileUpload.send(kafkaProperties.topic.directUpload, key, response)
-                return response
-            }
+            -> CompletableFuture.completedFuture(uploadCode(fileRequest, directMessage))
 
             DirectMessageType.IMAGE, DirectMessageType.VIDEO, DirectMessageType.AUDIO,
             DirectMessageType.DOCUMENT, DirectMessageType.ARCHIVE, DirectMessageType.GIF,
             DirectMessageType.STICKER, DirectMessageType.EMOJI,
-            -> {
-                val fileDirectMessage = uploadMultipartFile(fileRequest, directMessage)
-                val domain = directMessageRepository.save(fileDirectMessage)
-                val response = domain.toFileResponse(domain, userId, fileRequest)
-                kafkaTemplateForFileUpload.send(kafkaProperties.topic.directUpload, key, response)
-                return response
-            }
+            -> uploadMultipartFile(fileRequest, directMessage)
 
             else -> throw ChatServerException(FailType.X_DIRECT_INTERNAL_ERROR)
         }
+
+        return uploaded.thenApply { uploadedMessage ->
+            val domain = directMessageRepository.save(uploadedMessage)
+            val response = domain.toFileResponse(domain, userId, fileRequest)
+            kafkaTemplateForFileUpload.send(kafkaProperties.topic.directUpload, key, response)
+            response
+        }
     }
 
     @Transactional(readOnly = true)
@@ -183,18 +186,30 @@ class DirectServiceImpl(
     private fun uploadMultipartFile(
         fileRequest: FileRequest,
         directMessage: DirectMessage,
-    ): DirectMessage {
-        if (fileRequest.image == null || fileRequest.thumbnail == null) {
+    ): CompletableFuture<DirectMessage> {
+        if (fileRequest.image == null) {
             throw ChatServerException(FailType.DIRECT_MESSAGE_BAD_REQUEST)
         }
 
-        val uploadedFileUrl = s3Util.uploadFile(fileRequest.image, DirectMessage::class.java.name)
-        val uploadedThumbnailUrl = s3Util.uploadFile(fileRequest.thumbnail, DirectMessage::class.java.name)
+        // 원본 업로드와 썸네일 준비를 동시에 시작
+        val clientThumbnailUrl = fileRequest.thumbnail?.let { s3Util.uploadFile(it, DirectMessage::class.java.name) }
+        val serverThumbnail = when {
+            clientThumbnailUrl != null -> null
+            // 클라이언트 썸네일이 없으면 원본을 한 번 디코딩하여 서버에서 생성
+            fileRequest.fileType in SERVER_THUMBNAIL_TYPES -> imageThumbnailer.createAsync(fileRequest.image.bytes)
+            else -> throw ChatServerException(FailType.DIRECT_MESSAGE_BAD_REQUEST)
+        }
 
-        return directMessage.toEntity().copy(
-            content = uploadedFileUrl,
-            thumbnail = uploadedThumbnailUrl
-        ).toDomain()
+        return s3Util.uploadFile(fileRequest.image, DirectMessage::class.java.name).thenCompose { uploadedFileUrl ->
+            val uploadedThumbnailUrl = clientThumbnailUrl
+                ?: serverThumbnail!!.thenCompose { s3Util.uploadThumbnail(uploadedFileUrl, it, thumbnailSize) }
+            uploadedThumbnailUrl.thenApply { thumbnailUrl ->
+                directMessage.toEntity().copy(
+                    content = uploadedFileUrl,
+                    thumbnail = thumbnailUrl
+                ).toDomain()
+            }
+        }
     }
 
     private fun uploadCode(
@@ -0,0 +1,19 @@
+package com.asyncgate.chat_server.support.logging
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation
+import org.springframework.stereotype.Component
+
+/**
+ * GET /actuator/diagnostics  구간별 샘플링 비율 조회
+ * 복사본: 기준은 apigateway-server 의 support.logging.DiagnosticsEndpoint (수정 시 함께 변경)
+ */
+@Component
+@Endpoint(id = "diagnostics")
+class DiagnosticsEndpoint(
+    private val requestDiagnostics: RequestDiagnostics,
+) {
+
+    @ReadOperation
+    fun sampleRates(): Map<String, Double> = requestDiagnostics.sampleRates()
+}
@@ -0,0 +1,64 @@
+package com.asyncgate.chat_server.support.logging
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.properties.ConfigurationProperties
+import org.springframework.stereotype.Component
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * 요청 헤더 / 프레임 덤프용 진단 로그
+ * 복사본: 기준은 apigateway-server 의 support.logging.RequestDiagnostics (수정 시 함께 변경)
+ */
+@Component
+@ConfigurationProperties(prefix = "logging.diagnostics")
+class RequestDiagnostics {
+
+    companion object {
+        const val DEFAULT_ROUTE = "default"
+
+        private val log: Logger = LoggerFactory.getLogger("RequestDiagnostics")
+
+        private val REDACTED_HEADERS = setOf(
+            "authorization", "jwt-token", "cookie", "set-cookie", "sec-websocket-protocol", "x-internal-identity"
+        )
+        private const val REDACTED = "[REDACTED]"
+
+        fun redact(name: String, value: Any?): Any? =
+            if (name.lowercase() in REDACTED_HEADERS) REDACTED else value
+
+        private fun validate(sampleRate: Double): Double {
+            require(sampleRate in 0.0..1.0) { "sampleRate 는 0.0 ~ 1.0 사이여야 합니다: $sampleRate" }
+            return sampleRate
+        }
+    }
+
+    @Volatile
+    private var defaultSampleRate = 0.0
+
+    @Volatile
+    private var routeSampleRates: Map<String, Double> = emptyMap()
+
+    fun sampled(route: String): Boolean {
+        val sampleRate = routeSampleRates[route] ?: defaultSampleRate
+        return sampleRate > 0.0 && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate)
+    }
+
+    // 호출 측이 sampled() 로 먼저 거른 뒤 호출한다 (샘플링되지 않은 요청은 헤더 복사 / 문자열 생성 없음)
+    fun headers(route: String, message: String, headers: Map<String, List<String>>) {
+        val redacted = headers.mapValues { (name, values) -> redact(name, values) }
+        log.info("[{}] {} headers={}", route, message, redacted)
+    }
+
+    fun sampleRates(): Map<String, Double> = routeSampleRates + (DEFAULT_ROUTE to defaultSampleRate)
+
+    fun setSampleRate(sampleRate: Double) {
+        defaultSampleRate = validate(sampleRate)
+    }
+
+    // getter 를 두지 않아 refresh 시 기존 값과 병합되지 않고 설정 그대로 교체된다
+    fun setRoutes(routes: Map<String, Double>) {
+        routes.values.forEach { validate(it) }
+        routeSampleRates = routes.toMap()
+    }
+}
@@ -0,0 +1,100 @@
+package com.asyncgate.chat_server.support.metrics
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.annotation.Around
+import org.aspectj.lang.annotation.Aspect
+import org.aspectj.lang.annotation.Pointcut
+import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.aop.support.AopUtils
+import org.springframework.core.Ordered
+import org.springframework.core.annotation.Order
+import org.springframework.stereotype.Component
+import java.lang.reflect.Method
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * use case 단위 지연 히스토그램 / 에러 수 / 처리 중 요청 수 기록
+ * 복사본: 기준은 guild-server 의 support.metrics.UseCaseMetricsAspect (pointcut 만 다름, 수정 시 함께 변경)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+class UseCaseMetricsAspect(
+    private val meterRegistry: MeterRegistry,
+) {
+
+    private val meters = ConcurrentHashMap<Method, UseCaseMeters>()
+
+    @Pointcut("execution(public * com.asyncgate.chat_server.service..*Service.*(..))")
+    fun serviceMethods() {}
+
+    @Around("serviceMethods()")
+    fun record(joinPoint: ProceedingJoinPoint): Any? {
+        val method = (joinPoint.signature as MethodSignature).method
+        val useCaseMeters = meters.computeIfAbsent(method) {
+            UseCaseMeters(AopUtils.getTargetClass(joinPoint.target).simpleName, it.name)
+        }
+
+        useCaseMeters.inFlight.incrementAndGet()
+        val startTime = System.nanoTime()
+        try {
+            val result = joinPoint.proceed()
+            useCaseMeters.success.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS)
+            return result
+        } catch (e: Throwable) {
+            useCaseMeters.recordError(e, System.nanoTime() - startTime)
+            throw e
+        } finally {
+            useCaseMeters.inFlight.decrementAndGet()
+        }
+    }
+
+    private inner class UseCaseMeters(
+        private val useCase: String,
+        private val methodName: String,
+    ) {
+        val inFlight = AtomicInteger()
+        val success: Timer = timer("success", NONE)
+
+        init {
+            Gauge.builder("usecase.in.flight", inFlight) { it.get().toDouble() }
+                .tag("usecase", useCase)
+                .tag("method", methodName)
+                .register(meterRegistry)
+        }
+
+        fun recordError(e: Throwable, elapsedNanos: Long) {
+            // 에러 meter 는 발생한 예외 종류만큼만 생성되고, 이후에는 registry 에서 재사용된다
+            val exception = e.javaClass.simpleName
+            timer("error", exception).record(elapsedNanos, TimeUnit.NANOSECONDS)
+            Counter.builder("usecase.errors")
+                .tag("usecase", useCase)
+                .tag("method", methodName)
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .increment()
+        }
+
+        private fun timer(outcome: String, exception: String): Timer =
+            Timer.builder("usecase.duration")
+                .tag("usecase", useCase)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry)
+    }
+
+    companion object {
+        private const val NONE = "none"
+    }
+}
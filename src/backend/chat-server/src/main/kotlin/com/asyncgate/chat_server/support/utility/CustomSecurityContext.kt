@@ -2,6 +2,7 @@ package com.asyncgate.chat_server.support.utility
 
 import com.asyncgate.chat_server.exception.ChatServerException
 import com.asyncgate.chat_server.exception.FailType
+import com.asyncgate.chat_server.filter.WebSocketHandshakeInterceptor
 import jakarta.servlet.http.HttpServletRequest
 import org.springframework.messaging.Message
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor
@@ -23,14 +24,11 @@ object CustomSecurityContext {
         }
     }
 
-    fun extractJwtTokenForStomp(message: Message<*>): String {
+    // 핸드셰이크 / CONNECT 에서 한 번 검증한 userId 를 세션 속성에서 꺼낸다 (메시지마다 JWT 를 다시 검증하지 않음)
+    fun extractUserIdForStomp(message: Message<*>): String {
         val accessor = StompHeaderAccessor.wrap(message)
-        val headerValue = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)
+        return accessor.sessionAttributes?.get(WebSocketHandshakeInterceptor.USER_ID_ATTRIBUTE) as? String
             ?: throw ChatServerException(FailType.JWT_INVALID_TOKEN)
-
-        println("headerValue = $headerValue")
-
-        return parseJwtToken(headerValue)
     }
 
     fun extractJwtTokenForHttp(request: HttpServletRequest): String {
@@ -0,0 +1,115 @@
+package com.asyncgate.chat_server.support.utility
+
+import com.asyncgate.chat_server.exception.ChatServerException
+import com.asyncgate.chat_server.exception.FailType
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.awt.RenderingHints
+import java.awt.image.BufferedImage
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import javax.imageio.ImageIO
+
+/**
+ * 클라이언트가 썸네일을 보내지 않은 이미지 메시지의 썸네일을 서버에서 생성 (고정 크기 워커 풀)
+ */
+@Component
+class ImageThumbnailer(
+    meterRegistry: MeterRegistry,
+    @Value("\${image.thumbnail.threads:4}") threads: Int,
+    @Value("\${image.thumbnail.queue-capacity:64}") queueCapacity: Int,
+    @Value("\${image.thumbnail.max-size:256}") private val maxSize: Int,
+    @Value("\${image.thumbnail.max-pixels:40000000}") private val maxPixels: Long,
+    @Value("\${image.thumbnail.timeout-ms:10000}") private val timeoutMs: Long,
+) {
+
+    data class Thumbnail(val bytes: ByteArray, val contentType: String)
+
+    private val executor = ThreadPoolExecutor(
+        threads, threads, 0L, TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(queueCapacity),
+        ThreadPoolExecutor.AbortPolicy(),
+    )
+    private val processingTimer = meterRegistry.timer("image.thumbnail.processing")
+    private val outputBytes = meterRegistry.summary("image.thumbnail.output.bytes")
+
+    // 워커 풀에서 생성하고 결과를 future 로 반환 (호출 스레드는 대기하지 않음), 제한 시간을 넘기면 작업을 중단
+    fun createAsync(original: ByteArray): CompletableFuture<Thumbnail> {
+        val result = CompletableFuture<Thumbnail>()
+        val task = try {
+            executor.submit {
+                try {
+                    result.complete(processingTimer.recordCallable { resize(original) })
+                } catch (e: ChatServerException) {
+                    result.completeExceptionally(e)
+                } catch (e: Exception) {
+                    result.completeExceptionally(ChatServerException(FailType.X_UPLOAD_FILE_ERROR))
+                }
+            }
+        } catch (e: RejectedExecutionException) {
+            return CompletableFuture.failedFuture(ChatServerException(FailType.X_UPLOAD_BUSY))
+        }
+        CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS).execute {
+            if (result.completeExceptionally(ChatServerException(FailType.X_UPLOAD_FILE_ERROR))) {
+                task.cancel(true)
+            }
+        }
+        return result
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdownNow()
+    }
+
+    private fun resize(original: ByteArray): Thumbnail {
+        val source = decode(original)
+        val hasAlpha = source.colorModel.hasAlpha()
+        val ratio = minOf(1.0, maxSize.toDouble() / maxOf(source.width, source.height))
+        val width = maxOf(1, Math.round(source.width * ratio).toInt())
+        val height = maxOf(1, Math.round(source.height * ratio).toInt())
+
+        val target = BufferedImage(width, height, if (hasAlpha) BufferedImage.TYPE_INT_ARGB else BufferedImage.TYPE_INT_RGB)
+        val graphics = target.createGraphics()
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR)
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY)
+            graphics.drawImage(source, 0, 0, width, height, null)
+        } finally {
+            graphics.dispose()
+        }
+
+        val format = if (hasAlpha) "png" else "jpeg"
+        val output = ByteArrayOutputStream()
+        ImageIO.write(target, format, output)
+        outputBytes.record(output.size().toDouble())
+        return Thumbnail(output.toByteArray(), "image/$format")
+    }
+
+    // 픽셀 수를 먼저 확인하여 압축 폭탄 이미지는 디코딩하지 않음
+    private fun decode(original: ByteArray): BufferedImage {
+        ImageIO.createImageInputStream(ByteArrayInputStream(original)).use { input ->
+            val readers = ImageIO.getImageReaders(input)
+            if (!readers.hasNext()) {
+                throw ChatServerException(FailType.DIRECT_MESSAGE_BAD_REQUEST)
+            }
+            val reader = readers.next()
+            try {
+                reader.setInput(input, true, true)
+                if (reader.getWidth(0).toLong() * reader.getHeight(0) > maxPixels) {
+                    throw ChatServerException(FailType.DIRECT_MESSAGE_BAD_REQUEST)
+                }
+                return reader.read(0)
+            } finally {
+                reader.dispose()
+            }
+        }
+    }
+}
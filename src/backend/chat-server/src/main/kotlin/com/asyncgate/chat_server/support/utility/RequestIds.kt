@@ -0,0 +1,41 @@
+package com.asyncgate.chat_server.support.utility
+
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * requestId 검증 / 생성
+ * 복사본: 기준은 guild-server 의 support.logging.RequestIds (규칙 / 테스트는 그쪽 기준, 수정 시 함께 변경)
+ */
+object RequestIds {
+
+    const val HEADER = "X-Request-Id"
+
+    private val HEX = "0123456789abcdef".toCharArray()
+    private const val MAX_LENGTH = 64
+
+    // 외부에서 들어온 값은 게이트웨이와 같은 길이, 문자 집합 검사를 통과할 때만 이어받고 아니면 새로 발급 (로그 인젝션 방지)
+    fun resolve(incoming: String?): String = if (isValid(incoming)) incoming!! else next()
+
+    fun isValid(value: String?): Boolean {
+        if (value.isNullOrEmpty() || value.length > MAX_LENGTH) {
+            return false
+        }
+        return value.all { it in 'a'..'z' || it in 'A'..'Z' || it in '0'..'9' || it == '-' || it == '_' }
+    }
+
+    fun next(): String {
+        val random = ThreadLocalRandom.current()
+        val buffer = CharArray(32)
+        writeHex(buffer, 0, random.nextLong())
+        writeHex(buffer, 16, random.nextLong())
+        return String(buffer)
+    }
+
+    private fun writeHex(buffer: CharArray, offset: Int, value: Long) {
+        var remaining = value
+        for (i in offset + 15 downTo offset) {
+            buffer[i] = HEX[(remaining and 0xF).toInt()]
+            remaining = remaining ushr 4
+        }
+    }
+}
@@ -13,7 +13,6 @@ import org.slf4j.MDC
 import org.springframework.stereotype.Component
 import org.springframework.web.context.request.RequestContextHolder
 import org.springframework.web.context.request.ServletRequestAttributes
-import java.util.*
 
 @Aspect
 @Component
@@ -57,7 +56,7 @@ class RequestResponseLoggingAspect {
             MDC.put("userAgent", request.getHeader("User-Agent"))
             MDC.put("xForwardedFor", request.getHeader("X-Forwarded-For"))
             MDC.put("xForwardedProto", request.getHeader("X-Forwarded-Proto"))
-            MDC.put("requestId", UUID.randomUUID().toString())
+            MDC.put("requestId", RequestIds.resolve(request.getHeader(RequestIds.HEADER)))
             MDC.put("startTime", System.nanoTime().toString())
         }
     }
@@ -6,39 +6,89 @@ import com.amazonaws.services.s3.model.ObjectMetadata
 import com.amazonaws.services.s3.model.PutObjectRequest
 import com.asyncgate.chat_server.exception.ChatServerException
 import com.asyncgate.chat_server.exception.FailType
+import jakarta.annotation.PreDestroy
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Configuration
 import org.springframework.web.multipart.MultipartFile
+import java.io.ByteArrayInputStream
 import java.io.IOException
 import java.util.UUID
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
 
 @Configuration
 class S3Util(
     private val amazonS3Client: AmazonS3Client,
     @Value("\${cloud.aws.s3.bucket}") private val bucketName: String,
     @Value("\${cloud.aws.s3.url}") private val bucketUrl: String,
+    @Value("\${cloud.aws.s3.upload.threads:8}") uploadThreads: Int,
+    @Value("\${cloud.aws.s3.upload.queue-capacity:64}") queueCapacity: Int,
 ) {
 
-    // S3 이미지 업로드
-    fun uploadFile(file: MultipartFile, id: String): String {
-        return try {
-            val fileName = "$id/${UUID.randomUUID()}"
-            val objectMetadata = ObjectMetadata().apply {
-                contentLength = file.size
-                contentType = file.contentType
+    // 업로드 전용 bounded 풀, 큐가 가득 차면 요청 스레드에서 대기하지 않고 바로 거절
+    private val uploadExecutor = ThreadPoolExecutor(
+        uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(queueCapacity),
+        ThreadPoolExecutor.AbortPolicy(),
+    )
+
+    @PreDestroy
+    fun shutdown() {
+        uploadExecutor.shutdown()
+    }
+
+    // S3 이미지 업로드, 업로드 풀에서 객체가 생성되면 URL 로 완료 (요청 스레드는 대기하지 않음)
+    fun uploadFile(file: MultipartFile, id: String): CompletableFuture<String> {
+        return submit {
+            try {
+                val fileName = "$id/${UUID.randomUUID()}"
+                val objectMetadata = ObjectMetadata().apply {
+                    contentLength = file.size
+                    contentType = file.contentType
+                }
+
+                val putObjectRequest = PutObjectRequest(bucketName, fileName, file.inputStream, objectMetadata)
+
+                amazonS3Client.putObject(putObjectRequest)
+
+                "$bucketUrl$fileName"
+            } catch (e: SdkClientException) {
+                throw ChatServerException(FailType.X_UPLOAD_FILE_ERROR)
+            } catch (e: IOException) {
+                throw ChatServerException(FailType.X_UPLOAD_FILE_ERROR)
+            } catch (e: Exception) {
+                throw ChatServerException(FailType.X_UNKNOWN_ERROR)
             }
+        }
+    }
 
-            val putObjectRequest = PutObjectRequest(bucketName, fileName, file.inputStream, objectMetadata)
+    // 원본 옆 결정적인 key ({원본 key}/w{size}) 에 썸네일 저장
+    fun uploadThumbnail(originalUrl: String, thumbnail: ImageThumbnailer.Thumbnail, size: Int): CompletableFuture<String> {
+        return submit {
+            try {
+                val fileName = originalUrl.replace(bucketUrl, "") + "/w$size"
+                val objectMetadata = ObjectMetadata().apply {
+                    contentLength = thumbnail.bytes.size.toLong()
+                    contentType = thumbnail.contentType
+                }
 
-            amazonS3Client.putObject(putObjectRequest)
+                amazonS3Client.putObject(PutObjectRequest(bucketName, fileName, ByteArrayInputStream(thumbnail.bytes), objectMetadata))
 
-            "$bucketUrl$fileName"
-        } catch (e: SdkClientException) {
-            throw ChatServerException(FailType.X_UPLOAD_FILE_ERROR)
-        } catch (e: IOException) {
-            throw ChatServerException(FailType.X_UPLOAD_FILE_ERROR)
-        } catch (e: Exception) {
-            throw ChatServerException(FailType.X_UNKNOWN_ERROR)
+                "$bucketUrl$fileName"
+            } catch (e: SdkClientException) {
+                throw ChatServerException(FailType.X_UPLOAD_FILE_ERROR)
+            }
+        }
+    }
+
+    private fun submit(task: () -> String): CompletableFuture<String> {
+        return try {
+            CompletableFuture.supplyAsync(task, uploadExecutor)
+        } catch (e: RejectedExecutionException) {
+            CompletableFuture.failedFuture(ChatServerException(FailType.X_UPLOAD_BUSY))
         }
     }
 
@@ -0,0 +1,79 @@
+package com.asyncgate.guild_server.security.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * 요청마다 SecretKeySpec / JwtParser 를 만드는 기존 방식과 미리 만든 parser 재사용, 만료 사전 검사 비교
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtParser parser;
+    private String validToken;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        Key key = new SecretKeySpec(SECRET_KEY.getBytes(), JwtService.HMAC_SHA256);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        long now = System.currentTimeMillis();
+        validToken = token(key, new Date(now + 3_600_000L));
+        expiredToken = token(key, new Date(now - 60_000L));
+    }
+
+    @Benchmark
+    public String perCallParser() {
+        Key key = new SecretKeySpec(SECRET_KEY.getBytes(), JwtService.HMAC_SHA256);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(validToken)
+                .getBody();
+        return claims.get("mid", String.class);
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return parser.parseClaimsJws(validToken).getBody().get("mid", String.class);
+    }
+
+    @Benchmark
+    public boolean expiredPerCallParser() {
+        try {
+            Key key = new SecretKeySpec(SECRET_KEY.getBytes(), JwtService.HMAC_SHA256);
+            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(expiredToken);
+            return false;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean expiredPrecheck() {
+        return JwtExpiryPrecheck.isExpired(expiredToken, System.currentTimeMillis());
+    }
+
+    private static String token(final Key key, final Date expiration) {
+        return Jwts.builder()
+                .claim("mid", "member-id")
+                .setSubject("member-id")
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,125 @@
+package com.asyncgate.guild_server.support.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기존 aspect(UUID + MDC 8개 + String.format) 와 현재 aspect(전달받은 requestId 검증 + 샘플링) 의 요청당 비용 비교
+ * 로거는 INFO 로 두고 운영과 같은 형태의 패턴을 null 스트림에 인코딩하여, 디스크 I/O 만 제외하고
+ * 이벤트 생성 / MDC 복사 / 포맷 비용까지 측정한다
+ */
+@State(Scope.Benchmark)
+public class RequestResponseLoggingBenchmark {
+
+    private static final Logger requestLogger = LoggerFactory.getLogger("HttpRequestLog");
+    private static final Logger responseLogger = LoggerFactory.getLogger("HttpResponseLog");
+
+    private static final String GATEWAY_REQUEST_ID = "4f1c2a9be07d4c31a8f0d2b6e95c7a10";
+
+    @Param({"1.0", "0.1"})
+    public double sampleRate;
+
+    private OutputStreamAppender<ILoggingEvent> appender;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} %-5level [%X{requestId}] %X{method} %X{requestUri} %X{sourceIp} %X{userAgent} %X{responseTime} %logger - %msg%n");
+        encoder.start();
+
+        appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        for (String name : List.of("HttpRequestLog", "HttpResponseLog")) {
+            ch.qos.logback.classic.Logger logger = context.getLogger(name);
+            logger.detachAndStopAllAppenders();
+            logger.setAdditive(false);
+            logger.setLevel(Level.INFO);
+            logger.addAppender(appender);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Benchmark
+    public void legacy() {
+        MDC.put("method", "GET");
+        MDC.put("requestUri", "/guilds");
+        MDC.put("sourceIp", "10.0.0.1");
+        MDC.put("userAgent", "k6/0.49");
+        MDC.put("xForwardedFor", "10.0.0.1");
+        MDC.put("xForwardedProto", "https");
+        MDC.put("requestId", UUID.randomUUID().toString());
+        MDC.put("startTime", String.valueOf(System.nanoTime()));
+        requestLogger.info("Request received for method: {}", "getAll");
+
+        long startTime = Long.parseLong(MDC.get("startTime"));
+        double executionTime = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        MDC.put("responseTime", String.format("%.3f초", executionTime));
+        responseLogger.info("Response sent successfully");
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void current() {
+        MDC.put("requestId", RequestIds.resolve(GATEWAY_REQUEST_ID));
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (sampled) {
+            MDC.put("method", "GET");
+            MDC.put("requestUri", "/guilds");
+            MDC.put("sourceIp", "10.0.0.1");
+            MDC.put("userAgent", "k6/0.49");
+            MDC.put("xForwardedFor", "10.0.0.1");
+            MDC.put("xForwardedProto", "https");
+            requestLogger.info("Request received for method: {}", "getAll");
+        }
+
+        long startTime = System.nanoTime();
+        if (sampled) {
+            MDC.put("responseTime", (System.nanoTime() - startTime) / 1_000_000 + "ms");
+            responseLogger.info("Response sent successfully");
+        }
+        MDC.clear();
+    }
+
+    @Benchmark
+    public String legacyRequestId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String currentRequestId() {
+        return RequestIds.next();
+    }
+
+    @Benchmark
+    public String resolveGatewayRequestId() {
+        return RequestIds.resolve(GATEWAY_REQUEST_ID);
+    }
+}
@@ -2,8 +2,10 @@ package com.asyncgate.guild_server.client;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public record UserClientInfoResponses(List<UserClientInfoResponse> responses) {
-    public record UserClientInfoResponse(String userId, String name, String nickname, String profileImageUrl, String email, LocalDate birth) {
+    public record UserClientInfoResponse(String userId, String name, String nickname, String profileImageUrl,
+                                         Map<String, String> profileImageVariants, String email, LocalDate birth) {
     }
 }
@@ -0,0 +1,131 @@
+package com.asyncgate.guild_server.client;
+
+import com.asyncgate.guild_server.client.UserClientInfoResponses.UserClientInfoResponse;
+import com.asyncgate.guild_server.support.resilience.InterServiceResilience;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * user-server 프로필 조회 캐시
+ * 캐시에 없는 사용자만 모아서 한 번의 배치 호출로 조회하고, 같은 사용자를 동시에 조회하면 진행 중인 호출을 공유 (single-flight)
+ * 로더는 ForkJoinPool.commonPool 대신 전용 bounded executor 에서 실행 (블로킹 Feign 호출이 공용 풀을 점유하지 않도록)
+ */
+@Component
+public class UserProfileCache {
+
+    private static final String USER_SERVER = "user-server";
+
+    private final AsyncLoadingCache<String, UserClientInfoResponse> cache;
+    private final ThreadPoolExecutor loaderExecutor;
+
+    public UserProfileCache(
+            final UserClient userClient,
+            final InterServiceResilience resilience,
+            final MeterRegistry meterRegistry,
+            final @Value("${guild.user-profile-cache.ttl:PT5M}") Duration ttl,
+            final @Value("${guild.user-profile-cache.maximum-size:50000}") long maximumSize,
+            final @Value("${guild.user-profile-cache.loader-threads:8}") int loaderThreads,
+            final @Value("${guild.user-profile-cache.loader-queue-capacity:256}") int loaderQueueCapacity
+    ) {
+        // 큐가 가득 차면 호출 스레드에서 직접 로드 (실패시키지 않고 자연스럽게 속도 조절)
+        AtomicInteger threadCount = new AtomicInteger();
+        this.loaderExecutor = new ThreadPoolExecutor(
+                loaderThreads, loaderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loaderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-profile-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        meterRegistry.gauge("user.profile.loader.queue.size", loaderExecutor, executor -> executor.getQueue().size());
+
+        this.cache = Caffeine.newBuilder()
+                .executor(loaderExecutor)
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .buildAsync(new UserProfileLoader(userClient, resilience));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "userProfile");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loaderExecutor.shutdown();
+    }
+
+    /**
+     * user-server 에 존재하지 않는 사용자는 결과에서 제외
+     */
+    public List<UserClientInfoResponse> getAll(final Collection<String> userIds) {
+        Map<String, UserClientInfoResponse> profiles = getAllAsMap(userIds);
+        List<UserClientInfoResponse> responses = new ArrayList<>(profiles.size());
+        for (String userId : userIds) {
+            UserClientInfoResponse profile = profiles.get(userId);
+            if (profile != null) {
+                responses.add(profile);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * user-server 를 호출하지 않고 캐시에 적재된 프로필만 반환
+     */
+    public Map<String, UserClientInfoResponse> getAllPresent(final Collection<String> userIds) {
+        return cache.synchronous().getAllPresent(userIds);
+    }
+
+    public Map<String, UserClientInfoResponse> getAllAsMap(final Collection<String> userIds) {
+        try {
+            return cache.getAll(Set.copyOf(userIds)).join();
+        } catch (CompletionException e) {
+            // Feign / circuit breaker / bulkhead 예외는 그대로 전파
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record UserProfileLoader(
+            UserClient userClient,
+            InterServiceResilience resilience
+    ) implements CacheLoader<String, UserClientInfoResponse> {
+
+        @Override
+        public UserClientInfoResponse load(final String userId) {
+            return loadAll(Set.of(userId)).get(userId);
+        }
+
+        @Override
+        public Map<String, UserClientInfoResponse> loadAll(final Set<? extends String> userIds) {
+            // 조회 전용 호출이므로 재시도 / hedging 허용
+            return resilience.read(USER_SERVER, () -> userClient.getUsersInfo(new ArrayList<>(userIds)))
+                    .getResult()
+                    .responses().stream()
+                    .collect(Collectors.toMap(UserClientInfoResponse::userId, Function.identity(), (first, second) -> first));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.asyncgate.guild_server.config;
 
+import com.asyncgate.guild_server.support.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableDiscoveryClient
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 public class DiscoveryClientConfig {
 }
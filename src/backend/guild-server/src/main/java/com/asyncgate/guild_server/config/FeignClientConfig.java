@@ -1,16 +1,36 @@
 package com.asyncgate.guild_server.config;
 
 import feign.Logger;
+import feign.Request;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @EnableFeignClients(basePackages = "com.asyncgate.guild_server.client")
 public class FeignClientConfig {
 
+    @Value("${feign.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${feign.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
     @Bean
     public Logger.Level feignLoggerLevel() {
         return Logger.Level.FULL;
     }
+
+    // 응답이 느린 서버 때문에 요청 스레드가 무한정 묶이지 않도록 타임아웃 지정
+    @Bean
+    public Request.Options feignRequestOptions() {
+        return new Request.Options(
+                connectTimeoutMs, TimeUnit.MILLISECONDS,
+                readTimeoutMs, TimeUnit.MILLISECONDS,
+                true
+        );
+    }
 }
@@ -0,0 +1,111 @@
+package com.asyncgate.guild_server.config;
+
+import com.asyncgate.guild_server.dto.event.CacheEvictionEvent;
+import com.asyncgate.guild_server.dto.event.DirectMessageActivityEvent;
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@EnableKafka
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    private Map<String, Object> consumerConfigurations() {
+        return Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest"
+        );
+    }
+
+    /**
+     * 멤버십 색인은 인스턴스별 임시 group 으로 최신 이벤트만 받으므로 오프셋을 커밋하지 않는다
+     * (MANUAL 모드에서 ack 하지 않음 → 커밋 없음, 커밋된 오프셋이 없어야 종료 후 group 이 정리됨)
+     */
+    @Bean
+    public ConsumerFactory<String, GuildChangeEvent> consumerFactoryForGuildChange() {
+        Map<String, Object> configurations = new HashMap<>(consumerConfigurations());
+        configurations.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        JsonDeserializer<GuildChangeEvent> deserializer = new JsonDeserializer<>(GuildChangeEvent.class);
+        deserializer.addTrustedPackages("*");
+        return new DefaultKafkaConsumerFactory<>(
+                configurations,
+                new StringDeserializer(),
+                deserializer
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, GuildChangeEvent> guildChangeFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, GuildChangeEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactoryForGuildChange());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, DirectMessageActivityEvent> consumerFactoryForDirectActivity() {
+        // chat-server 의 타입 헤더는 무시하고 필요한 필드만 역직렬화
+        JsonDeserializer<DirectMessageActivityEvent> deserializer = new JsonDeserializer<>(DirectMessageActivityEvent.class, false);
+        deserializer.addTrustedPackages("*");
+        return new DefaultKafkaConsumerFactory<>(
+                consumerConfigurations(),
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(deserializer)
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, DirectMessageActivityEvent> directActivityFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, DirectMessageActivityEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactoryForDirectActivity());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    /**
+     * 2차 캐시 제거 전파용 토픽 - 모든 인스턴스가 파티션 0 을 직접 할당받아 읽으므로 파티션은 하나
+     */
+    @Bean
+    public NewTopic cacheEvictionTopic(@Value("${guild.l2cache.eviction-topic:guild-l2-eviction}") final String topic) {
+        return TopicBuilder.name(topic).partitions(1).build();
+    }
+
+    // group 없이 직접 할당받아 읽으므로 오프셋을 커밋하지 않는다 (재시작 시 latest 부터)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CacheEvictionEvent> cacheEvictionFactory() {
+        Map<String, Object> configurations = new HashMap<>(consumerConfigurations());
+        configurations.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        JsonDeserializer<CacheEvictionEvent> deserializer = new JsonDeserializer<>(CacheEvictionEvent.class, false);
+        deserializer.addTrustedPackages("*");
+        ConcurrentKafkaListenerContainerFactory<String, CacheEvictionEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+                configurations,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(deserializer)
+        ));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+}
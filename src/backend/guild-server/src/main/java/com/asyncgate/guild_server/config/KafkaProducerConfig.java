@@ -0,0 +1,54 @@
+package com.asyncgate.guild_server.config;
+
+import com.asyncgate.guild_server.dto.event.CacheEvictionEvent;
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    private Map<String, Object> producerConfigurations() {
+        return Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class,
+                // relay 가 재시도해도 같은 파티션에 중복 기록되지 않도록
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.LINGER_MS_CONFIG, 5
+        );
+    }
+
+    @Bean
+    public ProducerFactory<String, GuildChangeEvent> producerFactoryForGuildChange() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, GuildChangeEvent> kafkaTemplateForGuildChange() {
+        return new KafkaTemplate<>(producerFactoryForGuildChange());
+    }
+
+    @Bean
+    public ProducerFactory<String, CacheEvictionEvent> producerFactoryForCacheEviction() {
+        return new DefaultKafkaProducerFactory<>(producerConfigurations());
+    }
+
+    @Bean
+    public KafkaTemplate<String, CacheEvictionEvent> kafkaTemplateForCacheEviction() {
+        return new KafkaTemplate<>(producerFactoryForCacheEviction());
+    }
+}
@@ -5,9 +5,14 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Executors;
 
 @Configuration
 public class S3Config {
@@ -18,6 +23,11 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.upload.threads:8}")
+    private int uploadThreads;
+    @Value("${cloud.aws.s3.upload.multipart-threshold:8MB}")
+    private DataSize multipartThreshold;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         return (AmazonS3Client) AmazonS3ClientBuilder.standard()
@@ -25,4 +35,14 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
                 .build();
     }
+
+    // 업로드는 고정 크기 스레드 풀에서 실행되고, threshold 이상인 파일은 multipart 로 병렬 업로드
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(final AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+                .build();
+    }
 }
@@ -1,8 +1,10 @@
 package com.asyncgate.guild_server.controller;
 
 import com.asyncgate.guild_server.controller.docs.ChannelControllerDocs;
+import com.asyncgate.guild_server.dto.request.ChannelBulkCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelUpdateRequest;
+import com.asyncgate.guild_server.dto.response.ChannelBulkCreateResponse;
 import com.asyncgate.guild_server.dto.response.ChannelResponse;
 import com.asyncgate.guild_server.service.ChannelService;
 import com.asyncgate.guild_server.support.response.SuccessResponse;
@@ -27,6 +29,16 @@ public class ChannelController implements ChannelControllerDocs {
         return SuccessResponse.created(response);
     }
 
+    @Override
+    @PostMapping("/bulk")
+    public SuccessResponse<ChannelBulkCreateResponse> createAll(
+            final @AuthenticationPrincipal String userId,
+            final @RequestBody ChannelBulkCreateRequest request
+    ) {
+        ChannelBulkCreateResponse response = channelService.createAll(userId, request);
+        return SuccessResponse.created(response);
+    }
+
     @Override
     @DeleteMapping("/{guildId}/{channelId}")
     public SuccessResponse<String> delete(
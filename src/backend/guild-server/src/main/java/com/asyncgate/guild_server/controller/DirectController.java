@@ -28,10 +28,12 @@ public class DirectController {
 
     @GetMapping
     public SuccessResponse<DirectResponses> get(
-            final @AuthenticationPrincipal String currentUserId
+            final @AuthenticationPrincipal String currentUserId,
+            final @RequestParam(required = false) String cursor,
+            final @RequestParam(defaultValue = "20") int size
     ) {
         return SuccessResponse.ok(
-                directService.getDirectList(currentUserId)
+                directService.getDirectList(currentUserId, cursor, size)
         );
     }
 
@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/guilds")
@@ -20,12 +22,12 @@ public class GuildController implements GuildControllerDocs {
 
     @Override
     @PostMapping
-    public SuccessResponse<GuildResponse> create(
+    public CompletableFuture<SuccessResponse<GuildResponse>> create(
             final @AuthenticationPrincipal String userId,
             final @ModelAttribute GuildRequest request
     ) {
-        GuildResponse response = guildService.create(userId, request);
-        return SuccessResponse.created(response);
+        return guildService.create(userId, request)
+                .thenApply(SuccessResponse::created);
     }
 
     @Override
@@ -59,13 +61,13 @@ public class GuildController implements GuildControllerDocs {
 
     @Override
     @PatchMapping("/{guildId}")
-    public SuccessResponse<GuildResponse> update(
+    public CompletableFuture<SuccessResponse<GuildResponse>> update(
             final @AuthenticationPrincipal String userId,
             final @PathVariable String guildId,
             final @ModelAttribute GuildRequest request
     ) {
-        GuildResponse response = guildService.update(userId, guildId, request);
-        return SuccessResponse.ok(response);
+        return guildService.update(userId, guildId, request)
+                .thenApply(SuccessResponse::ok);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.asyncgate.guild_server.controller;
 
 import com.asyncgate.guild_server.controller.docs.GuildMemberControllerDocs;
+import com.asyncgate.guild_server.dto.response.GuildInvitationResponses;
 import com.asyncgate.guild_server.service.GuildMemberService;
 import com.asyncgate.guild_server.support.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,19 @@ public class GuildMemberController implements GuildMemberControllerDocs {
         return SuccessResponse.created(String.format("User[%s]에게 초대가 성공적으로 전송되었습니다.", targetUserId));
     }
 
+    /**
+     * 받은 초대 목록 조회 (초대함)
+     */
+    @Override
+    @GetMapping("/invitations")
+    public SuccessResponse<GuildInvitationResponses> getPendingInvitations(
+            final @AuthenticationPrincipal String userId,
+            final @RequestParam(required = false) String cursor,
+            final @RequestParam(defaultValue = "20") int size
+    ) {
+        return SuccessResponse.ok(guildMemberService.findPendingInvitations(userId, cursor, size));
+    }
+
     /**
      * 초대 수락 (사용자가 초대를 수락하여 길드 가입)
      */
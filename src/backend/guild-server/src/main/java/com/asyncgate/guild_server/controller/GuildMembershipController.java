@@ -0,0 +1,80 @@
+package com.asyncgate.guild_server.controller;
+
+import com.asyncgate.guild_server.controller.docs.GuildMembershipControllerDocs;
+import com.asyncgate.guild_server.dto.request.MembershipLookupRequest;
+import com.asyncgate.guild_server.exception.FailType;
+import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.security.filter.InternalIdentityVerifier;
+import com.asyncgate.guild_server.service.GuildMemberService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/guilds/memberships")
+public class GuildMembershipController implements GuildMembershipControllerDocs {
+
+    private final GuildMemberService guildMemberService;
+    private final InternalIdentityVerifier internalIdentityVerifier;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @PostMapping("/users")
+    public ResponseEntity<StreamingResponseBody> getGuildIdsByUserIds(
+            final @RequestHeader(value = InternalIdentityVerifier.HEADER, required = false) String internalIdentity,
+            final @Valid @RequestBody MembershipLookupRequest request
+    ) {
+        verifyInternalCaller(internalIdentity);
+        Map<String, Set<String>> guildIds = guildMemberService.findGuildIdsByUserIds(request.getIds());
+        return stream(guildIds);
+    }
+
+    @Override
+    @PostMapping("/guilds")
+    public ResponseEntity<StreamingResponseBody> getMemberIdsByGuildIds(
+            final @RequestHeader(value = InternalIdentityVerifier.HEADER, required = false) String internalIdentity,
+            final @Valid @RequestBody MembershipLookupRequest request
+    ) {
+        verifyInternalCaller(internalIdentity);
+        Map<String, Set<String>> memberIds = guildMemberService.findMemberIdsByGuildIds(request.getIds());
+        return stream(memberIds);
+    }
+
+    // 게이트웨이를 거친 사용자 요청은 사용자 신원만 서명되어 있으므로 여기서 거절된다
+    private void verifyInternalCaller(final String internalIdentity) {
+        if (internalIdentityVerifier.verifyService(internalIdentity) == null) {
+            throw new GuildServerException(FailType.MEMBERSHIP_INTERNAL_ONLY);
+        }
+    }
+
+    /**
+     * 수천 건의 멤버십을 한 번에 내려주므로 응답 객체를 만들지 않고 JsonGenerator 로 바로 기록
+     */
+    private ResponseEntity<StreamingResponseBody> stream(final Map<String, Set<String>> memberships) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                for (Map.Entry<String, Set<String>> entry : memberships.entrySet()) {
+                    generator.writeArrayFieldStart(entry.getKey());
+                    for (String id : entry.getValue()) {
+                        generator.writeString(id);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
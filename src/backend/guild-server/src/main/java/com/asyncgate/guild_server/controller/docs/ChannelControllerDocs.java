@@ -1,7 +1,9 @@
 package com.asyncgate.guild_server.controller.docs;
 
+import com.asyncgate.guild_server.dto.request.ChannelBulkCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelUpdateRequest;
+import com.asyncgate.guild_server.dto.response.ChannelBulkCreateResponse;
 import com.asyncgate.guild_server.dto.response.ChannelResponse;
 import com.asyncgate.guild_server.support.response.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +28,17 @@ public interface ChannelControllerDocs {
             @RequestBody ChannelCreateRequest request
     );
 
+    @Operation(summary = "카테고리/채널 일괄 생성", description = "카테고리와 채널 트리를 한 번에 생성합니다. (길드 템플릿)")
+    @PostMapping("/bulk")
+    SuccessResponse<ChannelBulkCreateResponse> createAll(
+            @AuthenticationPrincipal String userId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "카테고리/채널 트리 요청 데이터",
+                    required = true
+            )
+            @RequestBody ChannelBulkCreateRequest request
+    );
+
     @Operation(summary = "채널 삭제", description = "길드 내 특정 카테고리를 삭제합니다.")
     @DeleteMapping("/{guildId}/{channelId}")
     SuccessResponse<String> delete(
@@ -15,6 +15,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "Guild API", description = "길드 관련 API")
 @SecurityRequirement(name = "JWT TOKEN")
 @RequestMapping("/guilds")
@@ -24,7 +26,7 @@ public interface GuildControllerDocs {
             requestBody = @RequestBody(content = @Content(mediaType = "multipart/form-data",
                     schema = @Schema(implementation = GuildRequest.class))))
     @PostMapping(consumes = "multipart/form-data")
-    SuccessResponse<GuildResponse> create(
+    CompletableFuture<SuccessResponse<GuildResponse>> create(
             @AuthenticationPrincipal String userId,
             @ModelAttribute GuildRequest request
     );
@@ -57,7 +59,7 @@ public interface GuildControllerDocs {
             requestBody = @RequestBody(content = @Content(mediaType = "multipart/form-data",
                     schema = @Schema(implementation = GuildRequest.class))))
     @PatchMapping(value = "/{guildId}", consumes = "multipart/form-data")
-    SuccessResponse<GuildResponse> update(
+    CompletableFuture<SuccessResponse<GuildResponse>> update(
             @AuthenticationPrincipal String userId,
 
             @Parameter(description = "길드 ID", required = true, example = "guild-12345")
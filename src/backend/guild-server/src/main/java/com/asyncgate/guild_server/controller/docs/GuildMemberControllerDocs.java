@@ -1,5 +1,6 @@
 package com.asyncgate.guild_server.controller.docs;
 
+import com.asyncgate.guild_server.dto.response.GuildInvitationResponses;
 import com.asyncgate.guild_server.support.response.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +26,18 @@ public interface GuildMemberControllerDocs {
             @RequestParam String targetUserId
     );
 
+    @Operation(summary = "받은 길드 초대 목록 조회", description = "사용자에게 도착한 대기 중인 초대를 최근 순으로 조회합니다.")
+    @GetMapping("/invitations")
+    SuccessResponse<GuildInvitationResponses> getPendingInvitations(
+            @AuthenticationPrincipal String userId,
+
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)", example = "MjAyNS0wMS0wMVQxMjowMHxpZA")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    );
+
     @Operation(summary = "길드 초대 수락", description = "사용자가 초대를 수락하여 길드에 가입합니다.")
     @PatchMapping("/{guildId}/invitations/accept")
     SuccessResponse<String> acceptInvitation(
@@ -0,0 +1,35 @@
+package com.asyncgate.guild_server.controller.docs;
+
+import com.asyncgate.guild_server.dto.request.MembershipLookupRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Guild Membership API", description = "서비스 간 멤버십 일괄 조회 API (내부 서비스 신원 헤더 필요)")
+@SecurityRequirement(name = "JWT TOKEN")
+@RequestMapping("/guilds/memberships")
+public interface GuildMembershipControllerDocs {
+
+    @Operation(summary = "사용자별 길드 ID 일괄 조회",
+            description = "여러 사용자가 가입한 길드 ID 목록을 { userId: [guildId, ...] } 형태의 JSON 스트림으로 반환합니다.")
+    @PostMapping("/users")
+    ResponseEntity<StreamingResponseBody> getGuildIdsByUserIds(
+            @Parameter(hidden = true) @RequestHeader(value = "X-Internal-Identity", required = false) String internalIdentity,
+            @RequestBody MembershipLookupRequest request
+    );
+
+    @Operation(summary = "길드별 멤버 ID 일괄 조회",
+            description = "여러 길드의 멤버 ID 목록을 { guildId: [userId, ...] } 형태의 JSON 스트림으로 반환합니다.")
+    @PostMapping("/guilds")
+    ResponseEntity<StreamingResponseBody> getMemberIdsByGuildIds(
+            @Parameter(hidden = true) @RequestHeader(value = "X-Internal-Identity", required = false) String internalIdentity,
+            @RequestBody MembershipLookupRequest request
+    );
+}
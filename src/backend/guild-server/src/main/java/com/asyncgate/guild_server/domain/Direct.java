@@ -3,25 +3,47 @@ package com.asyncgate.guild_server.domain;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Getter
 public class Direct {
 
     private final String id;
+    private final String memberKey;
     private LocalDateTime createdDate;
+    private LocalDateTime lastActivityAt;
 
     @Builder
-    private Direct(String id, LocalDateTime createdDate) {
+    private Direct(String id, String memberKey, LocalDateTime createdDate, LocalDateTime lastActivityAt) {
         this.id = id;
+        this.memberKey = memberKey;
         this.createdDate = createdDate;
+        this.lastActivityAt = lastActivityAt;
     }
 
-    public static Direct create() {
+    // 같은 멤버 구성이면 항상 같은 id 가 되도록 memberKey 로부터 id 생성
+    public static Direct create(final String memberKey) {
         return Direct.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.nameUUIDFromBytes(memberKey.getBytes(StandardCharsets.UTF_8)).toString())
+                .memberKey(memberKey)
+                .lastActivityAt(LocalDateTime.now())
                 .build();
     }
+
+    // 정렬된 멤버 id 목록의 SHA-256 (멤버 구성의 정규 키)
+    public static String memberKeyOf(final Collection<String> memberIds) {
+        String joined = String.join(",", memberIds.stream().distinct().sorted().toList());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(joined.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
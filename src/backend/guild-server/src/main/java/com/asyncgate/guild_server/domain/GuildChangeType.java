@@ -0,0 +1,27 @@
+package com.asyncgate.guild_server.domain;
+
+public enum GuildChangeType {
+
+    // 길드
+    GUILD_CREATED,
+    GUILD_UPDATED,
+    GUILD_DELETED,
+
+    // 카테고리
+    CATEGORY_CREATED,
+    CATEGORY_DELETED,
+
+    // 채널
+    CHANNEL_CREATED,
+    CHANNEL_UPDATED,
+    CHANNEL_DELETED,
+
+    // 길드 멤버
+    MEMBER_INVITED,
+    MEMBER_JOINED,
+    MEMBER_REJECTED,
+    MEMBER_CANCELED,
+    MEMBER_EXPIRED,
+
+    ;
+}
@@ -0,0 +1,45 @@
+package com.asyncgate.guild_server.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class GuildCleanupJob implements Identifiable {
+    private final String id;
+    private final String guildId;
+    private GuildCleanupStage stage;
+    private long purgedCount;
+
+    @Builder
+    private GuildCleanupJob(String id, String guildId, GuildCleanupStage stage, long purgedCount) {
+        this.id = id;
+        this.guildId = guildId;
+        this.stage = stage;
+        this.purgedCount = purgedCount;
+    }
+
+    /**
+     * 길드 삭제 시 하위 데이터 정리 작업 등록
+     */
+    public static GuildCleanupJob create(final String guildId) {
+        String id = UUID.randomUUID().toString();
+        return new GuildCleanupJob(id, guildId, GuildCleanupStage.GUILD_MEMBER, 0L);
+    }
+
+    /**
+     * 청크 단위 정리 결과 반영 (정리할 행이 없으면 다음 단계로 진행)
+     */
+    public void progress(final int purged) {
+        if (purged == 0) {
+            this.stage = this.stage.next();
+            return;
+        }
+        this.purgedCount += purged;
+    }
+
+    public boolean isCompleted() {
+        return this.stage == GuildCleanupStage.COMPLETED;
+    }
+}
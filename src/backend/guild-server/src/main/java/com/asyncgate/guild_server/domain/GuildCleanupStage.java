@@ -0,0 +1,22 @@
+package com.asyncgate.guild_server.domain;
+
+public enum GuildCleanupStage {
+
+    // 길드 멤버 정리
+    GUILD_MEMBER,
+    // 카테고리 정리
+    CATEGORY,
+    // 채널 정리
+    CHANNEL,
+    // 정리 완료
+    COMPLETED,
+
+    ;
+
+    public GuildCleanupStage next() {
+        if (this == COMPLETED) {
+            return COMPLETED;
+        }
+        return values()[ordinal() + 1];
+    }
+}
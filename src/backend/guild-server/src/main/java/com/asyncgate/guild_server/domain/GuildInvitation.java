@@ -0,0 +1,15 @@
+package com.asyncgate.guild_server.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자에게 도착한 PENDING 초대 (guild_member + guild 조인 결과)
+ */
+public record GuildInvitation(
+        String id,
+        String guildId,
+        String guildName,
+        String guildProfileImageUrl,
+        LocalDateTime invitedAt
+) {
+}
@@ -0,0 +1,40 @@
+package com.asyncgate.guild_server.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class GuildOutboxEvent {
+    private final Long id;
+    private final String eventId;
+    private final GuildChangeType changeType;
+    private final String guildId;
+    private final String targetId;
+    private LocalDateTime createdDate;
+
+    @Builder
+    private GuildOutboxEvent(Long id, String eventId, GuildChangeType changeType,
+                             String guildId, String targetId, LocalDateTime createdDate) {
+        this.id = id;
+        this.eventId = eventId;
+        this.changeType = changeType;
+        this.guildId = guildId;
+        this.targetId = targetId;
+        this.createdDate = createdDate;
+    }
+
+    /**
+     * targetId: 변경된 카테고리/채널 ID 또는 멤버의 userId (길드 자체 변경이면 guildId)
+     */
+    public static GuildOutboxEvent create(final GuildChangeType changeType, final String guildId, final String targetId) {
+        return GuildOutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .changeType(changeType)
+                .guildId(guildId)
+                .targetId(targetId)
+                .build();
+    }
+}
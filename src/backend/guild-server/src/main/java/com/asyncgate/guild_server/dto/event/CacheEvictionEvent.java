@@ -0,0 +1,13 @@
+package com.asyncgate.guild_server.dto.event;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스의 2차 캐시 제거 요청 (ids 가 비어 있으면 region 전체)
+ */
+public record CacheEvictionEvent(
+        String sourceId,
+        String entityClass,
+        List<String> ids
+) {
+}
@@ -0,0 +1,15 @@
+package com.asyncgate.guild_server.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * chat-server 가 발행하는 DM 메시지 중 활동 시각 갱신에 필요한 필드만 역직렬화
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DirectMessageActivityEvent(
+        String channelId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.asyncgate.guild_server.dto.event;
+
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+
+import java.time.LocalDateTime;
+
+public record GuildChangeEvent(
+        String eventId,
+        GuildChangeType changeType,
+        String guildId,
+        String targetId,
+        LocalDateTime occurredAt
+) {
+    public static GuildChangeEvent from(final GuildOutboxEvent outboxEvent) {
+        return new GuildChangeEvent(
+                outboxEvent.getEventId(),
+                outboxEvent.getChangeType(),
+                outboxEvent.getGuildId(),
+                outboxEvent.getTargetId(),
+                outboxEvent.getCreatedDate()
+        );
+    }
+}
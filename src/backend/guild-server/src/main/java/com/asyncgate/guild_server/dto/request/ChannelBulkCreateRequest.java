@@ -0,0 +1,75 @@
+package com.asyncgate.guild_server.dto.request;
+
+import com.asyncgate.guild_server.domain.ChannelType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "카테고리/채널 일괄 생성 요청 DTO (길드 템플릿)")
+public class ChannelBulkCreateRequest {
+
+    @Schema(description = "길드 ID", example = "guild-12345")
+    @NotBlank(message = "guildId는 필수입니다.")
+    private String guildId;
+
+    @Schema(description = "생성할 카테고리와 하위 채널 목록")
+    private List<CategoryNode> categories;
+
+    @Schema(description = "카테고리 없이 생성할 채널 목록")
+    private List<ChannelNode> channels;
+
+    public List<CategoryNode> getCategories() {
+        return categories == null ? List.of() : categories;
+    }
+
+    public List<ChannelNode> getChannels() {
+        return channels == null ? List.of() : channels;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "카테고리 노드")
+    public static class CategoryNode {
+
+        @Schema(description = "카테고리 이름", example = "Raid Planning")
+        @NotBlank(message = "카테고리 이름은 필수 입력 값입니다.")
+        private String name;
+
+        @Schema(description = "비공개 여부", example = "false")
+        private boolean isPrivate;
+
+        @Schema(description = "카테고리 하위 채널 목록")
+        private List<ChannelNode> channels;
+
+        public List<ChannelNode> getChannels() {
+            return channels == null ? List.of() : channels;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "채널 노드")
+    public static class ChannelNode {
+
+        @Schema(description = "채널 이름", example = "General Chat")
+        @NotBlank(message = "채널 이름은 비어있을 수 없습니다.")
+        private String name;
+
+        @Schema(description = "비공개 여부", example = "false")
+        private boolean isPrivate;
+
+        @Schema(description = "채널 타입 (VOICE 또는 TEXT)", example = "TEXT")
+        @Pattern(regexp = "VOICE|TEXT", message = "채널 타입은 VOICE 또는 TEXT만 가능합니다.")
+        private String channelType;
+
+        public ChannelType getChannelType() {
+            return ChannelType.from(channelType);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.asyncgate.guild_server.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멤버십 일괄 조회 요청 DTO")
+public class MembershipLookupRequest {
+
+    @Schema(description = "조회할 사용자 ID 또는 길드 ID 목록", example = "[\"user-56789\", \"user-12345\"]")
+    @NotNull(message = "조회할 ID 목록은 필수 입력 값입니다.")
+    private List<@NotBlank(message = "ID 는 비어 있을 수 없습니다.") String> ids;
+}
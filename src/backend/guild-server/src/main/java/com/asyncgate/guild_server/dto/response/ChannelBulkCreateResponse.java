@@ -0,0 +1,28 @@
+package com.asyncgate.guild_server.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "카테고리/채널 일괄 생성 응답 DTO")
+public record ChannelBulkCreateResponse(
+        @Schema(description = "길드 ID", example = "guild-12345")
+        String guildId,
+
+        @Schema(description = "생성된 카테고리와 하위 채널 목록")
+        List<CategoryTreeResponse> categories,
+
+        @Schema(description = "카테고리 없이 생성된 채널 목록")
+        List<ChannelResponse> channels
+) {
+
+    @Schema(description = "카테고리와 하위 채널")
+    public record CategoryTreeResponse(
+            @Schema(description = "카테고리 정보")
+            CategoryResponse category,
+
+            @Schema(description = "카테고리 하위 채널 목록")
+            List<ChannelResponse> channels
+    ) {
+    }
+}
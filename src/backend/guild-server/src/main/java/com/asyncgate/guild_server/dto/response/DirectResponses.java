@@ -2,9 +2,9 @@ package com.asyncgate.guild_server.dto.response;
 
 import java.util.List;
 
-public record DirectResponses(List<DirectResponse> directResponses) {
+public record DirectResponses(List<DirectResponse> directResponses, String nextCursor) {
 
-    public static DirectResponses from(final List<DirectResponse> directResponses) {
-        return new DirectResponses(directResponses);
+    public static DirectResponses of(final List<DirectResponse> directResponses, final String nextCursor) {
+        return new DirectResponses(directResponses, nextCursor);
     }
 }
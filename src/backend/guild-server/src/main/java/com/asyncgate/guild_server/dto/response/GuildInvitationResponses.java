@@ -0,0 +1,48 @@
+package com.asyncgate.guild_server.dto.response;
+
+import com.asyncgate.guild_server.domain.GuildInvitation;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "받은 길드 초대 목록 응답 DTO")
+public record GuildInvitationResponses(
+        @Schema(description = "초대 목록 (최근 초대 순)")
+        List<InnerInvitationResponse> responses,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor
+) {
+
+    public static GuildInvitationResponses of(final List<GuildInvitation> invitations, final String nextCursor) {
+        List<InnerInvitationResponse> innerInvitations = invitations.stream()
+                .map(
+                        invitation -> new InnerInvitationResponse(
+                                invitation.id(), invitation.guildId(), invitation.guildName(),
+                                invitation.guildProfileImageUrl(), invitation.invitedAt()
+                        )
+                )
+                .toList();
+        return new GuildInvitationResponses(innerInvitations, nextCursor);
+    }
+
+    @Schema(description = "길드 초대 정보 DTO")
+    private record InnerInvitationResponse(
+            @Schema(description = "초대 ID", example = "invitation-12345")
+            String invitationId,
+
+            @Schema(description = "길드 ID", example = "guild-12345")
+            String guildId,
+
+            @Schema(description = "길드 이름", example = "Knight's Order")
+            String guildName,
+
+            @Schema(description = "길드 프로필 이미지 URL", example = "https://cdn.example.com/images/guild123.png")
+            String guildProfileImageUrl,
+
+            @Schema(description = "초대 시각", example = "2025-01-01T12:00:00")
+            LocalDateTime invitedAt
+    ) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.asyncgate.guild_server.dto.response;
 
 import com.asyncgate.guild_server.domain.Guild;
+import com.asyncgate.guild_server.support.image.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.Map;
+
 @Schema(description = "길드 응답 DTO")
 public record GuildResponse(
         @Schema(description = "길드 ID", example = "guild-12345")
@@ -15,9 +18,15 @@ public record GuildResponse(
         boolean isPrivate,
 
         @Schema(description = "프로필 이미지 URL", example = "https://cdn.example.com/images/guild123.png")
-        String profileImageUrl
+        String profileImageUrl,
+
+        @Schema(description = "리사이즈된 프로필 이미지 URL (SMALL: 64px, MEDIUM: 256px)")
+        Map<ImageVariant, String> profileImageVariants
 ) {
     public static GuildResponse from(final Guild guild) {
-        return new GuildResponse(guild.getId(), guild.getName(), guild.isPrivate(), guild.getProfileImageUrl());
+        return new GuildResponse(
+                guild.getId(), guild.getName(), guild.isPrivate(), guild.getProfileImageUrl(),
+                ImageVariant.urlsOf(guild.getProfileImageUrl())
+        );
     }
 }
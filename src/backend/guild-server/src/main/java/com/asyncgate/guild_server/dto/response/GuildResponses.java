@@ -1,9 +1,11 @@
 package com.asyncgate.guild_server.dto.response;
 
 import com.asyncgate.guild_server.domain.Guild;
+import com.asyncgate.guild_server.support.image.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "길드 목록 응답 DTO")
 public record GuildResponses(
@@ -20,7 +22,8 @@ public record GuildResponses(
         return guilds.stream()
                 .map(
                         guild -> new InnerGuildResponse(
-                                guild.getId(), guild.getName(), guild.getProfileImageUrl()
+                                guild.getId(), guild.getName(), guild.getProfileImageUrl(),
+                                ImageVariant.urlsOf(guild.getProfileImageUrl())
                         )
                 )
                 .toList();
@@ -35,7 +38,10 @@ public record GuildResponses(
             String name,
 
             @Schema(description = "프로필 이미지 URL", example = "https://cdn.example.com/images/guild123.png")
-            String profileImageUrl
+            String profileImageUrl,
+
+            @Schema(description = "리사이즈된 프로필 이미지 URL (SMALL: 64px, MEDIUM: 256px)")
+            Map<ImageVariant, String> profileImageVariants
     ) {
     }
 }
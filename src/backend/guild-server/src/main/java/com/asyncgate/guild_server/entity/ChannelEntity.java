@@ -1,19 +1,27 @@
 package com.asyncgate.guild_server.entity;
 
 import com.asyncgate.guild_server.domain.ChannelType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
-@Table(name = "channel")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "channel", indexes = {
+        @Index(name = "idx_channel_guild_id_deleted", columnList = "guildId, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChannelEntity extends BaseEntity {
 
@@ -1,24 +1,41 @@
 package com.asyncgate.guild_server.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
-@Table(name = "direct")
+@Table(name = "direct", indexes = {
+        @Index(name = "idx_direct_last_activity_at", columnList = "lastActivityAt, id"),
+        @Index(name = "uk_direct_member_key", columnList = "memberKey", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DirectEntity extends BaseEntity {
 
     @Id
     private String id;
 
+    // 정렬된 멤버 id 의 해시 (같은 멤버 구성의 DM 중복 생성 방지)
+    @Column(length = 64)
+    private String memberKey;
+
+    // 마지막 메시지 시각 (DM 목록 정렬 기준, 생성 시 생성 시각으로 채움)
+    @Column(nullable = false)
+    private LocalDateTime lastActivityAt;
+
     @Builder
-    private DirectEntity(String id) {
+    private DirectEntity(String id, String memberKey, LocalDateTime lastActivityAt) {
         this.id = id;
+        this.memberKey = memberKey;
+        this.lastActivityAt = lastActivityAt;
     }
 }
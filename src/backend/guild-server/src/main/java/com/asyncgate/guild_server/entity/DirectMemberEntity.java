@@ -2,6 +2,7 @@ package com.asyncgate.guild_server.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,7 +11,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "direct_member")
+@Table(name = "direct_member", indexes = {
+        @Index(name = "idx_direct_member_member_id_deleted", columnList = "memberId, deleted"),
+        @Index(name = "idx_direct_member_direct_id", columnList = "directId")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DirectMemberEntity extends BaseEntity {
 
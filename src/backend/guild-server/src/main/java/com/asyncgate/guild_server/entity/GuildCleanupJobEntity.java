@@ -0,0 +1,37 @@
+package com.asyncgate.guild_server.entity;
+
+import com.asyncgate.guild_server.domain.GuildCleanupStage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "guild_cleanup_job", indexes = {
+        @Index(name = "idx_guild_cleanup_job_stage", columnList = "stage, createdDate")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GuildCleanupJobEntity extends BaseEntity {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false, unique = true)
+    private String guildId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GuildCleanupStage stage;
+
+    private long purgedCount;
+
+    @Builder
+    private GuildCleanupJobEntity(String id, String guildId, GuildCleanupStage stage, long purgedCount) {
+        this.id = id;
+        this.guildId = guildId;
+        this.stage = stage;
+        this.purgedCount = purgedCount;
+    }
+}
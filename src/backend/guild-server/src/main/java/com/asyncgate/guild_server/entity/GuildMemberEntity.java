@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,7 +15,11 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "guild_member")
+@Table(name = "guild_member", indexes = {
+        @Index(name = "idx_guild_member_guild_id_deleted", columnList = "guildId, deleted"),
+        @Index(name = "idx_guild_member_status_created_date", columnList = "status, createdDate"),
+        @Index(name = "idx_guild_member_user_id_status_deleted", columnList = "userId, status, deleted, createdDate")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GuildMemberEntity extends BaseEntity {
 
@@ -0,0 +1,41 @@
+package com.asyncgate.guild_server.entity;
+
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "guild_outbox_event")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GuildOutboxEventEntity extends BaseTimeEntity {
+
+    // 발행 순서 보장을 위해 auto increment 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GuildChangeType changeType;
+
+    @Column(nullable = false)
+    private String guildId;
+
+    private String targetId;
+
+    @Builder
+    private GuildOutboxEventEntity(Long id, String eventId, GuildChangeType changeType, String guildId, String targetId) {
+        this.id = id;
+        this.eventId = eventId;
+        this.changeType = changeType;
+        this.guildId = guildId;
+        this.targetId = targetId;
+    }
+}
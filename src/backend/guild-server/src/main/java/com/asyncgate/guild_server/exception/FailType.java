@@ -12,6 +12,7 @@ public enum FailType {
     _JWT_INVALID_TOKEN(HttpStatus.INTERNAL_SERVER_ERROR, "Jwt5001", "Api GateWay에서 전달된 토큰이 잘못된 토큰입니다."),
 
     ARGUMENT_BAD_REQUEST(HttpStatus.BAD_REQUEST, "Argument_4001", "입력된 값이 잘못되었습니다."),
+    CURSOR_BAD_REQUEST(HttpStatus.BAD_REQUEST, "Argument_4002", "잘못된 페이지 커서입니다."),
 
     // 알 수 없는 에러
     _UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Server_5000", "알 수 없는 에러가 발생하였습니다."),
@@ -20,6 +21,9 @@ public enum FailType {
     _UPLOAD_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5001", "S3 이미지 업로드에 실패하였습니다."),
     _DELETE_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5002", "S3 이미지 제거에 실패하였습니다."),
     _FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "S3_5003", "파일이 S3에 존재하지 않습니다."),
+    _UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S3_5031", "업로드 요청이 많아 잠시 후 다시 시도해주세요."),
+    FILE_TYPE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "S3_4001", "지원하지 않는 이미지 형식입니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "S3_4131", "업로드 가능한 파일 크기를 초과했습니다."),
 
     // Guild
     GUILD_NOT_FOUND(HttpStatus.NOT_FOUND, "Guild_4041", "Guild를 찾을 수 없습니다."),
@@ -32,6 +36,7 @@ public enum FailType {
     // Channel
     CHANNEL_BAD_REQUEST(HttpStatus.BAD_REQUEST, "Channel_4001", "채널 타입은 VOICE 또는 TEXT만 가능합니다."),
     CHANNEL_NOT_FOUND(HttpStatus.NOT_FOUND, "Channel_4041", "채널을 찾을 수 없습니다."),
+    CHANNEL_STRUCTURE_TOO_LARGE(HttpStatus.BAD_REQUEST, "Channel_4002", "한 번에 생성할 수 있는 채널 수를 초과했습니다."),
 
     // Guild Invitation
     INVITATION_NOT_FOUND(HttpStatus.NOT_FOUND, "Invitation_4041", "해당 초대를 찾을 수 없습니다."),
@@ -41,6 +46,10 @@ public enum FailType {
     INVITATION_ALREADY_EXPIRED(HttpStatus.BAD_REQUEST, "Invitation_4004", "이미 만료된 초대입니다."),
     INVITATION_INVALID_STATUS(HttpStatus.BAD_REQUEST, "Invitation_4005", "잘못된 초대 상태입니다."),
 
+    // Membership
+    MEMBERSHIP_LOOKUP_TOO_LARGE(HttpStatus.BAD_REQUEST, "Membership_4001", "한 번에 조회할 수 있는 ID 개수를 초과하였습니다."),
+    MEMBERSHIP_INTERNAL_ONLY(HttpStatus.FORBIDDEN, "Membership_4031", "내부 서비스만 호출할 수 있는 API 입니다."),
+
     ;
 
     private final HttpStatus status;
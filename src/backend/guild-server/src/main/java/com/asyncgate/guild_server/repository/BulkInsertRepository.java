@@ -0,0 +1,46 @@
+package com.asyncgate.guild_server.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * id 를 직접 부여하는 엔티티를 merge(존재 여부 SELECT) 없이 persist 하여 JDBC batch insert 로 저장
+ */
+@Repository
+public class BulkInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize;
+
+    /**
+     * 배치 단위로 flush 한 뒤 방금 저장한 엔티티만 detach (호출 측이 관리 중인 다른 엔티티는 영속 상태 유지)
+     */
+    public <T> void persistAll(final List<T> entities) {
+        int flushedUntil = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndDetach(entities, flushedUntil, i + 1);
+                flushedUntil = i + 1;
+            }
+        }
+        flushAndDetach(entities, flushedUntil, entities.size());
+    }
+
+    private <T> void flushAndDetach(final List<T> entities, final int from, final int to) {
+        if (from == to) {
+            return;
+        }
+        entityManager.flush();
+        for (int i = from; i < to; i++) {
+            entityManager.detach(entities.get(i));
+        }
+    }
+}
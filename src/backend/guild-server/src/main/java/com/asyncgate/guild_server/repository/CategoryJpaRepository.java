@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, String> {
@@ -18,7 +19,7 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, Str
     void softDeleteById(@Param("categoryId") String categoryId);
 
     @Modifying
-    @Query("UPDATE CategoryEntity c SET c.deleted = true WHERE c.guildId = :guildId AND c.deleted = false")
-    void softDeleteAllByGuildId(@Param("guildId") String guildId);
+    @Query("UPDATE CategoryEntity c SET c.deleted = true WHERE c.id IN :categoryIds AND c.deleted = false")
+    int softDeleteAllByIds(@Param("categoryIds") List<String> categoryIds);
 
 }
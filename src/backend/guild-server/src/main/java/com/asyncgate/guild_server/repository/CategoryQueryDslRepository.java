@@ -26,6 +26,18 @@ public class CategoryQueryDslRepository {
                 .fetch();
     }
 
+    public List<String> findActiveIdsByGuildId(final String guildId, final long limit) {
+        return queryFactory
+                .select(category.id)
+                .from(category)
+                .where(
+                        category.guildId.eq(guildId),
+                        category.deleted.isFalse()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
     public boolean existsById(final String categoryId) {
         Integer fetchOne = queryFactory
                 .selectOne()
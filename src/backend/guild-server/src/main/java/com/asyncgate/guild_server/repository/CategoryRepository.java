@@ -7,9 +7,11 @@ import java.util.List;
 public interface CategoryRepository {
     void save(Category category);
 
+    void saveAll(List<Category> categories);
+
     void deleteById(String categoryId);
 
-    void deleteAllByGuildId(String guildId);
+    int deleteChunkByGuildId(String guildId, int chunkSize);
 
     List<Category> findActiveAllByGuildId(String guildId);
 
@@ -2,6 +2,7 @@ package com.asyncgate.guild_server.repository;
 
 import com.asyncgate.guild_server.domain.Category;
 import com.asyncgate.guild_server.entity.CategoryEntity;
+import com.asyncgate.guild_server.support.cache.SecondLevelCacheEvictor;
 import com.asyncgate.guild_server.support.utility.DomainUtil.CategoryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -14,21 +15,40 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
     private final CategoryJpaRepository jpaRepository;
     private final CategoryQueryDslRepository queryDslRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
 
     @Override
     public void save(final Category category) {
         CategoryEntity categoryEntity = CategoryMapper.toEntity(category);
         jpaRepository.save(categoryEntity);
+        cacheEvictor.evict(CategoryEntity.class, categoryEntity.getId());
+    }
+
+    @Override
+    public void saveAll(final List<Category> categories) {
+        bulkInsertRepository.persistAll(
+                categories.stream()
+                        .map(CategoryMapper::toEntity)
+                        .toList()
+        );
     }
 
     @Override
     public void deleteById(final String categoryId) {
         jpaRepository.softDeleteById(categoryId);
+        cacheEvictor.evict(CategoryEntity.class, categoryId);
     }
 
     @Override
-    public void deleteAllByGuildId(final String guildId) {
-        jpaRepository.softDeleteAllByGuildId(guildId);
+    public int deleteChunkByGuildId(final String guildId, final int chunkSize) {
+        List<String> categoryIds = queryDslRepository.findActiveIdsByGuildId(guildId, chunkSize);
+        if (categoryIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = jpaRepository.softDeleteAllByIds(categoryIds);
+        cacheEvictor.evictAll(CategoryEntity.class, categoryIds);
+        return deleted;
     }
 
     @Override
@@ -6,20 +6,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface ChannelJpaRepository extends JpaRepository<ChannelEntity, String> {
 
-    @Query("SELECT c FROM ChannelEntity c WHERE c.id = :id AND c.deleted = false")
-    Optional<ChannelEntity> findActiveById(String id);
-
     @Modifying
     @Query("UPDATE ChannelEntity c SET c.deleted = true WHERE c.categoryId = :categoryId")
     void softDeleteById(@Param("categoryId") String categoryId);
 
     @Modifying
-    @Query("UPDATE ChannelEntity c SET c.deleted = true WHERE c.guildId = :guildId AND c.deleted = false")
-    void softDeleteAllByGuildId(@Param("guildId") String guildId);
+    @Query("UPDATE ChannelEntity c SET c.deleted = true WHERE c.id IN :channelIds AND c.deleted = false")
+    int softDeleteAllByIds(@Param("channelIds") List<String> channelIds);
 
     @Modifying
     @Query("UPDATE ChannelEntity c SET c.deleted = true WHERE c.categoryId = :categoryId AND c.deleted = false")
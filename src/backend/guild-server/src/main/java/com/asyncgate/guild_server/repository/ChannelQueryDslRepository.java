@@ -25,4 +25,16 @@ public class ChannelQueryDslRepository {
                 )
                 .fetch();
     }
+
+    public List<String> findActiveIdsByGuildId(final String guildId, final long limit) {
+        return queryFactory
+                .select(channel.id)
+                .from(channel)
+                .where(
+                        channel.guildId.eq(guildId),
+                        channel.deleted.isFalse()
+                )
+                .limit(limit)
+                .fetch();
+    }
 }
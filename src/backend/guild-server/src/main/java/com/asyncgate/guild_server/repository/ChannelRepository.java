@@ -7,9 +7,11 @@ import java.util.List;
 public interface ChannelRepository {
     void save(Channel channel);
 
+    void saveAll(List<Channel> channels);
+
     void delete(String categoryId);
 
-    void deleteAllByGuildId(String guildId);
+    int deleteChunkByGuildId(String guildId, int chunkSize);
 
     void deleteAllByCategoryId(String categoryId);
 
@@ -4,6 +4,7 @@ import com.asyncgate.guild_server.domain.Channel;
 import com.asyncgate.guild_server.entity.ChannelEntity;
 import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.support.cache.SecondLevelCacheEvictor;
 import com.asyncgate.guild_server.support.utility.DomainUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -16,31 +17,52 @@ public class ChannelRepositoryImpl implements ChannelRepository {
 
     private final ChannelJpaRepository jpaRepository;
     private final ChannelQueryDslRepository queryDslRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
 
     @Override
     public void save(final Channel channel) {
         ChannelEntity channelEntity = DomainUtil.ChannelMapper.toEntity(channel);
         jpaRepository.save(channelEntity);
+        cacheEvictor.evict(ChannelEntity.class, channelEntity.getId());
+    }
+
+    @Override
+    public void saveAll(final List<Channel> channels) {
+        bulkInsertRepository.persistAll(
+                channels.stream()
+                        .map(DomainUtil.ChannelMapper::toEntity)
+                        .toList()
+        );
     }
 
     @Override
     public void delete(final String categoryId) {
         jpaRepository.softDeleteById(categoryId);
+        cacheEvictor.evict(ChannelEntity.class, categoryId);
     }
 
     @Override
-    public void deleteAllByGuildId(final String guildId) {
-        jpaRepository.softDeleteAllByGuildId(guildId);
+    public int deleteChunkByGuildId(final String guildId, final int chunkSize) {
+        List<String> channelIds = queryDslRepository.findActiveIdsByGuildId(guildId, chunkSize);
+        if (channelIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = jpaRepository.softDeleteAllByIds(channelIds);
+        cacheEvictor.evictAll(ChannelEntity.class, channelIds);
+        return deleted;
     }
 
     @Override
     public void deleteAllByCategoryId(final String categoryId) {
         jpaRepository.softDeleteAllByCategoryId(categoryId);
+        cacheEvictor.evictRegion(ChannelEntity.class);
     }
 
     @Override
     public Channel getById(final String channelId) {
-        ChannelEntity channelEntity = jpaRepository.findActiveById(channelId)
+        ChannelEntity channelEntity = jpaRepository.findById(channelId)
+                .filter(entity -> !entity.isDeleted())
                 .orElseThrow(() -> new GuildServerException(FailType.CHANNEL_NOT_FOUND));
         return DomainUtil.ChannelMapper.toDomain(channelEntity);
     }
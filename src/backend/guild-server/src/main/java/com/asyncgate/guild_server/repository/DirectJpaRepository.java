@@ -1,7 +1,37 @@
 package com.asyncgate.guild_server.repository;
 
 import com.asyncgate.guild_server.entity.DirectEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface DirectJpaRepository extends JpaRepository<DirectEntity, String> {
+
+    Optional<DirectEntity> findByMemberKeyAndDeletedFalse(String memberKey);
+
+    // INSERT IGNORE 와 충돌한 행은 방금 다른 트랜잭션이 커밋했을 수 있으므로 snapshot 이 아닌 잠금 읽기로 조회
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<DirectEntity> findByMemberKey(String memberKey);
+
+    // 동시에 같은 멤버 구성으로 생성 요청이 들어오면 한 건만 삽입 (트랜잭션을 rollback-only 로 만들지 않음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO direct (id, member_key, last_activity_at, deleted, created_by, last_modified_by, created_date, last_modified_date) " +
+            "VALUES (:#{#direct.id}, :#{#direct.memberKey}, COALESCE(:#{#direct.lastActivityAt}, now(6)), false, :createdBy, :createdBy, now(6), now(6))",
+            nativeQuery = true)
+    int insertIgnore(@Param("direct") DirectEntity direct, @Param("createdBy") String createdBy);
+
+    // soft delete 된 같은 멤버 구성의 DM 을 되살림 (id 가 memberKey 로부터 결정되므로 새로 삽입할 수 없음)
+    @Modifying
+    @Query("UPDATE DirectEntity d SET d.deleted = false, d.lastActivityAt = :now WHERE d.memberKey = :memberKey AND d.deleted = true")
+    int reactivateByMemberKey(@Param("memberKey") String memberKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE DirectEntity d SET d.lastActivityAt = :activityAt WHERE d.id = :directId AND d.lastActivityAt < :activityAt")
+    int updateLastActivityAt(@Param("directId") String directId, @Param("activityAt") LocalDateTime activityAt);
 }
@@ -2,6 +2,13 @@ package com.asyncgate.guild_server.repository;
 
 import com.asyncgate.guild_server.entity.DirectMemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DirectMemberJpaRepository extends JpaRepository<DirectMemberEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE DirectMemberEntity m SET m.deleted = false WHERE m.directId = :directId AND m.deleted = true")
+    int reactivateByDirectId(@Param("directId") String directId);
 }
@@ -15,21 +15,13 @@ public class DirectMemberQueryDslRepository {
     private final JPAQueryFactory queryFactory;
     private final QDirectMemberEntity directMemberEntity = QDirectMemberEntity.directMemberEntity;
 
-    public List<DirectMemberEntity> getDirectMessageList(final String currentUserId) {
-        // Sub Query: 현재 사용자가 참여한 directId 목록
-        var subquery = queryFactory
-                .select(directMemberEntity.directId)
-                .from(directMemberEntity)
-                .where(
-                        directMemberEntity.memberId.eq(currentUserId),
-                        directMemberEntity.deleted.isFalse()
-                );
-
-        // Main Query: 위 directId에 속한 모든 DirectMember 조회
+    // 페이지에 포함된 directId 의 멤버만 조회
+    public List<DirectMemberEntity> findActiveByDirectIds(final List<String> directIds) {
         return queryFactory
                 .selectFrom(directMemberEntity)
                 .where(
-                        directMemberEntity.directId.in(subquery)
+                        directMemberEntity.directId.in(directIds),
+                        directMemberEntity.deleted.isFalse()
                 )
                 .fetch();
     }
@@ -7,5 +7,7 @@ import java.util.List;
 public interface DirectMemberRepository {
     void saveAll(List<DirectMember> directMembers);
 
-    List<DirectMember> getDirectMessageList(String currentUserId);
+    List<DirectMember> findActiveByDirectIds(List<String> directIds);
+
+    void reactivateByDirectId(String directId);
 }
@@ -24,11 +24,19 @@ public class DirectMemberRepositoryImpl implements DirectMemberRepository {
     }
 
     @Override
-    public List<DirectMember> getDirectMessageList(final String currentUserId) {
-        return queryDslRepository.getDirectMessageList(currentUserId).stream()
+    public List<DirectMember> findActiveByDirectIds(final List<String> directIds) {
+        if (directIds.isEmpty()) {
+            return List.of();
+        }
+        return queryDslRepository.findActiveByDirectIds(directIds).stream()
                 .map(
                         DomainUtil.DirectMemberMapper::toDomain
                 )
                 .toList();
     }
+
+    @Override
+    public void reactivateByDirectId(final String directId) {
+        jpaRepository.reactivateByDirectId(directId);
+    }
 }
@@ -0,0 +1,46 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.entity.DirectEntity;
+import com.asyncgate.guild_server.entity.QDirectEntity;
+import com.asyncgate.guild_server.entity.QDirectMemberEntity;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DirectQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QDirectEntity directEntity = QDirectEntity.directEntity;
+    private final QDirectMemberEntity directMemberEntity = QDirectMemberEntity.directMemberEntity;
+
+    // 사용자가 참여한 DM 을 마지막 활동 시각 역순으로 keyset 페이징 조회
+    public List<DirectEntity> findPageByMemberId(final String memberId, final Cursor cursor, final int limit) {
+        return queryFactory
+                .select(directEntity)
+                .from(directMemberEntity)
+                .join(directEntity).on(directEntity.id.eq(directMemberEntity.directId))
+                .where(
+                        directMemberEntity.memberId.eq(memberId),
+                        directMemberEntity.deleted.isFalse(),
+                        directEntity.deleted.isFalse(),
+                        afterCursor(cursor)
+                )
+                .orderBy(directEntity.lastActivityAt.desc(), directEntity.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(final Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return directEntity.lastActivityAt.lt(cursor.time())
+                .or(directEntity.lastActivityAt.eq(cursor.time()).and(directEntity.id.lt(cursor.id())));
+    }
+}
@@ -1,7 +1,24 @@
 package com.asyncgate.guild_server.repository;
 
 import com.asyncgate.guild_server.domain.Direct;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface DirectRepository {
     void save(Direct direct);
+
+    Optional<Direct> findByMemberKey(String memberKey);
+
+    boolean insertIfAbsent(Direct direct, String createdBy);
+
+    Optional<Direct> lockByMemberKey(String memberKey);
+
+    boolean reactivate(String memberKey);
+
+    List<Direct> findPageByMemberId(String memberId, Cursor cursor, int limit);
+
+    void updateLastActivityAt(String directId, LocalDateTime activityAt);
 }
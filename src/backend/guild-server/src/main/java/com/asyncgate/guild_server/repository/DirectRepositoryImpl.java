@@ -1,14 +1,20 @@
 package com.asyncgate.guild_server.repository;
 
 import com.asyncgate.guild_server.domain.Direct;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
 import com.asyncgate.guild_server.support.utility.DomainUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 @RequiredArgsConstructor
 public class DirectRepositoryImpl implements DirectRepository {
     private final DirectJpaRepository jpaRepository;
+    private final DirectQueryDslRepository queryDslRepository;
 
     @Override
     public void save(final Direct direct) {
@@ -16,4 +22,38 @@ public class DirectRepositoryImpl implements DirectRepository {
                 DomainUtil.DirectMapper.toEntity(direct)
         );
     }
+
+    @Override
+    public Optional<Direct> findByMemberKey(final String memberKey) {
+        return jpaRepository.findByMemberKeyAndDeletedFalse(memberKey)
+                .map(DomainUtil.DirectMapper::toDomain);
+    }
+
+    @Override
+    public boolean insertIfAbsent(final Direct direct, final String createdBy) {
+        return jpaRepository.insertIgnore(DomainUtil.DirectMapper.toEntity(direct), createdBy) > 0;
+    }
+
+    @Override
+    public Optional<Direct> lockByMemberKey(final String memberKey) {
+        return jpaRepository.findByMemberKey(memberKey)
+                .map(DomainUtil.DirectMapper::toDomain);
+    }
+
+    @Override
+    public boolean reactivate(final String memberKey) {
+        return jpaRepository.reactivateByMemberKey(memberKey, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public List<Direct> findPageByMemberId(final String memberId, final Cursor cursor, final int limit) {
+        return queryDslRepository.findPageByMemberId(memberId, cursor, limit).stream()
+                .map(DomainUtil.DirectMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateLastActivityAt(final String directId, final LocalDateTime activityAt) {
+        jpaRepository.updateLastActivityAt(directId, activityAt);
+    }
 }
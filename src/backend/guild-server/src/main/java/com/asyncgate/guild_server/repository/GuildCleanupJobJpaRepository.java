@@ -0,0 +1,7 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.entity.GuildCleanupJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GuildCleanupJobJpaRepository extends JpaRepository<GuildCleanupJobEntity, String> {
+}
@@ -0,0 +1,60 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.domain.GuildCleanupStage;
+import com.asyncgate.guild_server.entity.GuildCleanupJobEntity;
+import com.asyncgate.guild_server.entity.QGuildCleanupJobEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GuildCleanupJobQuerydslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QGuildCleanupJobEntity cleanupJob = QGuildCleanupJobEntity.guildCleanupJobEntity;
+
+    public List<GuildCleanupJobEntity> findUnfinished(final long limit) {
+        return queryFactory
+                .selectFrom(cleanupJob)
+                .where(
+                        cleanupJob.stage.ne(GuildCleanupStage.COMPLETED),
+                        cleanupJob.deleted.isFalse()
+                )
+                .orderBy(cleanupJob.createdDate.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 청크 트랜잭션 동안 작업 행을 잠가 한 인스턴스만 진행 상황을 갱신 (다른 인스턴스가 잠근 작업은 건너뜀)
+    public GuildCleanupJobEntity lockUnfinished(final String id) {
+        return queryFactory
+                .selectFrom(cleanupJob)
+                .where(
+                        cleanupJob.id.eq(id),
+                        cleanupJob.stage.ne(GuildCleanupStage.COMPLETED),
+                        cleanupJob.deleted.isFalse()
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchOne();
+    }
+
+    public long countUnfinished() {
+        Long count = queryFactory
+                .select(cleanupJob.count())
+                .from(cleanupJob)
+                .where(
+                        cleanupJob.stage.ne(GuildCleanupStage.COMPLETED),
+                        cleanupJob.deleted.isFalse()
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+}
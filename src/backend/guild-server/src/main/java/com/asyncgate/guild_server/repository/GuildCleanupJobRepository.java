@@ -0,0 +1,16 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GuildCleanupJobRepository {
+    void save(GuildCleanupJob cleanupJob);
+
+    List<GuildCleanupJob> findUnfinished(int limit);
+
+    Optional<GuildCleanupJob> lockUnfinished(String id);
+
+    long countUnfinished();
+}
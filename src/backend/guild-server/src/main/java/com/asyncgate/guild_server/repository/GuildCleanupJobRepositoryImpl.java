@@ -0,0 +1,42 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+import com.asyncgate.guild_server.entity.GuildCleanupJobEntity;
+import com.asyncgate.guild_server.support.utility.DomainUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class GuildCleanupJobRepositoryImpl implements GuildCleanupJobRepository {
+
+    private final GuildCleanupJobJpaRepository jpaRepository;
+    private final GuildCleanupJobQuerydslRepository querydslRepository;
+
+    @Override
+    public void save(final GuildCleanupJob cleanupJob) {
+        GuildCleanupJobEntity cleanupJobEntity = DomainUtil.GuildCleanupJobMapper.toEntity(cleanupJob);
+        jpaRepository.save(cleanupJobEntity);
+    }
+
+    @Override
+    public List<GuildCleanupJob> findUnfinished(final int limit) {
+        return querydslRepository.findUnfinished(limit).stream()
+                .map(DomainUtil.GuildCleanupJobMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<GuildCleanupJob> lockUnfinished(final String id) {
+        return Optional.ofNullable(querydslRepository.lockUnfinished(id))
+                .map(DomainUtil.GuildCleanupJobMapper::toDomain);
+    }
+
+    @Override
+    public long countUnfinished() {
+        return querydslRepository.countUnfinished();
+    }
+}
@@ -1,14 +1,26 @@
 package com.asyncgate.guild_server.repository;
 
+import com.asyncgate.guild_server.domain.GuildInvitationStatus;
 import com.asyncgate.guild_server.entity.GuildMemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface GuildMemberJpaRepository extends JpaRepository<GuildMemberEntity, String> {
 
     @Modifying
-    @Query("UPDATE GuildMemberEntity g SET g.deleted = true WHERE g.guildId = :guildId")
-    void softDeleteAllByGuildId(@Param("guildId") String guildId);
+    @Query("UPDATE GuildMemberEntity g SET g.deleted = true WHERE g.id IN :guildMemberIds AND g.deleted = false")
+    int softDeleteAllByIds(@Param("guildMemberIds") List<String> guildMemberIds);
+
+    // 조회 이후 수락/거절된 초대는 제외되도록 현재 상태를 다시 확인
+    @Modifying
+    @Query("UPDATE GuildMemberEntity g SET g.status = :to WHERE g.id IN :guildMemberIds AND g.status = :from")
+    int updateStatusByIds(
+            @Param("guildMemberIds") List<String> guildMemberIds,
+            @Param("from") GuildInvitationStatus from,
+            @Param("to") GuildInvitationStatus to
+    );
 }
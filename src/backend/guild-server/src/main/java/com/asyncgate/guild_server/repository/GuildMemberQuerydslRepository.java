@@ -1,13 +1,22 @@
 package com.asyncgate.guild_server.repository;
 
+import com.asyncgate.guild_server.domain.GuildInvitation;
 import com.asyncgate.guild_server.domain.GuildInvitationStatus;
 import com.asyncgate.guild_server.entity.GuildMemberEntity;
+import com.asyncgate.guild_server.entity.QGuildEntity;
 import com.asyncgate.guild_server.entity.QGuildMemberEntity;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +26,7 @@ public class GuildMemberQuerydslRepository {
 
     private final JPAQueryFactory queryFactory;
     private final QGuildMemberEntity guildMember = QGuildMemberEntity.guildMemberEntity;
+    private final QGuildEntity guild = QGuildEntity.guildEntity;
 
     public List<String> findRandGuildIdsNotJoinedByUser(final String userId, final long limit) {
         return queryFactory
@@ -45,6 +55,83 @@ public class GuildMemberQuerydslRepository {
                 .fetch();
     }
 
+    public List<String> findActiveIdsByGuildId(final String guildId, final long limit) {
+        return queryFactory
+                .select(guildMember.id)
+                .from(guildMember)
+                .where(
+                        guildMember.guildId.eq(guildId),
+                        guildMember.deleted.isFalse()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    // (status, createdDate) 인덱스 범위 조회로 오래된 초대부터 limit 만큼 잠금 (다른 인스턴스가 잠근 행은 건너뜀)
+    public List<GuildMemberEntity> lockPendingCreatedBefore(final LocalDateTime before, final long limit) {
+        return queryFactory
+                .selectFrom(guildMember)
+                .where(
+                        guildMember.status.eq(GuildInvitationStatus.PENDING),
+                        guildMember.createdDate.lt(before),
+                        guildMember.deleted.isFalse()
+                )
+                .orderBy(guildMember.createdDate.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    // 받은 초대함: (userId, status, deleted, createdDate) 인덱스 순서로 keyset 페이징하며 길드 정보를 함께 조회
+    public List<GuildInvitation> findPendingInvitations(final String userId, final Cursor cursor, final long limit) {
+        return queryFactory
+                .select(Projections.constructor(
+                        GuildInvitation.class,
+                        guildMember.id,
+                        guildMember.guildId,
+                        guild.name,
+                        guild.profileImageUrl,
+                        guildMember.createdDate
+                ))
+                .from(guildMember)
+                .join(guild).on(guild.id.eq(guildMember.guildId))
+                .where(
+                        guildMember.userId.eq(userId),
+                        guildMember.status.eq(GuildInvitationStatus.PENDING),
+                        guildMember.deleted.isFalse(),
+                        guild.deleted.isFalse(),
+                        beforeCursor(cursor)
+                )
+                .orderBy(guildMember.createdDate.desc(), guildMember.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(final Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return guildMember.createdDate.lt(cursor.time())
+                .or(guildMember.createdDate.eq(cursor.time()).and(guildMember.id.lt(cursor.id())));
+    }
+
+    // 삭제된 길드의 멤버는 정리 작업(GuildCleanupScheduler)이 나중에 지우므로 길드의 삭제 여부도 함께 확인
+    public List<GuildMemberEntity> findAcceptedMembersAfter(final String lastId, final long limit) {
+        return queryFactory
+                .selectFrom(guildMember)
+                .join(guild).on(guild.id.eq(guildMember.guildId))
+                .where(
+                        lastId != null ? guildMember.id.gt(lastId) : null,
+                        guildMember.deleted.isFalse(),
+                        guildMember.status.eq(GuildInvitationStatus.ACCEPTED),
+                        guild.deleted.isFalse()
+                )
+                .orderBy(guildMember.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     public Optional<GuildMemberEntity> findAcceptedMemberByUserIdAndGuildId(final String userId, final String guildId) {
         return findByUserIdAndGuildIdAndStatus(userId, guildId, GuildInvitationStatus.ACCEPTED);
     }
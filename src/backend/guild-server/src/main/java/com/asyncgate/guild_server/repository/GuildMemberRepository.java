@@ -1,8 +1,11 @@
 package com.asyncgate.guild_server.repository;
 
+import com.asyncgate.guild_server.domain.GuildInvitation;
 import com.asyncgate.guild_server.domain.GuildInvitationStatus;
 import com.asyncgate.guild_server.domain.GuildMember;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface GuildMemberRepository {
@@ -10,11 +13,17 @@ public interface GuildMemberRepository {
 
     GuildMember findAcceptedMemberByUserIdAndGuildId(String userId, String guildId);
 
-    void deleteAllByGuildId(String guildId);
+    int deleteChunkByGuildId(String guildId, int chunkSize);
+
+    List<GuildMember> expireChunkCreatedBefore(LocalDateTime before, int chunkSize);
 
     List<String> findRandGuildIdsNotJoinedByUser(String userId, int limit);
 
     List<String> findGuildIdsJoinedByUserId(String userId);
 
+    List<GuildMember> findAcceptedMembersAfter(String lastId, int limit);
+
+    List<GuildInvitation> findPendingInvitations(String userId, Cursor cursor, int limit);
+
     GuildMember findByUserIdAndGuildIdAndStatus(String userId, String guildId, GuildInvitationStatus status);
 }
@@ -1,14 +1,17 @@
 package com.asyncgate.guild_server.repository;
 
+import com.asyncgate.guild_server.domain.GuildInvitation;
 import com.asyncgate.guild_server.domain.GuildInvitationStatus;
 import com.asyncgate.guild_server.domain.GuildMember;
 import com.asyncgate.guild_server.entity.GuildMemberEntity;
 import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.support.utility.CursorUtil.Cursor;
 import com.asyncgate.guild_server.support.utility.DomainUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -32,8 +35,29 @@ public class GuildMemberRepositoryImpl implements GuildMemberRepository {
     }
 
     @Override
-    public void deleteAllByGuildId(final String guildId) {
-        jpaRepository.softDeleteAllByGuildId(guildId);
+    public int deleteChunkByGuildId(final String guildId, final int chunkSize) {
+        List<String> guildMemberIds = querydslRepository.findActiveIdsByGuildId(guildId, chunkSize);
+        if (guildMemberIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.softDeleteAllByIds(guildMemberIds);
+    }
+
+    @Override
+    public List<GuildMember> expireChunkCreatedBefore(final LocalDateTime before, final int chunkSize) {
+        List<GuildMemberEntity> pendingMembers = querydslRepository.lockPendingCreatedBefore(before, chunkSize);
+        if (pendingMembers.isEmpty()) {
+            return List.of();
+        }
+        // 잠근 행만 갱신하므로 조회한 초대가 모두 만료된다
+        jpaRepository.updateStatusByIds(
+                pendingMembers.stream().map(GuildMemberEntity::getId).toList(),
+                GuildInvitationStatus.PENDING,
+                GuildInvitationStatus.EXPIRED
+        );
+        return pendingMembers.stream()
+                .map(DomainUtil.GuildMemberMapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -46,6 +70,18 @@ public class GuildMemberRepositoryImpl implements GuildMemberRepository {
         return querydslRepository.findGuildIdsJoinedByUserId(userId);
     }
 
+    @Override
+    public List<GuildMember> findAcceptedMembersAfter(final String lastId, final int limit) {
+        return querydslRepository.findAcceptedMembersAfter(lastId, limit).stream()
+                .map(DomainUtil.GuildMemberMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<GuildInvitation> findPendingInvitations(final String userId, final Cursor cursor, final int limit) {
+        return querydslRepository.findPendingInvitations(userId, cursor, limit);
+    }
+
     @Override
     public GuildMember findByUserIdAndGuildIdAndStatus(final String userId, final String guildId, final GuildInvitationStatus status) {
         GuildMemberEntity guildMemberEntity = querydslRepository.findPendingMemberByUserIdAndGuildId(userId, guildId)
@@ -0,0 +1,24 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.entity.GuildOutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GuildOutboxEventJpaRepository extends JpaRepository<GuildOutboxEventEntity, Long> {
+
+    @Modifying
+    @Query("DELETE FROM GuildOutboxEventEntity e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    // lease 가 만료되었거나 이미 내 것일 때만 갱신 (시각은 DB 기준이라 인스턴스 간 시계 차이의 영향을 받지 않음)
+    @Modifying
+    @Query(value = "UPDATE guild_outbox_relay_lease " +
+            "SET owner = :owner, lease_until = DATE_ADD(NOW(6), INTERVAL :leaseMillis * 1000 MICROSECOND) " +
+            "WHERE name = :name AND (owner = :owner OR lease_until < NOW(6))",
+            nativeQuery = true)
+    int acquireLease(@Param("name") String name, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+}
@@ -0,0 +1,28 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.entity.GuildOutboxEventEntity;
+import com.asyncgate.guild_server.entity.QGuildOutboxEventEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GuildOutboxEventQuerydslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QGuildOutboxEventEntity outboxEvent = QGuildOutboxEventEntity.guildOutboxEventEntity;
+
+    /**
+     * 남아 있는 미발행 행을 id 순으로 조회 (lease 를 가진 relay 만 호출하므로 행을 잠그지 않는다)
+     */
+    public List<GuildOutboxEventEntity> findOldest(final long limit) {
+        return queryFactory
+                .selectFrom(outboxEvent)
+                .orderBy(outboxEvent.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
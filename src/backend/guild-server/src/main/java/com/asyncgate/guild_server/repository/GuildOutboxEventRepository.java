@@ -0,0 +1,15 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+
+import java.util.List;
+
+public interface GuildOutboxEventRepository {
+    void save(GuildOutboxEvent outboxEvent);
+
+    boolean acquireRelayLease(String owner, long leaseMillis);
+
+    List<GuildOutboxEvent> findOldest(int limit);
+
+    void deleteAllByIds(List<Long> ids);
+}
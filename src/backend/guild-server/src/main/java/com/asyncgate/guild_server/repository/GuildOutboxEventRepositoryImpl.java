@@ -0,0 +1,42 @@
+package com.asyncgate.guild_server.repository;
+
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+import com.asyncgate.guild_server.entity.GuildOutboxEventEntity;
+import com.asyncgate.guild_server.support.utility.DomainUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GuildOutboxEventRepositoryImpl implements GuildOutboxEventRepository {
+
+    private static final String RELAY_LEASE_NAME = "guild-outbox-relay";
+
+    private final GuildOutboxEventJpaRepository jpaRepository;
+    private final GuildOutboxEventQuerydslRepository querydslRepository;
+
+    @Override
+    public void save(final GuildOutboxEvent outboxEvent) {
+        GuildOutboxEventEntity outboxEventEntity = DomainUtil.GuildOutboxEventMapper.toEntity(outboxEvent);
+        jpaRepository.save(outboxEventEntity);
+    }
+
+    @Override
+    public boolean acquireRelayLease(final String owner, final long leaseMillis) {
+        return jpaRepository.acquireLease(RELAY_LEASE_NAME, owner, leaseMillis) > 0;
+    }
+
+    @Override
+    public List<GuildOutboxEvent> findOldest(final int limit) {
+        return querydslRepository.findOldest(limit).stream()
+                .map(DomainUtil.GuildOutboxEventMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteAllByIds(final List<Long> ids) {
+        jpaRepository.deleteAllByIds(ids);
+    }
+}
@@ -3,7 +3,9 @@ package com.asyncgate.guild_server.repository;
 import com.asyncgate.guild_server.entity.GuildEntity;
 import com.asyncgate.guild_server.entity.QGuildEntity;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,16 +15,16 @@ import java.util.List;
 public class GuildQuerydslRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private final QGuildEntity guild = QGuildEntity.guildEntity;
 
+    // 2차 캐시에 있는 길드는 캐시에서, 나머지만 batch IN 쿼리로 조회
     public List<GuildEntity> findAllByIds(List<String> guildIds) {
-        return queryFactory
-                .select(guild)
-                .from(guild)
-                .where(
-                        guild.id.in(guildIds),
-                        guild.deleted.isFalse()
-                ).fetch();
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(GuildEntity.class)
+                .multiLoad(guildIds).stream()
+                .filter(guildEntity -> guildEntity != null && !guildEntity.isDeleted())
+                .toList();
     }
 
     public boolean existsById(final String guildId) {
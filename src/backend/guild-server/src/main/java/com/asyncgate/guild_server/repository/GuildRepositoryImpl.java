@@ -4,6 +4,7 @@ import com.asyncgate.guild_server.domain.Guild;
 import com.asyncgate.guild_server.entity.GuildEntity;
 import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.support.cache.SecondLevelCacheEvictor;
 import com.asyncgate.guild_server.support.utility.DomainUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -16,11 +17,13 @@ public class GuildRepositoryImpl implements GuildRepository {
 
     private final GuildJpaRepository jpaRepository;
     private final GuildQuerydslRepository queryDslRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
 
     @Override
     public void save(final Guild guild) {
         GuildEntity guildEntity = DomainUtil.GuildMapper.toEntity(guild);
         jpaRepository.save(guildEntity);
+        cacheEvictor.evict(GuildEntity.class, guildEntity.getId());
     }
 
     @Override
@@ -32,6 +35,7 @@ public class GuildRepositoryImpl implements GuildRepository {
     @Override
     public void deleteById(final String guildId) {
         jpaRepository.softDeleteById(guildId);
+        cacheEvictor.evict(GuildEntity.class, guildId);
     }
 
     @Override
@@ -42,7 +46,9 @@ public class GuildRepositoryImpl implements GuildRepository {
     }
 
     private GuildEntity getActiveGuildEntityById(final String guildId) {
-        return jpaRepository.findActiveGuildById(guildId)
+        // id 조회는 2차 캐시를 거치도록 findById 후 삭제 여부 확인
+        return jpaRepository.findById(guildId)
+                .filter(guildEntity -> !guildEntity.isDeleted())
                 .orElseThrow(() -> new GuildServerException(FailType.GUILD_NOT_FOUND));
     }
 
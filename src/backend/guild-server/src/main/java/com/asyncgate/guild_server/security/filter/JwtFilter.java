@@ -1,5 +1,6 @@
 package com.asyncgate.guild_server.security.filter;
 
+import com.asyncgate.guild_server.security.PublicPathMatcher;
 import com.asyncgate.guild_server.security.SecurityConstants;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,14 +14,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+    private static final PublicPathMatcher PUBLIC_PATHS = PublicPathMatcher.of(SecurityConstants.PUBLIC_ENDPOINTS);
+
     private final JwtService jwtService;
+    private final InternalIdentityVerifier internalIdentityVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -30,26 +33,25 @@ public class JwtFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String requestURI = request.getRequestURI();
 
-        log.info("==== JwtFilter Start ====");
-        log.info("requestURI = {}", requestURI);
-        log.info("Thread: {}", Thread.currentThread().getName());
-
         if (isPublicUri(requestURI)) {
-            log.info("public!");
             filterChain.doFilter(request, response);
             return;
         }
 
         String jwtToken = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-        System.out.println("jwtToken = " + jwtToken);
+        String trustedUserId = internalIdentityVerifier.verify(request.getHeader(InternalIdentityVerifier.HEADER));
+        if (trustedUserId != null) {
+            jwtService.authenticate(trustedUserId, jwtToken);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         jwtService.authenticate(jwtToken);
         filterChain.doFilter(request, response);
     }
 
     private boolean isPublicUri(final String requestURI) {
-        return Arrays.stream(SecurityConstants.PUBLIC_ENDPOINTS)
-                .anyMatch(requestURI::startsWith);
+        return PUBLIC_PATHS.matches(requestURI);
     }
 }
@@ -4,7 +4,9 @@ import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,25 +20,41 @@ import java.util.Collections;
 import java.util.List;
 
 @Service
-public class JwtService {
+public class JwtService implements InitializingBean {
 
     public static final String HMAC_SHA256 = "HmacSHA256";
 
     @Value("${jwt.secret-key}")
     private String secretKey;
 
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private JwtParser parser;
+
+    @Override
+    public void afterPropertiesSet() {
+        Key key = new SecretKeySpec(secretKey.getBytes(), HMAC_SHA256);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
     public void authenticate(final String token) {
         String userId = extract(token);
         setSecurityContext(userId, token);
     }
 
+    // 게이트웨이가 서명한 내부 신원 헤더로 이미 확인된 회원 (JWT 재파싱 없음)
+    public void authenticate(final String userId, final String token) {
+        setSecurityContext(userId, token);
+    }
+
     private String extract(final String token) {
+        if (JwtExpiryPrecheck.isExpired(token, System.currentTimeMillis())) {
+            throw new GuildServerException(FailType._JWT_INVALID_TOKEN);
+        }
+
         try {
-            Key key = new SecretKeySpec(secretKey.getBytes(), HMAC_SHA256);
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = parser.parseClaimsJws(token);
             return claims.getBody().get("mid", String.class);
         } catch (Exception e) {
             throw new GuildServerException(FailType._JWT_INVALID_TOKEN);
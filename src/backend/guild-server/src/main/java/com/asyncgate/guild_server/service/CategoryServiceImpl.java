@@ -1,6 +1,7 @@
 package com.asyncgate.guild_server.service;
 
 import com.asyncgate.guild_server.domain.Category;
+import com.asyncgate.guild_server.domain.GuildChangeType;
 import com.asyncgate.guild_server.domain.GuildMember;
 import com.asyncgate.guild_server.domain.GuildRole;
 import com.asyncgate.guild_server.dto.request.CategoryRequest;
@@ -19,6 +20,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final GuildMemberRepository guildMemberRepository;
     private final ChannelRepository channelRepository;
+    private final GuildOutboxService guildOutboxService;
 
     @Override
     @Transactional
@@ -26,6 +28,7 @@ public class CategoryServiceImpl implements CategoryService {
         validatePermission(userId, request.getGuildId());
         Category category = Category.create(request.getName(), request.getGuildId(), request.isPrivate());
         categoryRepository.save(category);
+        guildOutboxService.append(GuildChangeType.CATEGORY_CREATED, category.getGuildId(), category.getId());
         return CategoryResponse.from(category);
     }
 
@@ -35,6 +38,7 @@ public class CategoryServiceImpl implements CategoryService {
         validatePermission(userId, guildId);
         categoryRepository.deleteById(categoryId);
         channelRepository.deleteAllByCategoryId(categoryId);
+        guildOutboxService.append(GuildChangeType.CATEGORY_DELETED, guildId, categoryId);
     }
 
     private void validatePermission(final String userId, final String guildId) {
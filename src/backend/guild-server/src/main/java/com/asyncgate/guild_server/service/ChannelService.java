@@ -1,13 +1,17 @@
 package com.asyncgate.guild_server.service;
 
+import com.asyncgate.guild_server.dto.request.ChannelBulkCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelUpdateRequest;
+import com.asyncgate.guild_server.dto.response.ChannelBulkCreateResponse;
 import com.asyncgate.guild_server.dto.response.ChannelResponse;
 
 public interface ChannelService {
 
     ChannelResponse create(String userId, ChannelCreateRequest request);
 
+    ChannelBulkCreateResponse createAll(String userId, ChannelBulkCreateRequest request);
+
     void delete(String userId, String guildId, String channelId);
 
     ChannelResponse update(String userId, String guildId, String channelId, ChannelUpdateRequest request);
@@ -1,8 +1,14 @@
 package com.asyncgate.guild_server.service;
 
+import com.asyncgate.guild_server.domain.Category;
 import com.asyncgate.guild_server.domain.Channel;
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.dto.request.ChannelBulkCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelCreateRequest;
 import com.asyncgate.guild_server.dto.request.ChannelUpdateRequest;
+import com.asyncgate.guild_server.dto.response.CategoryResponse;
+import com.asyncgate.guild_server.dto.response.ChannelBulkCreateResponse;
+import com.asyncgate.guild_server.dto.response.ChannelBulkCreateResponse.CategoryTreeResponse;
 import com.asyncgate.guild_server.dto.response.ChannelResponse;
 import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
@@ -10,10 +16,14 @@ import com.asyncgate.guild_server.repository.CategoryRepository;
 import com.asyncgate.guild_server.repository.ChannelRepository;
 import com.asyncgate.guild_server.repository.GuildRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ChannelServiceImpl implements ChannelService {
@@ -21,6 +31,10 @@ public class ChannelServiceImpl implements ChannelService {
     private final ChannelRepository channelRepository;
     private final CategoryRepository categoryRepository;
     private final GuildRepository guildRepository;
+    private final GuildOutboxService guildOutboxService;
+
+    @Value("${guild.channel.max-bulk-size:500}")
+    private int maxBulkSize;
 
     @Override
     @Transactional
@@ -38,10 +52,67 @@ public class ChannelServiceImpl implements ChannelService {
                 request.isPrivate()
         );
         channelRepository.save(channel);
+        guildOutboxService.append(GuildChangeType.CHANNEL_CREATED, channel.getGuildId(), channel.getId());
 
         return ChannelResponse.from(channel);
     }
 
+    @Override
+    @Transactional
+    public ChannelBulkCreateResponse createAll(final String userId, final ChannelBulkCreateRequest request) {
+        String guildId = request.getGuildId();
+        validGuild(guildId);
+        validatePermission(userId, guildId);
+
+        int channelCount = request.getChannels().size() + request.getCategories().stream()
+                .mapToInt(categoryNode -> categoryNode.getChannels().size())
+                .sum();
+        if (channelCount + request.getCategories().size() > maxBulkSize) {
+            throw new GuildServerException(FailType.CHANNEL_STRUCTURE_TOO_LARGE);
+        }
+
+        // 요청 트리를 도메인으로 조립 (새로 생성한 카테고리만 참조하므로 행 단위 존재 확인이 필요 없음)
+        List<Category> categories = new ArrayList<>();
+        List<Channel> channels = new ArrayList<>();
+        List<CategoryTreeResponse> categoryTrees = new ArrayList<>();
+        for (ChannelBulkCreateRequest.CategoryNode categoryNode : request.getCategories()) {
+            Category category = Category.create(categoryNode.getName(), guildId, categoryNode.isPrivate());
+            List<Channel> children = toChannels(guildId, category.getId(), categoryNode.getChannels());
+            categories.add(category);
+            channels.addAll(children);
+            categoryTrees.add(new CategoryTreeResponse(CategoryResponse.from(category), toResponses(children)));
+        }
+        List<Channel> uncategorized = toChannels(guildId, null, request.getChannels());
+        channels.addAll(uncategorized);
+
+        categoryRepository.saveAll(categories);
+        channelRepository.saveAll(channels);
+        guildOutboxService.append(GuildChangeType.GUILD_UPDATED, guildId, guildId);
+
+        return new ChannelBulkCreateResponse(guildId, categoryTrees, toResponses(uncategorized));
+    }
+
+    private List<Channel> toChannels(
+            final String guildId, final String categoryId,
+            final List<ChannelBulkCreateRequest.ChannelNode> channelNodes
+    ) {
+        return channelNodes.stream()
+                .map(channelNode -> Channel.create(
+                        guildId,
+                        categoryId,
+                        channelNode.getName(),
+                        channelNode.getChannelType(),
+                        channelNode.isPrivate()
+                ))
+                .toList();
+    }
+
+    private List<ChannelResponse> toResponses(final List<Channel> channels) {
+        return channels.stream()
+                .map(ChannelResponse::from)
+                .toList();
+    }
+
     private void validCategory(final String categoryId) {
         if (categoryId.equals(Channel.CATEGORY_ID_IS_NULL)) {
             throw new GuildServerException(FailType.CATEGORY_NOT_FOUND);
@@ -67,6 +138,7 @@ public class ChannelServiceImpl implements ChannelService {
     ) {
         validatePermission(userId, guildId);
         channelRepository.delete(channelId);
+        guildOutboxService.append(GuildChangeType.CHANNEL_DELETED, guildId, channelId);
     }
 
     @Override
@@ -79,6 +151,7 @@ public class ChannelServiceImpl implements ChannelService {
         Channel channel = channelRepository.getById(channelId);
         channel.update(request);
         channelRepository.save(channel);
+        guildOutboxService.append(GuildChangeType.CHANNEL_UPDATED, guildId, channelId);
         return ChannelResponse.from(channel);
     }
 
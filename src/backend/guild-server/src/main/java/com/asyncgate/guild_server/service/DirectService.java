@@ -4,8 +4,13 @@ import com.asyncgate.guild_server.dto.request.DirectChannelCreateRequest;
 import com.asyncgate.guild_server.dto.response.DirectResponse;
 import com.asyncgate.guild_server.dto.response.DirectResponses;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public interface DirectService {
     DirectResponse create(String currentUserId, DirectChannelCreateRequest request);
 
-    DirectResponses getDirectList(String currentUserId);
+    DirectResponses getDirectList(String currentUserId, String cursor, int size);
+
+    void updateLastActivity(Map<String, LocalDateTime> lastActivities);
 }
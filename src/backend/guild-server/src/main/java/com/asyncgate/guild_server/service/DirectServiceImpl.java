@@ -1,8 +1,8 @@
 package com.asyncgate.guild_server.service;
 
-import com.asyncgate.guild_server.client.UserClient;
 import com.asyncgate.guild_server.client.UserClientInfoResponses;
 import com.asyncgate.guild_server.client.UserClientInfoResponses.UserClientInfoResponse;
+import com.asyncgate.guild_server.client.UserProfileCache;
 import com.asyncgate.guild_server.domain.Direct;
 import com.asyncgate.guild_server.domain.DirectMember;
 import com.asyncgate.guild_server.dto.request.DirectChannelCreateRequest;
@@ -10,12 +10,14 @@ import com.asyncgate.guild_server.dto.response.DirectResponse;
 import com.asyncgate.guild_server.dto.response.DirectResponses;
 import com.asyncgate.guild_server.repository.DirectMemberRepository;
 import com.asyncgate.guild_server.repository.DirectRepository;
+import com.asyncgate.guild_server.support.utility.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,23 +25,46 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DirectServiceImpl implements DirectService {
 
-    private final UserClient userClient;
+    private final UserProfileCache userProfileCache;
     private final DirectRepository directRepository;
     private final DirectMemberRepository directMemberRepository;
 
+    @Value("${guild.direct.max-page-size:100}")
+    private int maxPageSize;
+
     @Override
     @Transactional
     public DirectResponse create(final String currentUserId, final DirectChannelCreateRequest request) {
-        List<String> memberIds = new ArrayList<>(request.getMemberIds());
+        List<String> memberIds = new ArrayList<>(new TreeSet<>(request.getMemberIds()));
         if (!memberIds.contains(currentUserId)) {
             memberIds.add(currentUserId);
         }
+        String memberKey = Direct.memberKeyOf(memberIds);
 
-        UserClientInfoResponses usersInfo = userClient
-                .getUsersInfo(memberIds)
-                .getResult();
+        // 같은 멤버 구성의 DM 이 이미 있으면 user-server 호출 없이 기존 DM 반환
+        Optional<Direct> existing = directRepository.findByMemberKey(memberKey);
+        if (existing.isPresent()) {
+            return toResponse(existing.get().getId());
+        }
 
-        Direct direct = Direct.create();
+        UserClientInfoResponses usersInfo = new UserClientInfoResponses(
+                userProfileCache.getAll(memberIds)
+        );
+
+        Direct direct = Direct.create(memberKey);
+
+        // 동시 요청에서 먼저 삽입한 쪽만 멤버를 저장
+        // 삽입되지 않았다면 같은 memberKey 의 DM 이 이미 있거나 soft delete 된 상태이므로 삭제된 경우 멤버와 함께 되살린다
+        // memberKey 도입 전에 만든 DM 은 id 가 memberKey 와 무관하므로 저장된 행의 id 를 사용
+        if (!directRepository.insertIfAbsent(direct, currentUserId)) {
+            String directId = directRepository.lockByMemberKey(memberKey)
+                    .map(Direct::getId)
+                    .orElse(direct.getId());
+            if (directRepository.reactivate(memberKey)) {
+                directMemberRepository.reactivateByDirectId(directId);
+            }
+            return DirectResponse.of(directId, usersInfo);
+        }
 
         // ToDo memberName 변경시 이벤트 구독하고 수정해야함
         List<DirectMember> directMembers = usersInfo.responses().stream()
@@ -48,55 +73,74 @@ public class DirectServiceImpl implements DirectService {
                 )
                 .toList();
 
-        directRepository.save(direct);
         directMemberRepository.saveAll(directMembers);
 
         return DirectResponse.of(direct.getId(), usersInfo);
     }
 
-    @Override
-    public DirectResponses getDirectList(final String currentUserId) {
-        // 1. 현재 사용자의 다이렉트 메시지 목록 조회
-        List<DirectMember> directMembers = directMemberRepository.getDirectMessageList(currentUserId);
+    /**
+     * 기존 DM 반환 시 user-server 는 호출하지 않음 (캐시 TTL 이 지나도 반복 생성 요청이 user-server 로 가지 않도록)
+     * 캐시에 없는 멤버는 DM 생성 시 저장한 이름만 채워서 반환하고, 전체 프로필은 DM 목록 조회에서 제공
+     */
+    private DirectResponse toResponse(final String directId) {
+        List<DirectMember> directMembers = directMemberRepository.findActiveByDirectIds(List.of(directId));
+        Map<String, UserClientInfoResponse> cached = userProfileCache.getAllPresent(
+                directMembers.stream().map(DirectMember::getMemberId).toList()
+        );
+        List<UserClientInfoResponse> profiles = directMembers.stream()
+                .map(member -> cached.getOrDefault(
+                        member.getMemberId(),
+                        new UserClientInfoResponse(member.getMemberId(), member.getMemberName(), null, null, null, null, null)
+                ))
+                .toList();
+        return DirectResponse.of(directId, new UserClientInfoResponses(profiles));
+    }
 
-        // 2. 다이렉트 ID별로 DirectMember 그룹화
+    @Override
+    public DirectResponses getDirectList(final String currentUserId, final String cursor, final int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+
+        // 1. 마지막 활동 시각 역순으로 한 페이지 + 1 건 조회 (다음 페이지 존재 여부 판단)
+        List<Direct> directs = directRepository.findPageByMemberId(currentUserId, CursorUtil.decode(cursor), pageSize + 1);
+        boolean hasNext = directs.size() > pageSize;
+        List<Direct> page = hasNext ? directs.subList(0, pageSize) : directs;
+
+        // 2. 페이지에 포함된 DM 의 멤버만 조회하여 directId 별로 그룹화
+        List<DirectMember> directMembers = directMemberRepository.findActiveByDirectIds(
+                page.stream().map(Direct::getId).toList()
+        );
         Map<String, List<DirectMember>> directGroups = directMembers.stream()
                 .collect(Collectors.groupingBy(DirectMember::getDirectId));
 
-        // 3. 모든 그룹에서 고유한 사용자 ID 수집 (한 번의 배치 API 호출을 위함)
+        // 3. 캐시에 없는 사용자만 배치 API 로 조회하여 사용자 ID별 프로필 Map 구성
         Set<String> uniqueMemberIds = directMembers.stream()
                 .map(DirectMember::getMemberId)
                 .collect(Collectors.toSet());
+        Map<String, UserClientInfoResponse> userInfoMap = userProfileCache.getAllAsMap(uniqueMemberIds);
 
-        // 4. 배치 API 호출로 모든 사용자 프로필 정보 조회
-        UserClientInfoResponses userInfos = userClient
-                .getUsersInfo(new ArrayList<>(uniqueMemberIds))
-                .getResult();
-
-        // 5. 사용자 ID별 프로필 정보를 빠르게 조회할 수 있도록 Map으로 변환
-        Map<String, UserClientInfoResponse> userInfoMap = userInfos.responses().stream()
-                .collect(
-                        Collectors.toMap(
-                                UserClientInfoResponse::userId,
-                                Function.identity()
-                        )
-                );
-
-        // 6. 각 다이렉트 그룹별로 응답 객체를 생성
-        List<DirectResponse> responses = directGroups.entrySet().stream()
-                .map(entry -> {
-                    String directId = entry.getKey();
-                    List<DirectMember> membersInGroup = entry.getValue();
-
-                    // 해당 그룹에 속한 멤버들의 프로필 정보를 매핑 (null은 필터링)
-                    List<UserClientInfoResponse> memberProfiles = membersInGroup.stream()
+        // 4. 페이지 순서를 유지하며 응답 객체 생성 (null은 필터링)
+        List<DirectResponse> responses = page.stream()
+                .map(direct -> {
+                    List<UserClientInfoResponse> memberProfiles = directGroups.getOrDefault(direct.getId(), List.of()).stream()
                             .map(directMember -> userInfoMap.get(directMember.getMemberId()))
                             .filter(Objects::nonNull)
                             .toList();
 
-                    return DirectResponse.of(directId, new UserClientInfoResponses(memberProfiles));
+                    return DirectResponse.of(direct.getId(), new UserClientInfoResponses(memberProfiles));
                 }).toList();
-        return DirectResponses.from(responses);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Direct last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(last.getLastActivityAt(), last.getId());
+        }
+        return DirectResponses.of(responses, nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public void updateLastActivity(final Map<String, LocalDateTime> lastActivities) {
+        lastActivities.forEach(directRepository::updateLastActivityAt);
     }
 
 }
@@ -0,0 +1,16 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GuildCleanupService {
+    void register(String guildId);
+
+    List<GuildCleanupJob> findUnfinished(int limit);
+
+    long countUnfinished();
+
+    Optional<GuildCleanupJob> purgeChunk(String cleanupJobId, int chunkSize);
+}
@@ -0,0 +1,89 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+import com.asyncgate.guild_server.domain.GuildCleanupStage;
+import com.asyncgate.guild_server.repository.CategoryRepository;
+import com.asyncgate.guild_server.repository.ChannelRepository;
+import com.asyncgate.guild_server.repository.GuildCleanupJobRepository;
+import com.asyncgate.guild_server.repository.GuildMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GuildCleanupServiceImpl implements GuildCleanupService {
+
+    private final GuildCleanupJobRepository cleanupJobRepository;
+    private final GuildMemberRepository guildMemberRepository;
+    private final CategoryRepository categoryRepository;
+    private final ChannelRepository channelRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 길드 삭제 트랜잭션에 참여하여 정리 작업을 등록 (하위 데이터는 스케줄러가 청크 단위로 정리)
+     */
+    @Override
+    @Transactional
+    public void register(final String guildId) {
+        cleanupJobRepository.save(GuildCleanupJob.create(guildId));
+    }
+
+    @Override
+    public List<GuildCleanupJob> findUnfinished(final int limit) {
+        return cleanupJobRepository.findUnfinished(limit);
+    }
+
+    @Override
+    public long countUnfinished() {
+        return cleanupJobRepository.countUnfinished();
+    }
+
+    /**
+     * 작업 행을 잠근 뒤 (SKIP LOCKED) 저장된 단계의 하위 데이터를 최대 chunkSize 만큼 soft delete 하고 진행 상황을 같은 트랜잭션에 저장
+     * 다른 인스턴스가 같은 작업의 청크를 처리 중이거나 이미 완료된 작업이면 아무것도 하지 않고 empty 반환
+     * 중간에 서버가 종료되어도 저장된 단계부터 다시 이어서 정리
+     */
+    @Override
+    @Transactional
+    public Optional<GuildCleanupJob> purgeChunk(final String cleanupJobId, final int chunkSize) {
+        Optional<GuildCleanupJob> claimed = cleanupJobRepository.lockUnfinished(cleanupJobId);
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        GuildCleanupJob cleanupJob = claimed.get();
+        GuildCleanupStage stage = cleanupJob.getStage();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        int purged = purge(stage, cleanupJob.getGuildId(), chunkSize);
+        cleanupJob.progress(purged);
+        cleanupJobRepository.save(cleanupJob);
+
+        sample.stop(meterRegistry.timer("guild.cleanup.chunk.duration", "stage", stage.name()));
+        Counter.builder("guild.cleanup.purged.rows")
+                .tag("stage", stage.name())
+                .register(meterRegistry)
+                .increment(purged);
+        if (cleanupJob.isCompleted()) {
+            meterRegistry.counter("guild.cleanup.jobs.completed").increment();
+        }
+        return claimed;
+    }
+
+    private int purge(final GuildCleanupStage stage, final String guildId, final int chunkSize) {
+        return switch (stage) {
+            case GUILD_MEMBER -> guildMemberRepository.deleteChunkByGuildId(guildId, chunkSize);
+            case CATEGORY -> categoryRepository.deleteChunkByGuildId(guildId, chunkSize);
+            case CHANNEL -> channelRepository.deleteChunkByGuildId(guildId, chunkSize);
+            case COMPLETED -> 0;
+        };
+    }
+}
@@ -1,5 +1,12 @@
 package com.asyncgate.guild_server.service;
 
+import com.asyncgate.guild_server.dto.response.GuildInvitationResponses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public interface GuildMemberService {
     void sendInvitation(String adminUserId, String guildId, String targetUserId);
 
@@ -8,4 +15,12 @@ public interface GuildMemberService {
     void rejectInvitation(String userId, String guildId);
 
     void cancelInvitation(String adminUserId, String guildId);
+
+    Map<String, Set<String>> findGuildIdsByUserIds(List<String> userIds);
+
+    Map<String, Set<String>> findMemberIdsByGuildIds(List<String> guildIds);
+
+    GuildInvitationResponses findPendingInvitations(String userId, String cursor, int size);
+
+    int expirePendingInvitations(LocalDateTime createdBefore, int chunkSize);
 }
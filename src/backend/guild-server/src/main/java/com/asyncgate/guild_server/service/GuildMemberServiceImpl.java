@@ -1,20 +1,41 @@
 package com.asyncgate.guild_server.service;
 
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.domain.GuildInvitation;
 import com.asyncgate.guild_server.domain.GuildInvitationStatus;
 import com.asyncgate.guild_server.domain.GuildMember;
+import com.asyncgate.guild_server.dto.response.GuildInvitationResponses;
 import com.asyncgate.guild_server.exception.FailType;
 import com.asyncgate.guild_server.exception.GuildServerException;
 import com.asyncgate.guild_server.repository.GuildMemberRepository;
+import com.asyncgate.guild_server.support.membership.GuildMembershipIndex;
+import com.asyncgate.guild_server.support.utility.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GuildMemberServiceImpl implements GuildMemberService {
 
     private final GuildMemberRepository guildMemberRepository;
+    private final GuildOutboxService guildOutboxService;
+    private final GuildMembershipIndex guildMembershipIndex;
+
+    @Value("${guild.membership-index.max-lookup-size:5000}")
+    private int maxLookupSize;
+
+    @Value("${guild.invitation.max-page-size:100}")
+    private int maxInvitationPageSize;
 
     @Override
     @Transactional
@@ -22,6 +43,7 @@ public class GuildMemberServiceImpl implements GuildMemberService {
         validAdminPermission(adminUserId, guildId);
         GuildMember invitedMember = GuildMember.invited(targetUserId, guildId);
         guildMemberRepository.save(invitedMember);
+        guildOutboxService.append(GuildChangeType.MEMBER_INVITED, guildId, targetUserId);
     }
 
     @Override
@@ -30,6 +52,7 @@ public class GuildMemberServiceImpl implements GuildMemberService {
         GuildMember member = guildMemberRepository.findByUserIdAndGuildIdAndStatus(userId, guildId, GuildInvitationStatus.PENDING);
         member.accept();
         guildMemberRepository.save(member);
+        guildOutboxService.append(GuildChangeType.MEMBER_JOINED, guildId, userId);
     }
 
     /**
@@ -41,6 +64,7 @@ public class GuildMemberServiceImpl implements GuildMemberService {
         GuildMember member = guildMemberRepository.findByUserIdAndGuildIdAndStatus(userId, guildId, GuildInvitationStatus.PENDING);
         member.reject();
         guildMemberRepository.save(member);
+        guildOutboxService.append(GuildChangeType.MEMBER_REJECTED, guildId, userId);
     }
 
     /**
@@ -53,6 +77,63 @@ public class GuildMemberServiceImpl implements GuildMemberService {
         GuildMember member = guildMemberRepository.findByUserIdAndGuildIdAndStatus(adminUserId, guildId, GuildInvitationStatus.PENDING);
         member.cancel();
         guildMemberRepository.save(member);
+        guildOutboxService.append(GuildChangeType.MEMBER_CANCELED, guildId, member.getUserId());
+    }
+
+    /**
+     * 사용자별 가입한 길드 ID 목록 (DB 조회 없이 메모리 역색인에서 조회)
+     */
+    @Override
+    public Map<String, Set<String>> findGuildIdsByUserIds(final List<String> userIds) {
+        return lookup(userIds, guildMembershipIndex::guildIdsOf);
+    }
+
+    /**
+     * 길드별 멤버 ID 목록 (DB 조회 없이 메모리 역색인에서 조회)
+     */
+    @Override
+    public Map<String, Set<String>> findMemberIdsByGuildIds(final List<String> guildIds) {
+        return lookup(guildIds, guildMembershipIndex::userIdsOf);
+    }
+
+    /**
+     * 사용자가 받은 PENDING 초대를 최근 순으로 조회 (size + 1 건을 조회하여 다음 페이지 존재 여부 판단)
+     */
+    @Override
+    public GuildInvitationResponses findPendingInvitations(final String userId, final String cursor, final int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxInvitationPageSize);
+        List<GuildInvitation> invitations = guildMemberRepository.findPendingInvitations(userId, CursorUtil.decode(cursor), pageSize + 1);
+        if (invitations.size() <= pageSize) {
+            return GuildInvitationResponses.of(invitations, null);
+        }
+        List<GuildInvitation> page = invitations.subList(0, pageSize);
+        GuildInvitation last = page.get(pageSize - 1);
+        return GuildInvitationResponses.of(page, CursorUtil.encode(last.invitedAt(), last.id()));
+    }
+
+    /**
+     * createdBefore 이전에 생성된 PENDING 초대를 최대 chunkSize 만큼 만료 (청크마다 별도 트랜잭션)
+     * 만료 이벤트도 같은 트랜잭션에서 outbox 에 기록
+     */
+    @Override
+    @Transactional
+    public int expirePendingInvitations(final LocalDateTime createdBefore, final int chunkSize) {
+        List<GuildMember> expiredMembers = guildMemberRepository.expireChunkCreatedBefore(createdBefore, chunkSize);
+        for (GuildMember member : expiredMembers) {
+            guildOutboxService.append(GuildChangeType.MEMBER_EXPIRED, member.getGuildId(), member.getUserId());
+        }
+        return expiredMembers.size();
+    }
+
+    private Map<String, Set<String>> lookup(final List<String> keys, final Function<String, Set<String>> finder) {
+        if (keys.size() > maxLookupSize) {
+            throw new GuildServerException(FailType.MEMBERSHIP_LOOKUP_TOO_LARGE);
+        }
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            result.put(key, finder.apply(key));
+        }
+        return result;
     }
 
     private void validAdminPermission(final String adminUserId, final String guildId) {
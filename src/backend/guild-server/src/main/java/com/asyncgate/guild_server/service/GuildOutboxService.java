@@ -0,0 +1,17 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface GuildOutboxService {
+    void append(GuildChangeType changeType, String guildId, String targetId);
+
+    boolean acquireRelayLease(String owner, Duration leaseTtl);
+
+    List<GuildOutboxEvent> findPending(int limit);
+
+    void deletePublished(List<GuildOutboxEvent> publishedEvents);
+}
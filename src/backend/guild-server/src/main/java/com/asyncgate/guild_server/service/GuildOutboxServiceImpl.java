@@ -0,0 +1,65 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import com.asyncgate.guild_server.repository.GuildOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GuildOutboxServiceImpl implements GuildOutboxService {
+
+    private final GuildOutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 변경 이벤트는 반드시 변경을 일으킨 트랜잭션 안에서 함께 커밋되어야 함
+     * 같은 인스턴스의 리스너에는 커밋 직후 바로 전달 (@TransactionalEventListener)
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final GuildChangeType changeType, final String guildId, final String targetId) {
+        GuildOutboxEvent outboxEvent = GuildOutboxEvent.create(changeType, guildId, targetId);
+        outboxEventRepository.save(outboxEvent);
+        applicationEventPublisher.publishEvent(GuildChangeEvent.from(outboxEvent));
+    }
+
+    /**
+     * relay lease 는 한 행(guild_outbox_relay_lease)을 짧은 UPDATE 로 갱신하므로 발행 중에는 락을 잡지 않는다
+     */
+    @Override
+    @Transactional
+    public boolean acquireRelayLease(final String owner, final Duration leaseTtl) {
+        return outboxEventRepository.acquireRelayLease(owner, leaseTtl.toMillis());
+    }
+
+    /**
+     * 남아 있는 행 = 미발행 이벤트. id 커서를 두지 않으므로 늦게 커밋된 낮은 id 의 행도 다음 주기에 그대로 발행된다
+     */
+    @Override
+    public List<GuildOutboxEvent> findPending(final int limit) {
+        return outboxEventRepository.findOldest(limit);
+    }
+
+    /**
+     * 발행에 성공한 이벤트만 outbox 에서 제거하여 테이블을 작게 유지 (실패한 배치는 남겨 다음 주기에 재발행)
+     */
+    @Override
+    @Transactional
+    public void deletePublished(final List<GuildOutboxEvent> publishedEvents) {
+        outboxEventRepository.deleteAllByIds(
+                publishedEvents.stream()
+                        .map(GuildOutboxEvent::getId)
+                        .toList()
+        );
+    }
+}
@@ -5,12 +5,14 @@ import com.asyncgate.guild_server.dto.response.GuildInfoResponse;
 import com.asyncgate.guild_server.dto.response.GuildResponse;
 import com.asyncgate.guild_server.dto.response.GuildResponses;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface GuildService {
-    GuildResponse create(String userId, GuildRequest request);
+    CompletableFuture<GuildResponse> create(String userId, GuildRequest request);
 
     void delete(String userId, String guildId);
 
-    GuildResponse update(String userId, String guildId, GuildRequest request);
+    CompletableFuture<GuildResponse> update(String userId, String guildId, GuildRequest request);
 
     GuildInfoResponse readOne(String userId, String guildId);
 
@@ -1,6 +1,7 @@
 package com.asyncgate.guild_server.service;
 
 import com.asyncgate.guild_server.domain.Guild;
+import com.asyncgate.guild_server.domain.GuildChangeType;
 import com.asyncgate.guild_server.domain.GuildMember;
 import com.asyncgate.guild_server.domain.GuildRole;
 import com.asyncgate.guild_server.dto.request.GuildRequest;
@@ -15,10 +16,13 @@ import com.asyncgate.guild_server.support.utility.S3Util;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -29,29 +33,51 @@ public class GuildServiceImpl implements GuildService {
     private final GuildMemberRepository guildMemberRepository;
     private final CategoryRepository categoryRepository;
     private final ChannelRepository channelRepository;
+    private final GuildCleanupService guildCleanupService;
+    private final GuildOutboxService guildOutboxService;
     private final S3Util s3Util;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${cloud.aws.s3.profile.default.url}")
     private String defaultProfileImageUrl;
 
+    /**
+     * S3 업로드가 끝나 객체가 존재한 뒤에 DB 트랜잭션을 시작 (업로드 동안 DB 커넥션과 요청 스레드를 점유하지 않음)
+     * DB 반영이 실패하면 업로드한 이미지를 정리
+     */
     @Override
-    @Transactional
-    public GuildResponse create(final String userId, final GuildRequest request) {
-        String profileImageUrl = getProfileImageUrl(request.getProfileImage());
-        Guild guild = Guild.create(request.getName(), request.isPrivate(), profileImageUrl);
-        guildRepository.save(guild);
-
-        GuildMember guildMember = GuildMember.createdByAdmin(userId, guild.getId());
-        guildMemberRepository.save(guildMember);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<GuildResponse> create(final String userId, final GuildRequest request) {
+        return getProfileImageUrl(request.getProfileImage())
+                .thenApply(profileImageUrl -> createGuild(userId, request, profileImageUrl));
+    }
 
-        return GuildResponse.from(guild);
+    private GuildResponse createGuild(final String userId, final GuildRequest request, final String profileImageUrl) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Guild guild = Guild.create(request.getName(), request.isPrivate(), profileImageUrl);
+                guildRepository.save(guild);
+
+                GuildMember guildMember = GuildMember.createdByAdmin(userId, guild.getId());
+                guildMemberRepository.save(guildMember);
+                guildOutboxService.append(GuildChangeType.GUILD_CREATED, guild.getId(), guild.getId());
+                guildOutboxService.append(GuildChangeType.MEMBER_JOINED, guild.getId(), userId);
+
+                return GuildResponse.from(guild);
+            });
+        } catch (RuntimeException e) {
+            if (!profileImageUrl.equals(defaultProfileImageUrl)) {
+                s3Util.deleteFileQuietly(profileImageUrl);
+            }
+            throw e;
+        }
     }
 
-    private String getProfileImageUrl(final MultipartFile profileImage) {
+    private CompletableFuture<String> getProfileImageUrl(final MultipartFile profileImage) {
         if (profileImage != null && !profileImage.isEmpty()) {
-            return s3Util.uploadFile(profileImage, Guild.class.getName());
+            return s3Util.uploadImage(profileImage, Guild.class.getName());
         } else {
-            return defaultProfileImageUrl;
+            return CompletableFuture.completedFuture(defaultProfileImageUrl);
         }
     }
 
@@ -60,9 +86,8 @@ public class GuildServiceImpl implements GuildService {
     public void delete(final String userId, final String guildId) {
         validatePermission(userId, guildId);
         guildRepository.deleteById(guildId);
-        guildMemberRepository.deleteAllByGuildId(guildId);
-        categoryRepository.deleteAllByGuildId(guildId);
-        channelRepository.deleteAllByGuildId(guildId);
+        guildCleanupService.register(guildId);
+        guildOutboxService.append(GuildChangeType.GUILD_DELETED, guildId, guildId);
     }
 
     private void validatePermission(final String userId, final String guildId) {
@@ -72,16 +97,47 @@ public class GuildServiceImpl implements GuildService {
         }
     }
 
+    /**
+     * 새 이미지는 트랜잭션 전에 업로드하고, 이전 이미지는 커밋이 끝난 뒤에 삭제
+     */
     @Override
-    @Transactional
-    public GuildResponse update(final String userId, final String guildId, final GuildRequest request) {
-        Guild guild = guildRepository.getById(guildId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<GuildResponse> update(final String userId, final String guildId, final GuildRequest request) {
+        String currentProfileImageUrl = guildRepository.getById(guildId).getProfileImageUrl();
         validatePermission(userId, guildId);
 
-        String profileImageUrl = determineProfileImageUrl(request.getProfileImage(), guild.getProfileImageUrl());
-        guild.update(request.getName(), request.isPrivate(), profileImageUrl);
-        guildRepository.save(guild);
-        return GuildResponse.from(guild);
+        return determineProfileImageUrl(request.getProfileImage(), currentProfileImageUrl)
+                .thenApply(profileImageUrl -> updateGuild(guildId, request, currentProfileImageUrl, profileImageUrl));
+    }
+
+    private GuildResponse updateGuild(
+            final String guildId,
+            final GuildRequest request,
+            final String currentProfileImageUrl,
+            final String profileImageUrl
+    ) {
+        boolean imageChanged = !profileImageUrl.equals(currentProfileImageUrl);
+
+        GuildResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                Guild guild = guildRepository.getById(guildId);
+                guild.update(request.getName(), request.isPrivate(), profileImageUrl);
+                guildRepository.save(guild);
+                guildOutboxService.append(GuildChangeType.GUILD_UPDATED, guildId, guildId);
+                return GuildResponse.from(guild);
+            });
+        } catch (RuntimeException e) {
+            if (imageChanged && !profileImageUrl.equals(defaultProfileImageUrl)) {
+                s3Util.deleteFileQuietly(profileImageUrl);
+            }
+            throw e;
+        }
+
+        if (imageChanged && !currentProfileImageUrl.equals(defaultProfileImageUrl)) {
+            s3Util.deleteFileQuietly(currentProfileImageUrl);
+        }
+        return response;
     }
 
     @Override
@@ -118,19 +174,16 @@ public class GuildServiceImpl implements GuildService {
         guildMemberRepository.findAcceptedMemberByUserIdAndGuildId(userId, guildId);
     }
 
-    private String determineProfileImageUrl(final MultipartFile newProfileImage, final String currentProfileImageUrl) {
+    private CompletableFuture<String> determineProfileImageUrl(final MultipartFile newProfileImage, final String currentProfileImageUrl) {
         // 클라이언트가 프로필을 변경하지 않았으므로 기존 이미지 유지
         if (newProfileImage == null) {
-            return currentProfileImageUrl;
+            return CompletableFuture.completedFuture(currentProfileImageUrl);
         }
         // 클라이언트가 기존 이미지를 삭제하려고 빈 파일을 보낸 경우 -> 기본 프로필로 변경
         if (newProfileImage.isEmpty()) {
-            return defaultProfileImageUrl;
-        }
-        if (!currentProfileImageUrl.equals(defaultProfileImageUrl)) {
-            // 기존 파일 삭제
-            s3Util.deleteFile(currentProfileImageUrl);
+            return CompletableFuture.completedFuture(defaultProfileImageUrl);
         }
-        return s3Util.uploadFile(newProfileImage, Guild.class.getName());
+        // 기존 파일은 DB 커밋 이후에 삭제
+        return s3Util.uploadImage(newProfileImage, Guild.class.getName());
     }
 }
@@ -0,0 +1,121 @@
+package com.asyncgate.guild_server.support.cache;
+
+import com.asyncgate.guild_server.dto.event.CacheEvictionEvent;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 변경(수정 / soft delete 벌크 UPDATE) 된 엔티티를 2차 캐시에서 명시적으로 제거
+ * 커밋 전에 제거하면 다른 트랜잭션이 변경 전 값을 다시 적재할 수 있어 커밋 이후에 제거
+ * 2차 캐시는 인스턴스마다 따로 있으므로 제거 요청을 Kafka 로 전파해 다른 인스턴스도 같은 id 를 제거한다
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final KafkaTemplate<String, CacheEvictionEvent> kafkaTemplate;
+    private final boolean enabled;
+    private final String topic;
+
+    public SecondLevelCacheEvictor(
+            final EntityManagerFactory entityManagerFactory,
+            final KafkaTemplate<String, CacheEvictionEvent> kafkaTemplate,
+            @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}") final boolean enabled,
+            @Value("${guild.l2cache.eviction-topic:guild-l2-eviction}") final String topic
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.enabled = enabled;
+        this.topic = topic;
+    }
+
+    public void evict(final Class<?> entityClass, final Object id) {
+        evictAll(entityClass, List.of(id));
+    }
+
+    public void evictAll(final Class<?> entityClass, final Collection<?> ids) {
+        List<String> keys = ids.stream().map(String::valueOf).toList();
+        afterCommit(() -> {
+            evictLocal(entityClass, keys);
+            broadcast(entityClass, keys);
+        });
+    }
+
+    public void evictRegion(final Class<?> entityClass) {
+        afterCommit(() -> {
+            evictLocal(entityClass, List.of());
+            broadcast(entityClass, List.of());
+        });
+    }
+
+    /**
+     * 모든 인스턴스가 모든 제거 요청을 받아야 하므로 group 없이 단일 파티션을 직접 할당받아 구독
+     * 2차 캐시를 켜지 않은 인스턴스는 구독하지 않는다
+     */
+    @KafkaListener(
+            id = "l2-cache-eviction",
+            topicPartitions = @TopicPartition(topic = "${guild.l2cache.eviction-topic:guild-l2-eviction}", partitions = "0"),
+            containerFactory = "cacheEvictionFactory",
+            autoStartup = "${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}"
+    )
+    public void onRemoteEviction(final CacheEvictionEvent event) {
+        if (instanceId.equals(event.sourceId())) {
+            return;
+        }
+        try {
+            evictLocal(Class.forName(event.entityClass()), event.ids());
+        } catch (ClassNotFoundException e) {
+            log.warn("알 수 없는 2차 캐시 엔티티 - {}", event.entityClass());
+        }
+    }
+
+    private void evictLocal(final Class<?> entityClass, final List<String> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        if (ids.isEmpty()) {
+            cache.evict(entityClass);
+            return;
+        }
+        ids.forEach(id -> cache.evict(entityClass, id));
+    }
+
+    // 전파에 실패해도 원래 요청은 성공시키고, 다른 인스턴스는 region 만료 시간까지만 이전 값을 볼 수 있다
+    private void broadcast(final Class<?> entityClass, final List<String> ids) {
+        if (!enabled) {
+            return;
+        }
+        kafkaTemplate.send(topic, new CacheEvictionEvent(instanceId, entityClass.getName(), ids))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("2차 캐시 제거 전파 실패 - {} {}", entityClass.getSimpleName(), ids, e);
+                    }
+                });
+    }
+
+    private void afterCommit(final Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.asyncgate.guild_server.support.direct;
+
+import com.asyncgate.guild_server.dto.event.DirectMessageActivityEvent;
+import com.asyncgate.guild_server.service.DirectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class DirectActivityListener {
+
+    private final DirectService directService;
+
+    /**
+     * DM 메시지를 배치로 받아 direct 별 가장 최근 시각만 한 번씩 갱신 (인스턴스 간 같은 group 으로 분배)
+     */
+    @KafkaListener(
+            topics = "${guild.direct.activity-topic:direct-message-topic}",
+            groupId = "guild-direct-activity",
+            containerFactory = "directActivityFactory"
+    )
+    public void onMessages(final List<DirectMessageActivityEvent> events) {
+        Map<String, LocalDateTime> lastActivities = new HashMap<>();
+        for (DirectMessageActivityEvent event : events) {
+            if (event == null || event.channelId() == null) {
+                continue;
+            }
+            LocalDateTime activityAt = event.createdAt() != null ? event.createdAt() : LocalDateTime.now();
+            lastActivities.merge(event.channelId(), activityAt, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        if (!lastActivities.isEmpty()) {
+            directService.updateLastActivity(lastActivities);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.asyncgate.guild_server.support.image;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 서버에서 생성하는 이미지 변형본 (긴 변 기준 최대 크기)
+ * 원본은 {prefix}/original, 변형본은 {prefix}/w{maxSize} 에 저장되므로 원본 URL 만으로 변형본 URL 을 계산
+ */
+@Getter
+public enum ImageVariant {
+    SMALL(64),
+    MEDIUM(256);
+
+    public static final String ORIGINAL_KEY = "/original";
+    // 서버에서 디코딩할 수 없는 형식(WebP 등)은 변형본 없이 원본만 저장, urlsOf 는 모든 변형에 원본 URL 을 사용
+    public static final String SOURCE_ONLY_KEY = "/source";
+
+    private final int maxSize;
+
+    ImageVariant(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public String keySuffix() {
+        return "/w" + maxSize;
+    }
+
+    // 파이프라인 이전에 업로드된 이미지나 기본 이미지는 변형본이 없으므로 원본 URL 을 그대로 사용
+    public static Map<ImageVariant, String> urlsOf(final String originalUrl) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : values()) {
+            if (originalUrl != null && originalUrl.endsWith(ORIGINAL_KEY)) {
+                urls.put(variant, originalUrl.substring(0, originalUrl.length() - ORIGINAL_KEY.length()) + variant.keySuffix());
+            } else {
+                urls.put(variant, originalUrl);
+            }
+        }
+        return urls;
+    }
+}
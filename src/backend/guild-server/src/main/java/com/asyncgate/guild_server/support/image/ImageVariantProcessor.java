@@ -0,0 +1,194 @@
+package com.asyncgate.guild_server.support.image;
+
+import com.asyncgate.guild_server.exception.FailType;
+import com.asyncgate.guild_server.exception.GuildServerException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본을 한 번만 디코딩하여 ImageVariant 별로 리사이즈/재압축 (고정 크기 워커 풀에서 실행)
+ */
+@Component
+public class ImageVariantProcessor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer processingTimer;
+    private final DistributionSummary outputBytes;
+
+    @Value("${image.variant.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${image.variant.timeout-ms:10000}")
+    private long timeoutMs;
+
+    @Value("${image.variant.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    public ImageVariantProcessor(
+            final MeterRegistry meterRegistry,
+            @Value("${image.variant.threads:4}") final int threads,
+            @Value("${image.variant.queue-capacity:64}") final int queueCapacity
+    ) {
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.processingTimer = meterRegistry.timer("image.variant.processing");
+        this.outputBytes = meterRegistry.summary("image.variant.output.bytes");
+        meterRegistry.gauge("image.variant.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    public record ResizedImage(ImageVariant variant, byte[] bytes, String contentType) {
+    }
+
+    // 설치된 ImageIO reader 로 디코딩할 수 있는 형식인지 (JDK 기본은 PNG/JPEG/GIF, WebP 는 플러그인이 있을 때만)
+    public boolean supports(final String contentType) {
+        return ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    /**
+     * 워커 풀에서 리사이즈하고 결과를 future 로 반환 (호출 스레드는 대기하지 않음)
+     * 제한 시간을 넘기면 작업을 중단하고 업로드 실패로 완료
+     */
+    public CompletableFuture<List<ResizedImage>> resizeAsync(final byte[] original) {
+        CompletableFuture<List<ResizedImage>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(processingTimer.recordCallable(() -> resizeAll(original)));
+                } catch (GuildServerException e) {
+                    result.completeExceptionally(e);
+                } catch (Exception e) {
+                    result.completeExceptionally(new GuildServerException(FailType._UPLOAD_FILE_ERROR));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new GuildServerException(FailType._UPLOAD_BUSY);
+        }
+        CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.completeExceptionally(new GuildServerException(FailType._UPLOAD_FILE_ERROR))) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<ResizedImage> resizeAll(final byte[] original) throws IOException {
+        BufferedImage source = decode(original);
+        boolean hasAlpha = source.getColorModel().hasAlpha();
+
+        List<ResizedImage> resizedImages = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage scaled = scale(source, variant.getMaxSize(), hasAlpha);
+            byte[] bytes = hasAlpha ? encodePng(scaled) : encodeJpeg(scaled);
+            outputBytes.record(bytes.length);
+            resizedImages.add(new ResizedImage(variant, bytes, hasAlpha ? "image/png" : "image/jpeg"));
+        }
+        return resizedImages;
+    }
+
+    // 픽셀 수를 먼저 확인하여 압축 폭탄 이미지는 디코딩하지 않음
+    private BufferedImage decode(final byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new GuildServerException(FailType.FILE_TYPE_NOT_SUPPORTED);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new GuildServerException(FailType.FILE_TOO_LARGE);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 절반씩 줄여가며 축소 (확대하지 않음)
+    private BufferedImage scale(final BufferedImage source, final int maxSize, final boolean hasAlpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, hasAlpha);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private BufferedImage draw(final BufferedImage source, final int width, final int height, final boolean hasAlpha) {
+        BufferedImage target = new BufferedImage(width, height, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodePng(final BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private byte[] encodeJpeg(final BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package com.asyncgate.guild_server.support.membership;
+
+import com.asyncgate.guild_server.domain.GuildMember;
+import com.asyncgate.guild_server.repository.GuildMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수락된 길드 멤버십의 양방향 역색인 (userId -> guildIds, guildId -> userIds)
+ * 멤버십 변경 이벤트로 갱신하고, 주기적으로 DB 에서 다시 적재하여 누락된 이벤트를 보정
+ * 재적재 중 들어온 변경은 따로 기록해 두었다가 새 색인에 다시 적용한 뒤 교체한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuildMembershipIndex {
+
+    private final GuildMemberRepository guildMemberRepository;
+
+    private volatile Map<String, Set<String>> guildIdsByUserId = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<String>> userIdsByGuildId = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private List<Delta> pendingDeltas;
+
+    @Value("${guild.membership-index.load-chunk-size:5000}")
+    private int loadChunkSize;
+
+    public Set<String> guildIdsOf(final String userId) {
+        return Collections.unmodifiableSet(guildIdsByUserId.getOrDefault(userId, Set.of()));
+    }
+
+    public Set<String> userIdsOf(final String guildId) {
+        return Collections.unmodifiableSet(userIdsByGuildId.getOrDefault(guildId, Set.of()));
+    }
+
+    public void join(final String userId, final String guildId) {
+        apply(new Delta(userId, guildId));
+    }
+
+    public void removeGuild(final String guildId) {
+        apply(new Delta(null, guildId));
+    }
+
+    private void apply(final Delta delta) {
+        synchronized (lock) {
+            delta.applyTo(guildIdsByUserId, userIdsByGuildId);
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${guild.membership-index.rebuild-interval:600000}",
+            fixedDelayString = "${guild.membership-index.rebuild-interval:600000}"
+    )
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (lock) {
+            pendingDeltas = new ArrayList<>();
+        }
+        Map<String, Set<String>> newGuildIdsByUserId = new ConcurrentHashMap<>();
+        Map<String, Set<String>> newUserIdsByGuildId = new ConcurrentHashMap<>();
+        try {
+            load(newGuildIdsByUserId, newUserIdsByGuildId);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingDeltas = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            for (Delta delta : pendingDeltas) {
+                delta.applyTo(newGuildIdsByUserId, newUserIdsByGuildId);
+            }
+            pendingDeltas = null;
+            this.guildIdsByUserId = newGuildIdsByUserId;
+            this.userIdsByGuildId = newUserIdsByGuildId;
+        }
+        log.info("Guild membership index 적재 완료 - users: {}, guilds: {}, {}ms",
+                newGuildIdsByUserId.size(), newUserIdsByGuildId.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // PK 기준 keyset 페이징으로 청크 단위 적재
+    private void load(final Map<String, Set<String>> newGuildIdsByUserId, final Map<String, Set<String>> newUserIdsByGuildId) {
+        String lastId = null;
+        List<GuildMember> chunk;
+        do {
+            chunk = guildMemberRepository.findAcceptedMembersAfter(lastId, loadChunkSize);
+            for (GuildMember member : chunk) {
+                newGuildIdsByUserId.computeIfAbsent(member.getUserId(), key -> ConcurrentHashMap.newKeySet()).add(member.getGuildId());
+                newUserIdsByGuildId.computeIfAbsent(member.getGuildId(), key -> ConcurrentHashMap.newKeySet()).add(member.getUserId());
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == loadChunkSize);
+    }
+
+    /**
+     * userId 가 null 이면 길드 삭제, 아니면 멤버 가입
+     */
+    private record Delta(String userId, String guildId) {
+
+        void applyTo(final Map<String, Set<String>> guildIdsByUserId, final Map<String, Set<String>> userIdsByGuildId) {
+            if (userId != null) {
+                guildIdsByUserId.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(guildId);
+                userIdsByGuildId.computeIfAbsent(guildId, key -> ConcurrentHashMap.newKeySet()).add(userId);
+                return;
+            }
+
+            Set<String> userIds = userIdsByGuildId.remove(guildId);
+            if (userIds == null) {
+                return;
+            }
+            for (String memberId : userIds) {
+                Set<String> guildIds = guildIdsByUserId.get(memberId);
+                if (guildIds != null) {
+                    guildIds.remove(guildId);
+                }
+            }
+        }
+    }
+}
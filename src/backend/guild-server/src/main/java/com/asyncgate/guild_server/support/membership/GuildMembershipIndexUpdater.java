@@ -0,0 +1,80 @@
+package com.asyncgate.guild_server.support.membership;
+
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class GuildMembershipIndexUpdater {
+
+    private final GuildMembershipIndex guildMembershipIndex;
+    private final String bootstrapServers;
+
+    /**
+     * 모든 인스턴스가 전체 이벤트를 받아야 하므로 인스턴스마다 별도 group 을 사용
+     * 오프셋은 커밋하지 않고 (재시작 시 rebuild 로 복구) 종료 시 group 을 삭제해 브로커에 남기지 않는다
+     */
+    @Getter
+    private final String groupId = "guild-membership-index-" + UUID.randomUUID();
+
+    public GuildMembershipIndexUpdater(
+            final GuildMembershipIndex guildMembershipIndex,
+            @Value("${spring.kafka.bootstrap-servers}") final String bootstrapServers
+    ) {
+        this.guildMembershipIndex = guildMembershipIndex;
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    /**
+     * 현재 인스턴스에서 커밋된 변경은 즉시 반영 (read-your-writes)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLocalChange(final GuildChangeEvent event) {
+        apply(event);
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 변경은 outbox relay 가 발행한 이벤트로 반영
+     */
+    @KafkaListener(
+            topics = "${guild.outbox.topic:guild-change}",
+            groupId = "#{__listener.groupId}",
+            containerFactory = "guildChangeFactory"
+    )
+    public void onRemoteChange(final GuildChangeEvent event) {
+        apply(event);
+    }
+
+    // 리스너 컨테이너가 먼저 멈춘 뒤 호출되므로 group 은 이미 비어 있다
+    @PreDestroy
+    public void deleteConsumerGroup() {
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            admin.deleteConsumerGroups(List.of(groupId)).all().get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("membership index consumer group 삭제 실패 - groupId: {}", groupId, e);
+        }
+    }
+
+    private void apply(final GuildChangeEvent event) {
+        switch (event.changeType()) {
+            case MEMBER_JOINED -> guildMembershipIndex.join(event.targetId(), event.guildId());
+            case GUILD_DELETED -> guildMembershipIndex.removeGuild(event.guildId());
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.asyncgate.guild_server.support.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * hedge 예산: 조회 호출마다 ratio 만큼 적립하고 hedge 한 번에 1 을 쓴다 (최대 burst 까지 적립)
+ * 대상 서비스가 느려져 모든 호출이 hedge-delay 를 넘겨도 추가 요청은 전체 호출의 ratio 이내로 묶인다
+ */
+final class HedgeBudget {
+
+    // 소수 ratio 를 정수로 다루기 위한 단위 (token 1 개 = 1000)
+    private static final long UNIT = 1_000;
+
+    private final long deposit;
+    private final long max;
+    private final AtomicLong balance;
+
+    HedgeBudget(final double ratio, final int burst) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.max = Math.max(1, burst) * UNIT;
+        this.balance = new AtomicLong(max);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(max, current + amount));
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
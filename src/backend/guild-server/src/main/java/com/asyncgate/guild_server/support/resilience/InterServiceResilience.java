@@ -0,0 +1,170 @@
+package com.asyncgate.guild_server.support.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 간 호출 보호 (대상 서비스별 bulkhead / circuit breaker / retry / hedging)
+ * 인스턴스 설정은 resilience4j.{bulkhead,circuitbreaker,retry}.instances.{target}, hedge 설정은 inter-service.{target}.hedge-*
+ * retry 는 hedge 바깥에 하나만 두고 hedge 는 예산(hedge-budget-ratio) 안에서만 보내므로, 조회 한 번의 추가 부하는 retry 횟수 + 예산으로 제한된다
+ * 상태 / 호출 수 metric 은 resilience4j 가 MeterRegistry 에 등록하고, hedge 발생 수는 inter-service.hedged{target} 로 기록
+ */
+@Component
+public class InterServiceResilience implements DisposableBean {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, HedgeBudget> hedgeBudgets = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "inter-service-hedge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InterServiceResilience(
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry,
+            final RetryRegistry retryRegistry,
+            final Environment environment,
+            final MeterRegistry meterRegistry
+    ) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryRegistry = retryRegistry;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 멱등이 아닌 호출: 재시도 / hedging 없이 bulkhead + circuit breaker 만 적용
+     */
+    public <T> T call(final String target, final Supplier<T> call) {
+        return protect(target, call).get();
+    }
+
+    /**
+     * 멱등 조회: 실패 시 제한된 횟수만 재시도하고, hedge-delay 안에 응답이 없으면 (예산이 남아 있고 circuit 이 닫혀 있을 때) 같은 요청을 한 번 더 보내 먼저 성공한 응답 사용
+     */
+    public <T> T read(final String target, final Supplier<T> call) {
+        Retry retry = retryRegistry.retry(target);
+        Supplier<T> attempt = protect(target, call);
+
+        Duration hedgeDelay = environment.getProperty("inter-service." + target + ".hedge-delay", Duration.class);
+        if (hedgeDelay == null || hedgeDelay.isZero() || hedgeDelay.isNegative()) {
+            return Retry.decorateSupplier(retry, attempt).get();
+        }
+
+        HedgeBudget budget = hedgeBudget(target);
+        budget.deposit();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(target);
+        return Retry.decorateSupplier(retry, () -> hedged(target, attempt, hedgeDelay, budget, circuitBreaker)).get();
+    }
+
+    private <T> T hedged(
+            final String target,
+            final Supplier<T> attempt,
+            final Duration hedgeDelay,
+            final HedgeBudget budget,
+            final CircuitBreaker circuitBreaker
+    ) {
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(attempt, hedgeExecutor);
+        try {
+            return primary.get(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대상이 이미 실패 중(half-open 등)이거나 예산을 다 쓰면 hedge 없이 첫 요청을 기다린다
+            if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED || !budget.tryAcquire()) {
+                return join(primary);
+            }
+            Counter.builder("inter-service.hedged")
+                    .tag("target", target)
+                    .register(meterRegistry)
+                    .increment();
+            return firstSuccessful(primary, CompletableFuture.supplyAsync(attempt, hedgeExecutor));
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("inter-service call interrupted: " + target, e);
+        }
+    }
+
+    private HedgeBudget hedgeBudget(final String target) {
+        return hedgeBudgets.computeIfAbsent(target, key -> new HedgeBudget(
+                environment.getProperty("inter-service." + key + ".hedge-budget-ratio", Double.class, 0.1),
+                environment.getProperty("inter-service." + key + ".hedge-budget-burst", Integer.class, 10)
+        ));
+    }
+
+    // bulkhead 가 가장 안쪽: 차단된 호출은 동시 실행 슬롯을 차지하지 않는다
+    private <T> Supplier<T> protect(final String target, final Supplier<T> call) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(target);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(target);
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    // 둘 중 먼저 성공한 응답을 사용하고, 둘 다 실패하면 나중 실패를 전파
+    private static <T> T firstSuccessful(final CompletableFuture<T> primary, final CompletableFuture<T> hedge) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, Throwable> complete = (value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        };
+        primary.whenComplete(complete);
+        hedge.whenComplete(complete);
+        return join(result);
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        return new CompletionException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        hedgeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+package com.asyncgate.guild_server.support.scheduler;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+import com.asyncgate.guild_server.service.GuildCleanupService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class GuildCleanupScheduler {
+
+    private final GuildCleanupService guildCleanupService;
+    private final AtomicLong unfinishedJobs = new AtomicLong();
+
+    @Value("${guild.cleanup.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${guild.cleanup.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    @Value("${guild.cleanup.chunks-per-job:20}")
+    private int chunksPerJob;
+
+    public GuildCleanupScheduler(final GuildCleanupService guildCleanupService, final MeterRegistry meterRegistry) {
+        this.guildCleanupService = guildCleanupService;
+        meterRegistry.gauge("guild.cleanup.jobs.unfinished", unfinishedJobs);
+    }
+
+    @Scheduled(fixedDelayString = "${guild.cleanup.fixed-delay:10000}")
+    public void run() {
+        List<GuildCleanupJob> cleanupJobs = guildCleanupService.findUnfinished(jobsPerRun);
+        for (GuildCleanupJob cleanupJob : cleanupJobs) {
+            runJob(cleanupJob);
+        }
+        unfinishedJobs.set(guildCleanupService.countUnfinished());
+    }
+
+    // 청크마다 별도 트랜잭션으로 작업 행을 잠그고 커밋되므로 한 길드가 오래 락을 잡지 않고,
+    // 여러 인스턴스가 같은 작업을 조회해도 한 청크는 한 인스턴스만 처리하며 진행 상황은 항상 저장된 값에서 이어진다
+    private void runJob(final GuildCleanupJob cleanupJob) {
+        try {
+            for (int i = 0; i < chunksPerJob; i++) {
+                Optional<GuildCleanupJob> progressed = guildCleanupService.purgeChunk(cleanupJob.getId(), chunkSize);
+                if (progressed.isEmpty()) {
+                    // 다른 인스턴스가 처리 중이거나 이미 완료된 작업
+                    return;
+                }
+                if (progressed.get().isCompleted()) {
+                    log.info("Guild[{}] 정리 완료 - purged rows: {}", cleanupJob.getGuildId(), progressed.get().getPurgedCount());
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // 다음 실행에서 저장된 단계부터 재시도
+            log.error("Guild[{}] 정리 중 오류 발생", cleanupJob.getGuildId(), e);
+        }
+    }
+}
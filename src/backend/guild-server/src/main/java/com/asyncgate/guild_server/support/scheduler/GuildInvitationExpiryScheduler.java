@@ -0,0 +1,66 @@
+package com.asyncgate.guild_server.support.scheduler;
+
+import com.asyncgate.guild_server.service.GuildMemberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class GuildInvitationExpiryScheduler {
+
+    private final GuildMemberService guildMemberService;
+    private final Timer sweepTimer;
+    private final Counter expiredCounter;
+
+    @Value("${guild.invitation.ttl:P7D}")
+    private Duration ttl;
+
+    @Value("${guild.invitation.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${guild.invitation.expiry.chunks-per-run:20}")
+    private int chunksPerRun;
+
+    public GuildInvitationExpiryScheduler(final GuildMemberService guildMemberService, final MeterRegistry meterRegistry) {
+        this.guildMemberService = guildMemberService;
+        this.sweepTimer = meterRegistry.timer("guild.invitation.expiry.sweep.duration");
+        this.expiredCounter = meterRegistry.counter("guild.invitation.expired");
+    }
+
+    // 한 번의 실행에서 최대 chunkSize * chunksPerRun 건만 처리하고 나머지는 다음 실행으로 넘김
+    @Scheduled(fixedDelayString = "${guild.invitation.expiry.fixed-delay:60000}")
+    public void sweep() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(ttl);
+        long start = System.nanoTime();
+        int expired = expireChunks(createdBefore);
+        sweepTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        expiredCounter.increment(expired);
+        if (expired > 0) {
+            log.info("만료된 길드 초대 {}건 처리 (생성 시각 < {})", expired, createdBefore);
+        }
+    }
+
+    private int expireChunks(final LocalDateTime createdBefore) {
+        int total = 0;
+        try {
+            for (int i = 0; i < chunksPerRun; i++) {
+                int expired = guildMemberService.expirePendingInvitations(createdBefore, chunkSize);
+                total += expired;
+                if (expired < chunkSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("길드 초대 만료 처리 중 오류 발생", e);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,75 @@
+package com.asyncgate.guild_server.support.scheduler;
+
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import com.asyncgate.guild_server.service.GuildOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuildOutboxRelay {
+
+    private final GuildOutboxService guildOutboxService;
+    private final KafkaTemplate<String, GuildChangeEvent> kafkaTemplateForGuildChange;
+    private final String relayId = UUID.randomUUID().toString();
+
+    @Value("${guild.outbox.topic:guild-change}")
+    private String topic;
+
+    @Value("${guild.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${guild.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    // send-timeout-ms 보다 충분히 길어야 발행 도중 다른 인스턴스로 lease 가 넘어가지 않음
+    @Value("${guild.outbox.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    /**
+     * outbox 에 쌓인 이벤트를 순서대로 묶어서 발행 (at-least-once, 소비자는 eventId 로 중복 제거)
+     * lease 를 가진 한 인스턴스만 발행하고 guildId 를 key 로 사용하므로 같은 길드의 이벤트는 id 순서대로 같은 파티션에 쌓인다
+     * 조회 / 삭제는 각각 짧은 트랜잭션이고 Kafka ack 를 기다리는 동안에는 DB 커넥션을 잡지 않는다
+     */
+    @Scheduled(fixedDelayString = "${guild.outbox.fixed-delay:500}")
+    public void relay() {
+        if (!guildOutboxService.acquireRelayLease(relayId, Duration.ofMillis(leaseTtlMs))) {
+            return;
+        }
+
+        List<GuildOutboxEvent> pendingEvents = guildOutboxService.findPending(batchSize);
+        if (pendingEvents.isEmpty() || !send(pendingEvents)) {
+            return;
+        }
+        guildOutboxService.deletePublished(pendingEvents);
+    }
+
+    private boolean send(final List<GuildOutboxEvent> pendingEvents) {
+        try {
+            CompletableFuture<?>[] futures = pendingEvents.stream()
+                    .map(event -> kafkaTemplateForGuildChange.send(topic, event.getGuildId(), GuildChangeEvent.from(event)))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // 발행에 실패한 배치는 outbox 에 남겨두고 다음 실행에서 재발행
+            log.error("Guild 변경 이벤트 발행 실패 - batch size: {}", pendingEvents.size(), e);
+            return false;
+        }
+    }
+}
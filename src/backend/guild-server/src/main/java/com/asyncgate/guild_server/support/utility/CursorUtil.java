@@ -0,0 +1,38 @@
+package com.asyncgate.guild_server.support.utility;
+
+import com.asyncgate.guild_server.exception.FailType;
+import com.asyncgate.guild_server.exception.GuildServerException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset 페이징 커서 (정렬 시각 + id) 를 불투명한 문자열로 인코딩
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    public record Cursor(LocalDateTime time, String id) {
+    }
+
+    public static String encode(final LocalDateTime time, final String id) {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(final String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (Exception e) {
+            throw new GuildServerException(FailType.CURSOR_BAD_REQUEST);
+        }
+    }
+}
@@ -95,13 +95,17 @@ public class DomainUtil {
         public static DirectEntity toEntity(final Direct domain) {
             return DirectEntity.builder()
                     .id(domain.getId())
+                    .memberKey(domain.getMemberKey())
+                    .lastActivityAt(domain.getLastActivityAt())
                     .build();
         }
 
         public static Direct toDomain(final DirectEntity entity) {
             return Direct.builder()
                     .id(entity.getId())
+                    .memberKey(entity.getMemberKey())
                     .createdDate(entity.getCreatedDate())
+                    .lastActivityAt(entity.getLastActivityAt())
                     .build();
         }
     }
@@ -126,4 +130,47 @@ public class DomainUtil {
                     .build();
         }
     }
+
+    public static class GuildCleanupJobMapper {
+        public static GuildCleanupJobEntity toEntity(final GuildCleanupJob cleanupJob) {
+            return GuildCleanupJobEntity.builder()
+                    .id(cleanupJob.getId())
+                    .guildId(cleanupJob.getGuildId())
+                    .stage(cleanupJob.getStage())
+                    .purgedCount(cleanupJob.getPurgedCount())
+                    .build();
+        }
+
+        public static GuildCleanupJob toDomain(final GuildCleanupJobEntity entity) {
+            return GuildCleanupJob.builder()
+                    .id(entity.getId())
+                    .guildId(entity.getGuildId())
+                    .stage(entity.getStage())
+                    .purgedCount(entity.getPurgedCount())
+                    .build();
+        }
+    }
+
+    public static class GuildOutboxEventMapper {
+        public static GuildOutboxEventEntity toEntity(final GuildOutboxEvent outboxEvent) {
+            return GuildOutboxEventEntity.builder()
+                    .id(outboxEvent.getId())
+                    .eventId(outboxEvent.getEventId())
+                    .changeType(outboxEvent.getChangeType())
+                    .guildId(outboxEvent.getGuildId())
+                    .targetId(outboxEvent.getTargetId())
+                    .build();
+        }
+
+        public static GuildOutboxEvent toDomain(final GuildOutboxEventEntity entity) {
+            return GuildOutboxEvent.builder()
+                    .id(entity.getId())
+                    .eventId(entity.getEventId())
+                    .changeType(entity.getChangeType())
+                    .guildId(entity.getGuildId())
+                    .targetId(entity.getTargetId())
+                    .createdDate(entity.getCreatedDate())
+                    .build();
+        }
+    }
 }
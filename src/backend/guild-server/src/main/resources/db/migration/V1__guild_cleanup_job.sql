@@ -0,0 +1,21 @@
+-- 길드 삭제 후 하위 데이터를 단계별로 정리하는 작업 (GuildCleanupScheduler)
+
+CREATE TABLE guild_cleanup_job
+(
+    id                 VARCHAR(255) NOT NULL,
+    guild_id           VARCHAR(255) NOT NULL,
+    stage              VARCHAR(32)  NOT NULL,
+    purged_count       BIGINT       NOT NULL DEFAULT 0,
+    deleted            BIT(1)       NOT NULL DEFAULT b'0',
+    created_by         VARCHAR(255) NULL,
+    last_modified_by   VARCHAR(255) NULL,
+    created_date       DATETIME(6)  NULL,
+    last_modified_date DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_guild_cleanup_job_guild_id UNIQUE (guild_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_guild_cleanup_job_stage ON guild_cleanup_job (stage, created_date);
+
+-- 삭제된 길드의 멤버를 청크 단위로 정리할 때 사용
+CREATE INDEX idx_guild_member_guild_id_deleted ON guild_member (guild_id, deleted);
@@ -0,0 +1,12 @@
+-- outbox relay 단일 실행용 lease (GuildOutboxRelay, 한 인스턴스만 발행해 길드별 이벤트 순서 유지)
+
+CREATE TABLE guild_outbox_relay_lease
+(
+    name        VARCHAR(64) NOT NULL,
+    owner       VARCHAR(64) NULL,
+    lease_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO guild_outbox_relay_lease (name, owner, lease_until)
+VALUES ('guild-outbox-relay', NULL, '1970-01-01 00:00:00.000000');
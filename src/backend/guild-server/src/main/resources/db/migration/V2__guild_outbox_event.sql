@@ -0,0 +1,14 @@
+-- 길드 변경 이벤트 outbox (GuildOutboxService.append 가 변경과 같은 트랜잭션에서 쓰고 GuildOutboxRelay 가 발행 후 삭제)
+
+CREATE TABLE guild_outbox_event
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id           VARCHAR(255) NOT NULL,
+    change_type        VARCHAR(32)  NOT NULL,
+    guild_id           VARCHAR(255) NOT NULL,
+    target_id          VARCHAR(255) NULL,
+    created_date       DATETIME(6)  NULL,
+    last_modified_date DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_guild_outbox_event_event_id UNIQUE (event_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- DM 목록 keyset 페이지 (DirectQueryDslRepository) 의 정렬 기준 컬럼
+-- 기존 DM 은 생성 시각으로 채운 뒤 NOT NULL 로 변경
+
+ALTER TABLE direct
+    ADD COLUMN last_activity_at DATETIME(6) NULL;
+
+UPDATE direct
+SET last_activity_at = COALESCE(created_date, NOW(6))
+WHERE last_activity_at IS NULL;
+
+ALTER TABLE direct
+    MODIFY last_activity_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_direct_last_activity_at ON direct (last_activity_at, id);
+
+CREATE INDEX idx_direct_member_member_id_deleted ON direct_member (member_id, deleted);
+CREATE INDEX idx_direct_member_direct_id ON direct_member (direct_id);
@@ -0,0 +1,29 @@
+-- 같은 멤버 구성의 DM 중복 생성 방지 키 (Direct.memberKeyOf: 정렬된 멤버 id 를 ',' 로 이은 문자열의 SHA-256)
+-- 기존 DM 도 direct_member 로 키를 채운 뒤 unique index 를 만든다
+-- 이미 같은 멤버 구성의 DM 이 여러 개면 활성 → 최근 활동 순으로 하나에만 키를 주고 나머지는 NULL 로 남긴다
+
+ALTER TABLE direct
+    ADD COLUMN member_key VARCHAR(64) NULL;
+
+SET SESSION group_concat_max_len = 1048576;
+
+-- Java 의 String 정렬과 같도록 binary collation 으로 정렬
+CREATE TEMPORARY TABLE direct_member_key_backfill AS
+SELECT direct_id,
+       SHA2(GROUP_CONCAT(DISTINCT member_id ORDER BY member_id COLLATE utf8mb4_bin SEPARATOR ','), 256) AS member_key
+FROM direct_member
+GROUP BY direct_id;
+
+UPDATE direct d
+    JOIN (SELECT ranked.id, ranked.member_key
+          FROM (SELECT d2.id,
+                       k.member_key,
+                       ROW_NUMBER() OVER (PARTITION BY k.member_key ORDER BY d2.deleted, d2.last_activity_at DESC, d2.id) AS rn
+                FROM direct d2
+                         JOIN direct_member_key_backfill k ON k.direct_id = d2.id) ranked
+          WHERE ranked.rn = 1) keyed ON keyed.id = d.id
+SET d.member_key = keyed.member_key;
+
+DROP TEMPORARY TABLE direct_member_key_backfill;
+
+CREATE UNIQUE INDEX uk_direct_member_key ON direct (member_key);
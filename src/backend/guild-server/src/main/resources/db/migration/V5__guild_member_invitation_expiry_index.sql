@@ -0,0 +1,3 @@
+-- 오래된 PENDING 초대를 만료 처리할 때 (status, created_date) 범위 조회 (GuildInvitationExpiryScheduler)
+
+CREATE INDEX idx_guild_member_status_created_date ON guild_member (status, created_date);
@@ -0,0 +1,3 @@
+-- 사용자별 대기 중 초대함의 keyset 페이지 (userId, status, deleted 일치 + created_date 순서를 인덱스에서 읽음)
+
+CREATE INDEX idx_guild_member_user_id_status_deleted ON guild_member (user_id, status, deleted, created_date);
@@ -0,0 +1,73 @@
+package com.asyncgate.guild_server.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicPathMatcherTest {
+
+    private final PublicPathMatcher matcher = PublicPathMatcher.of(SecurityConstants.PUBLIC_ENDPOINTS);
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("공개 경로 목록에 대해 정확한 경로와 /** 하위 경로만 인증 없이 통과한다")
+    @CsvSource({
+            // 정확한 경로
+            "/health, true",
+            "/error, true",
+            "/actuator/prometheus, true",
+            "/swagger-ui.html, true",
+            "/swagger-ui/index.html, true",
+            // "/v3/api-docs/**" 는 자기 자신과 모든 하위 경로
+            "/v3/api-docs, true",
+            "/v3/api-docs/guild, true",
+            "/v3/api-docs/swagger-config, true",
+            "/webjars, true",
+            "/webjars/swagger-ui/4.0/index.js, true",
+            // 정확한 경로는 하위 경로를 열지 않는다
+            "/health/detail, false",
+            "/actuator/health, false",
+            "/actuator, false",
+            "/swagger-ui/other.js, false",
+            // 같은 접두 문자열이어도 경로 구분자 경계가 아니면 제외
+            "/v3/api-docsx, false",
+            "/webjarsx/a.js, false",
+            "/healthz, false",
+            // 인증이 필요한 API
+            "/guilds, false",
+            "/guilds/guild-1, false",
+            "/, false",
+            "'', false"
+    })
+    void matchesTable(final String path, final boolean expected) {
+        assertThat(matcher.matches(path)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("null 경로는 공개 경로가 아니다")
+    void nullPath() {
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("/** 패턴이 없으면 정확한 경로만 비교한다")
+    void exactOnly() {
+        PublicPathMatcher exactOnly = PublicPathMatcher.of("/health");
+
+        assertThat(exactOnly.matches("/health")).isTrue();
+        assertThat(exactOnly.matches("/health/detail")).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("지원하지 않는 패턴은 시작 시점에 거부한다")
+    @ValueSource(strings = {"health", "/guilds/*", "/guilds/**/members", "/guilds/{guildId}", "/a?c", "/**/docs"})
+    void rejectsUnsupportedPatterns(final String pattern) {
+        assertThatThrownBy(() -> PublicPathMatcher.of(pattern))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(pattern);
+    }
+}
@@ -0,0 +1,104 @@
+package com.asyncgate.guild_server.security.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalIdentityVerifierTest {
+
+    private static final String SECRET_KEY = "internal-identity-test-key";
+
+    private final InternalIdentityVerifier verifier = new InternalIdentityVerifier(SECRET_KEY);
+
+    @Test
+    @DisplayName("게이트웨이 형식으로 서명된 유효한 헤더면 memberId 를 반환한다")
+    void verifiesSignedIdentity() {
+        String header = sign(SECRET_KEY, "member-1", expiresIn(60_000));
+
+        assertThat(verifier.verify(header)).isEqualTo("member-1");
+        assertThat(verifier.verifyService(header)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 헤더는 서명이 맞아도 거부한다")
+    void rejectsExpired() {
+        assertThat(verifier.verify(sign(SECRET_KEY, "member-1", expiresIn(-1)))).isNull();
+    }
+
+    @Test
+    @DisplayName("memberId / 만료 시각 / 서명 중 하나라도 바뀌면 거부한다")
+    void rejectsTampered() {
+        long expiresAt = expiresIn(60_000);
+        String header = sign(SECRET_KEY, "member-1", expiresAt);
+        String signature = header.substring(header.lastIndexOf('.') + 1);
+
+        assertThat(verifier.verify("member-2." + expiresAt + "." + signature)).isNull();
+        assertThat(verifier.verify("member-1." + (expiresAt + 60_000) + "." + signature)).isNull();
+        assertThat(verifier.verify("member-1." + expiresAt + "." + flipFirstChar(signature))).isNull();
+        assertThat(verifier.verify(sign("other-key", "member-1", expiresAt))).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 헤더는 예외 없이 null 을 반환한다")
+    void rejectsMalformed() {
+        long expiresAt = expiresIn(60_000);
+
+        assertThat(verifier.verify(null)).isNull();
+        assertThat(verifier.verify("")).isNull();
+        assertThat(verifier.verify("member-1")).isNull();
+        assertThat(verifier.verify("member-1." + expiresAt)).isNull();
+        assertThat(verifier.verify("..")).isNull();
+        assertThat(verifier.verify("member-1.not-a-number.c2ln")).isNull();
+        assertThat(verifier.verify("member-1." + expiresAt + ".%%%")).isNull();
+    }
+
+    @Test
+    @DisplayName("memberId 에 '.' 이 있어도 마지막 두 구분자로 나눠 검증한다")
+    void memberIdWithDot() {
+        assertThat(verifier.verify(sign(SECRET_KEY, "member.1", expiresIn(60_000)))).isEqualTo("member.1");
+    }
+
+    @Test
+    @DisplayName("service: 접두어로 서명된 신원은 verifyService 가 서비스 이름을 반환한다")
+    void verifiesServiceIdentity() {
+        String header = sign(SECRET_KEY, InternalIdentityVerifier.SERVICE_PREFIX + "chat-server", expiresIn(60_000));
+
+        assertThat(verifier.verifyService(header)).isEqualTo("chat-server");
+    }
+
+    @Test
+    @DisplayName("키가 설정되지 않았으면 모든 헤더를 거부해 JWT 검증으로 넘긴다")
+    void disabledWithoutKey() {
+        InternalIdentityVerifier disabled = new InternalIdentityVerifier("");
+
+        assertThat(disabled.verify(sign(SECRET_KEY, "member-1", expiresIn(60_000)))).isNull();
+    }
+
+    private static long expiresIn(final long millis) {
+        return System.currentTimeMillis() + millis;
+    }
+
+    // apigateway InternalIdentitySigner 와 같은 형식
+    private static String sign(final String secretKey, final String memberId, final long expiresAtMillis) {
+        String payload = memberId + "." + expiresAtMillis;
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String flipFirstChar(final String value) {
+        char replaced = value.charAt(0) == 'A' ? 'B' : 'A';
+        return replaced + value.substring(1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.client.UserClientInfoResponses.UserClientInfoResponse;
+import com.asyncgate.guild_server.client.UserProfileCache;
+import com.asyncgate.guild_server.domain.Direct;
+import com.asyncgate.guild_server.domain.DirectMember;
+import com.asyncgate.guild_server.dto.request.DirectChannelCreateRequest;
+import com.asyncgate.guild_server.dto.response.DirectResponse;
+import com.asyncgate.guild_server.repository.DirectMemberRepository;
+import com.asyncgate.guild_server.repository.DirectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectServiceImplTest {
+
+    private static final String CURRENT_USER = "member-1";
+    private static final String MEMBER_KEY = Direct.memberKeyOf(List.of("member-1", "member-2"));
+
+    private final UserProfileCache userProfileCache = mock(UserProfileCache.class);
+    private final DirectRepository directRepository = mock(DirectRepository.class);
+    private final DirectMemberRepository directMemberRepository = mock(DirectMemberRepository.class);
+    private final DirectServiceImpl directService =
+            new DirectServiceImpl(userProfileCache, directRepository, directMemberRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(userProfileCache.getAll(anyCollection())).thenReturn(List.of(profile("member-1"), profile("member-2")));
+    }
+
+    @Test
+    @DisplayName("멤버 순서 / 중복과 관계없이 같은 멤버 구성이면 같은 memberKey 가 된다")
+    void memberKeyIsCanonical() {
+        assertThat(Direct.memberKeyOf(List.of("member-2", "member-1", "member-2"))).isEqualTo(MEMBER_KEY);
+        assertThat(Direct.create(MEMBER_KEY).getId()).isEqualTo(Direct.create(MEMBER_KEY).getId());
+    }
+
+    @Test
+    @DisplayName("같은 멤버 구성의 활성 DM 이 있으면 user-server 호출 없이 기존 DM 을 반환한다")
+    void returnsExisting() {
+        when(directRepository.findByMemberKey(MEMBER_KEY))
+                .thenReturn(Optional.of(direct("existing-direct")));
+
+        DirectResponse response = directService.create(CURRENT_USER, request("member-2"));
+
+        assertThat(response.directId()).isEqualTo("existing-direct");
+        verify(userProfileCache, never()).getAll(anyCollection());
+        verify(directRepository, never()).insertIfAbsent(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("새 멤버 구성이면 memberKey 로 정해진 id 로 DM 과 멤버를 저장한다")
+    void createsNew() {
+        when(directRepository.insertIfAbsent(any(), eq(CURRENT_USER))).thenReturn(true);
+
+        DirectResponse response = directService.create(CURRENT_USER, request("member-2"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DirectMember>> members = ArgumentCaptor.forClass(List.class);
+        verify(directMemberRepository).saveAll(members.capture());
+        assertThat(response.directId()).isEqualTo(Direct.create(MEMBER_KEY).getId());
+        assertThat(members.getValue())
+                .extracting(DirectMember::getDirectId)
+                .containsOnly(response.directId());
+        assertThat(members.getValue())
+                .extracting(DirectMember::getMemberId)
+                .containsExactlyInAnyOrder("member-1", "member-2");
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 삽입했으면 멤버를 다시 저장하지 않고 저장된 DM 을 반환한다")
+    void lostInsertRace() {
+        String directId = Direct.create(MEMBER_KEY).getId();
+        when(directRepository.insertIfAbsent(any(), eq(CURRENT_USER))).thenReturn(false);
+        when(directRepository.lockByMemberKey(MEMBER_KEY)).thenReturn(Optional.of(direct(directId)));
+
+        DirectResponse response = directService.create(CURRENT_USER, request("member-2"));
+
+        assertThat(response.directId()).isEqualTo(directId);
+        verify(directMemberRepository, never()).saveAll(anyList());
+        verify(directMemberRepository, never()).reactivateByDirectId(anyString());
+    }
+
+    @Test
+    @DisplayName("soft delete 된 기존 DM 은 저장된 id 로 멤버와 함께 되살린다 (memberKey 도입 전 DM 포함)")
+    void revivesDeletedWithStoredId() {
+        when(directRepository.insertIfAbsent(any(), eq(CURRENT_USER))).thenReturn(false);
+        when(directRepository.lockByMemberKey(MEMBER_KEY)).thenReturn(Optional.of(direct("legacy-random-id")));
+        when(directRepository.reactivate(MEMBER_KEY)).thenReturn(true);
+
+        DirectResponse response = directService.create(CURRENT_USER, request("member-2"));
+
+        assertThat(response.directId()).isEqualTo("legacy-random-id");
+        verify(directMemberRepository).reactivateByDirectId("legacy-random-id");
+        verify(directMemberRepository, never()).saveAll(anyList());
+    }
+
+    private static DirectChannelCreateRequest request(final String... memberIds) {
+        return new DirectChannelCreateRequest(List.of(memberIds));
+    }
+
+    private static Direct direct(final String id) {
+        return Direct.builder()
+                .id(id)
+                .memberKey(MEMBER_KEY)
+                .build();
+    }
+
+    private static UserClientInfoResponse profile(final String userId) {
+        return new UserClientInfoResponse(userId, userId + "-name", null, null, null, null, null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.asyncgate.guild_server.service;
+
+import com.asyncgate.guild_server.domain.GuildCleanupJob;
+import com.asyncgate.guild_server.domain.GuildCleanupStage;
+import com.asyncgate.guild_server.repository.CategoryRepository;
+import com.asyncgate.guild_server.repository.ChannelRepository;
+import com.asyncgate.guild_server.repository.GuildCleanupJobRepository;
+import com.asyncgate.guild_server.repository.GuildMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GuildCleanupServiceImplTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final String GUILD_ID = "guild-1";
+
+    private final GuildCleanupJobRepository cleanupJobRepository = mock(GuildCleanupJobRepository.class);
+    private final GuildMemberRepository guildMemberRepository = mock(GuildMemberRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final ChannelRepository channelRepository = mock(ChannelRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GuildCleanupServiceImpl cleanupService = new GuildCleanupServiceImpl(
+            cleanupJobRepository, guildMemberRepository, categoryRepository, channelRepository, meterRegistry
+    );
+
+    @Test
+    @DisplayName("정리할 행이 남아 있으면 단계를 유지하고 정리한 행 수만 누적한다")
+    void staysOnStageWhileRowsRemain() {
+        GuildCleanupJob job = job(GuildCleanupStage.GUILD_MEMBER, 0);
+        job.progress(500);
+        job.progress(120);
+
+        assertThat(job.getStage()).isEqualTo(GuildCleanupStage.GUILD_MEMBER);
+        assertThat(job.getPurgedCount()).isEqualTo(620);
+    }
+
+    @Test
+    @DisplayName("빈 청크마다 다음 단계로 넘어가 GUILD_MEMBER → CATEGORY → CHANNEL → COMPLETED 순서로 완료된다")
+    void advancesStagesOnEmptyChunk() {
+        GuildCleanupJob job = job(GuildCleanupStage.GUILD_MEMBER, 0);
+
+        job.progress(0);
+        assertThat(job.getStage()).isEqualTo(GuildCleanupStage.CATEGORY);
+        job.progress(0);
+        assertThat(job.getStage()).isEqualTo(GuildCleanupStage.CHANNEL);
+        job.progress(0);
+        assertThat(job.isCompleted()).isTrue();
+        job.progress(0);
+        assertThat(job.getStage()).isEqualTo(GuildCleanupStage.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("작업 행을 잠그면 저장된 단계와 누적 값에서 이어서 정리하고 진행 상황을 저장한다")
+    void purgesFromStoredProgress() {
+        when(cleanupJobRepository.lockUnfinished(JOB_ID))
+                .thenReturn(Optional.of(job(GuildCleanupStage.CATEGORY, 700)));
+        when(categoryRepository.deleteChunkByGuildId(GUILD_ID, 100)).thenReturn(40);
+
+        Optional<GuildCleanupJob> progressed = cleanupService.purgeChunk(JOB_ID, 100);
+
+        ArgumentCaptor<GuildCleanupJob> saved = ArgumentCaptor.forClass(GuildCleanupJob.class);
+        verify(cleanupJobRepository).save(saved.capture());
+        assertThat(saved.getValue().getStage()).isEqualTo(GuildCleanupStage.CATEGORY);
+        assertThat(saved.getValue().getPurgedCount()).isEqualTo(740);
+        assertThat(progressed).contains(saved.getValue());
+        verifyNoInteractions(guildMemberRepository, channelRepository);
+        assertThat(meterRegistry.counter("guild.cleanup.purged.rows", "stage", "CATEGORY").count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("마지막 단계에서 빈 청크면 완료로 저장하고 완료 수를 기록한다")
+    void completesAfterLastStage() {
+        when(cleanupJobRepository.lockUnfinished(JOB_ID))
+                .thenReturn(Optional.of(job(GuildCleanupStage.CHANNEL, 900)));
+        when(channelRepository.deleteChunkByGuildId(GUILD_ID, 100)).thenReturn(0);
+
+        Optional<GuildCleanupJob> progressed = cleanupService.purgeChunk(JOB_ID, 100);
+
+        assertThat(progressed).hasValueSatisfying(job -> assertThat(job.isCompleted()).isTrue());
+        assertThat(meterRegistry.counter("guild.cleanup.jobs.completed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠근 작업이나 완료된 작업은 정리하지 않고 진행 상황도 덮어쓰지 않는다")
+    void skipsUnclaimedJob() {
+        when(cleanupJobRepository.lockUnfinished(JOB_ID)).thenReturn(Optional.empty());
+
+        assertThat(cleanupService.purgeChunk(JOB_ID, 100)).isEmpty();
+
+        verify(cleanupJobRepository, never()).save(any());
+        verify(guildMemberRepository, never()).deleteChunkByGuildId(anyString(), anyInt());
+        verifyNoInteractions(categoryRepository, channelRepository);
+    }
+
+    private static GuildCleanupJob job(final GuildCleanupStage stage, final long purgedCount) {
+        return GuildCleanupJob.builder()
+                .id(JOB_ID)
+                .guildId(GUILD_ID)
+                .stage(stage)
+                .purgedCount(purgedCount)
+                .build();
+    }
+}
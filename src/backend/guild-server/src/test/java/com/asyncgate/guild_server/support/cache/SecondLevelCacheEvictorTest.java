@@ -0,0 +1,123 @@
+package com.asyncgate.guild_server.support.cache;
+
+import com.asyncgate.guild_server.dto.event.CacheEvictionEvent;
+import com.asyncgate.guild_server.entity.ChannelEntity;
+import com.asyncgate.guild_server.entity.GuildEntity;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SecondLevelCacheEvictorTest {
+
+    private static final String TOPIC = "guild-l2-eviction";
+
+    private final Cache localCache = mock(Cache.class);
+    private final Cache remoteCache = mock(Cache.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, CacheEvictionEvent> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private SecondLevelCacheEvictor local;
+    private SecondLevelCacheEvictor remote;
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaTemplate.send(anyString(), any())).thenReturn(new CompletableFuture<>());
+        local = new SecondLevelCacheEvictor(entityManagerFactory(localCache), kafkaTemplate, true, TOPIC);
+        remote = new SecondLevelCacheEvictor(entityManagerFactory(remoteCache), kafkaTemplate, true, TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("제거 요청은 로컬 캐시를 비우고 다른 인스턴스에 전파되어 같은 id 를 제거한다")
+    void evictionIsBroadcastToOtherInstances() {
+        local.evict(GuildEntity.class, "guild-1");
+
+        verify(localCache).evict(GuildEntity.class, "guild-1");
+        CacheEvictionEvent event = sentEvent();
+        assertThat(event.entityClass()).isEqualTo(GuildEntity.class.getName());
+        assertThat(event.ids()).containsExactly("guild-1");
+
+        remote.onRemoteEviction(event);
+        verify(remoteCache).evict(GuildEntity.class, "guild-1");
+    }
+
+    @Test
+    @DisplayName("region 제거는 id 없이 전파되어 다른 인스턴스의 region 전체를 비운다")
+    void regionEvictionIsBroadcast() {
+        local.evictRegion(ChannelEntity.class);
+
+        remote.onRemoteEviction(sentEvent());
+        verify(remoteCache).evict(ChannelEntity.class);
+    }
+
+    @Test
+    @DisplayName("자기 인스턴스가 보낸 제거 요청은 다시 처리하지 않는다")
+    void ownEventIsIgnored() {
+        local.evict(GuildEntity.class, "guild-1");
+        CacheEvictionEvent event = sentEvent();
+
+        local.onRemoteEviction(event);
+        verify(localCache).evict(GuildEntity.class, "guild-1");
+        verifyNoInteractions(remoteCache);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 제거하고 전파한다")
+    void evictionWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        local.evict(GuildEntity.class, "guild-1");
+        verify(localCache, never()).evict(any(), any());
+        verify(kafkaTemplate, never()).send(anyString(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(localCache).evict(GuildEntity.class, "guild-1");
+        verify(kafkaTemplate).send(eq(TOPIC), any());
+    }
+
+    @Test
+    @DisplayName("2차 캐시가 꺼져 있으면 전파하지 않는다")
+    void disabledDoesNotBroadcast() {
+        SecondLevelCacheEvictor disabled = new SecondLevelCacheEvictor(entityManagerFactory(localCache), kafkaTemplate, false, TOPIC);
+
+        disabled.evict(GuildEntity.class, "guild-1");
+        verify(kafkaTemplate, never()).send(anyString(), any());
+    }
+
+    private CacheEvictionEvent sentEvent() {
+        ArgumentCaptor<CacheEvictionEvent> captor = ArgumentCaptor.forClass(CacheEvictionEvent.class);
+        verify(kafkaTemplate).send(eq(TOPIC), captor.capture());
+        return captor.getValue();
+    }
+
+    private static EntityManagerFactory entityManagerFactory(final Cache cache) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        return entityManagerFactory;
+    }
+}
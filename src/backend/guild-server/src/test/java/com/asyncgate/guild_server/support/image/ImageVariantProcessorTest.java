@@ -0,0 +1,107 @@
+package com.asyncgate.guild_server.support.image;
+
+import com.asyncgate.guild_server.exception.FailType;
+import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.support.image.ImageVariantProcessor.ResizedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageVariantProcessorTest {
+
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new ImageVariantProcessor(new SimpleMeterRegistry(), 2, 8);
+        ReflectionTestUtils.setField(processor, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(processor, "timeoutMs", 10_000L);
+        ReflectionTestUtils.setField(processor, "jpegQuality", 0.85f);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("불투명 이미지는 변형별 최대 크기에 맞춘 JPEG 로 변환한다")
+    void resizeOpaqueToJpeg() throws IOException {
+        List<ResizedImage> resizedImages = resize(png(1024, 512, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(resizedImages).extracting(ResizedImage::variant).containsExactly(ImageVariant.values());
+        for (ResizedImage resizedImage : resizedImages) {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(resizedImage.bytes()));
+            assertThat(resizedImage.contentType()).isEqualTo("image/jpeg");
+            assertThat(decoded.getWidth()).isEqualTo(resizedImage.variant().getMaxSize());
+            assertThat(decoded.getHeight()).isEqualTo(resizedImage.variant().getMaxSize() / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG 로 유지하고 작은 이미지는 확대하지 않는다")
+    void keepAlphaAsPng() throws IOException {
+        List<ResizedImage> resizedImages = resize(png(100, 50, BufferedImage.TYPE_INT_ARGB));
+
+        ResizedImage medium = resizedImages.stream().filter(image -> image.variant() == ImageVariant.MEDIUM).findFirst().orElseThrow();
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(medium.bytes()));
+        assertThat(medium.contentType()).isEqualTo("image/png");
+        assertThat(decoded.getWidth()).isEqualTo(100);
+        assertThat(decoded.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 형식은 FILE_TYPE_NOT_SUPPORTED 로 완료된다")
+    void undecodable() {
+        assertFailType(new byte[]{'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'}, FailType.FILE_TYPE_NOT_SUPPORTED);
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 이미지는 디코딩하지 않고 거절한다")
+    void tooManyPixels() throws IOException {
+        ReflectionTestUtils.setField(processor, "maxPixels", 100L);
+
+        assertFailType(png(20, 20, BufferedImage.TYPE_INT_RGB), FailType.FILE_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("설치된 reader 기준으로 변형본 생성 가능 여부를 판단한다")
+    void supports() {
+        assertThat(processor.supports("image/png")).isTrue();
+        assertThat(processor.supports("image/jpeg")).isTrue();
+        assertThat(processor.supports("image/webp")).isEqualTo(ImageIO.getImageReadersByMIMEType("image/webp").hasNext());
+    }
+
+    private List<ResizedImage> resize(final byte[] original) {
+        return processor.resizeAsync(original).orTimeout(10, TimeUnit.SECONDS).join();
+    }
+
+    private void assertFailType(final byte[] original, final FailType failType) {
+        assertThatThrownBy(() -> resize(original))
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(GuildServerException.class)
+                .extracting("failType").isEqualTo(failType);
+    }
+
+    private byte[] png(final int width, final int height, final int type) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
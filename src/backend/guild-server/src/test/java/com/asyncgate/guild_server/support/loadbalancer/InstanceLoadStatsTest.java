@@ -0,0 +1,57 @@
+package com.asyncgate.guild_server.support.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstanceLoadStatsTest {
+
+    private final InstanceLoadStats loadStats =
+            new InstanceLoadStats(Duration.ofSeconds(10), Duration.ofSeconds(1), Duration.ofMillis(1));
+
+    private final ServiceInstance first = instance("10.0.0.1");
+    private final ServiceInstance second = instance("10.0.0.2");
+
+    @Test
+    @DisplayName("지연 표본이 없어도 처리 중 요청이 많은 인스턴스의 비용이 더 크다")
+    void inFlightWithoutSamples() {
+        loadStats.start(first);
+        loadStats.start(first);
+
+        long now = System.nanoTime();
+        assertThat(loadStats.cost(first, now)).isGreaterThan(loadStats.cost(second, now));
+        assertThat(loadStats.cost(second, now)).isPositive();
+    }
+
+    @Test
+    @DisplayName("지연이 0 으로 감쇠된 뒤에도 처리 중 요청 수는 비용에 반영된다")
+    void inFlightAfterDecay() {
+        loadStats.start(first);
+        loadStats.complete(first, Duration.ofMillis(20).toNanos(), false);
+        loadStats.start(first);
+
+        long muchLater = System.nanoTime() + Duration.ofHours(1).toNanos();
+        assertThat(loadStats.cost(first, muchLater)).isGreaterThan(loadStats.cost(second, muchLater));
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 failure-penalty 이상의 지연으로 기록된다")
+    void failurePenalty() {
+        loadStats.start(first);
+        loadStats.complete(first, Duration.ofMillis(5).toNanos(), true);
+        loadStats.start(second);
+        loadStats.complete(second, Duration.ofMillis(50).toNanos(), false);
+
+        long now = System.nanoTime();
+        assertThat(loadStats.cost(first, now)).isGreaterThan(loadStats.cost(second, now));
+    }
+
+    private static ServiceInstance instance(final String host) {
+        return new DefaultServiceInstance(host + ":8080", "user-server", host, 8080, false);
+    }
+}
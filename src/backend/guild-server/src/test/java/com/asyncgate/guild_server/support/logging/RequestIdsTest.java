@@ -0,0 +1,26 @@
+package com.asyncgate.guild_server.support.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdsTest {
+
+    @Test
+    @DisplayName("게이트웨이 형식의 requestId 는 그대로 이어받는다")
+    void keepValidRequestId() {
+        assertThat(RequestIds.resolve("4f1c2a9be07d4c31a8f0d2b6e95c7a10")).isEqualTo("4f1c2a9be07d4c31a8f0d2b6e95c7a10");
+        assertThat(RequestIds.resolve("client_req-01")).isEqualTo("client_req-01");
+    }
+
+    @Test
+    @DisplayName("개행, 비 ASCII 문자, 64자 초과 값은 버리고 새로 발급한다")
+    void regenerateInvalidRequestId() {
+        assertThat(RequestIds.resolve("abc\r\nlevel=ERROR")).matches("[0-9a-f]{32}");
+        assertThat(RequestIds.resolve("요청아이디")).matches("[0-9a-f]{32}");
+        assertThat(RequestIds.resolve("a".repeat(65))).matches("[0-9a-f]{32}");
+        assertThat(RequestIds.resolve("")).matches("[0-9a-f]{32}");
+        assertThat(RequestIds.resolve(null)).matches("[0-9a-f]{32}");
+    }
+}
@@ -0,0 +1,103 @@
+package com.asyncgate.guild_server.support.membership;
+
+import com.asyncgate.guild_server.domain.GuildInvitationStatus;
+import com.asyncgate.guild_server.domain.GuildMember;
+import com.asyncgate.guild_server.domain.GuildRole;
+import com.asyncgate.guild_server.repository.GuildMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GuildMembershipIndexTest {
+
+    private final GuildMemberRepository guildMemberRepository = mock(GuildMemberRepository.class);
+    private final GuildMembershipIndex index = new GuildMembershipIndex(guildMemberRepository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "loadChunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("수락된 멤버십을 id keyset 청크로 모두 적재해 양방향으로 조회한다")
+    void rebuildLoadsAllChunks() {
+        when(guildMemberRepository.findAcceptedMembersAfter(isNull(), eq(2)))
+                .thenReturn(List.of(member("m1", "user-1", "guild-a"), member("m2", "user-2", "guild-a")));
+        when(guildMemberRepository.findAcceptedMembersAfter(eq("m2"), eq(2)))
+                .thenReturn(List.of(member("m3", "user-1", "guild-b")));
+
+        index.rebuild();
+
+        assertThat(index.guildIdsOf("user-1")).containsExactlyInAnyOrder("guild-a", "guild-b");
+        assertThat(index.userIdsOf("guild-a")).containsExactlyInAnyOrder("user-1", "user-2");
+        assertThat(index.userIdsOf("guild-c")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중에 들어온 가입 / 길드 삭제는 새 색인에 다시 적용된 뒤 교체된다")
+    void replaysDeltasDuringRebuild() {
+        when(guildMemberRepository.findAcceptedMembersAfter(isNull(), eq(2))).thenAnswer(invocation -> {
+            // 이 청크를 읽은 시점 이후에 커밋된 변경
+            index.join("user-3", "guild-a");
+            index.removeGuild("guild-b");
+            return List.of(member("m1", "user-1", "guild-a"), member("m2", "user-2", "guild-b"));
+        });
+        when(guildMemberRepository.findAcceptedMembersAfter(eq("m2"), eq(2))).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertThat(index.userIdsOf("guild-a")).containsExactlyInAnyOrder("user-1", "user-3");
+        assertThat(index.guildIdsOf("user-3")).containsExactly("guild-a");
+        assertThat(index.userIdsOf("guild-b")).isEmpty();
+        assertThat(index.guildIdsOf("user-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재가 실패하면 기존 색인을 유지하고 이후 변경도 계속 반영한다")
+    void keepsIndexWhenRebuildFails() {
+        index.join("user-1", "guild-a");
+        when(guildMemberRepository.findAcceptedMembersAfter(any(), anyInt()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(index::rebuild).isInstanceOf(IllegalStateException.class);
+        index.join("user-2", "guild-a");
+
+        assertThat(index.userIdsOf("guild-a")).containsExactlyInAnyOrder("user-1", "user-2");
+    }
+
+    @Test
+    @DisplayName("길드 삭제는 길드의 멤버 목록과 각 사용자의 길드 목록에서 모두 제거한다")
+    void removeGuild() {
+        index.join("user-1", "guild-a");
+        index.join("user-1", "guild-b");
+        index.join("user-2", "guild-a");
+
+        index.removeGuild("guild-a");
+
+        assertThat(index.userIdsOf("guild-a")).isEmpty();
+        assertThat(index.guildIdsOf("user-1")).containsExactly("guild-b");
+        assertThat(index.guildIdsOf("user-2")).isEmpty();
+    }
+
+    private static GuildMember member(final String id, final String userId, final String guildId) {
+        return GuildMember.builder()
+                .id(id)
+                .userId(userId)
+                .guildId(guildId)
+                .guildRole(GuildRole.MEMBER)
+                .status(GuildInvitationStatus.ACCEPTED)
+                .build();
+    }
+}
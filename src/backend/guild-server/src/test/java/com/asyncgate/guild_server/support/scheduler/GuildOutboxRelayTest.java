@@ -0,0 +1,214 @@
+package com.asyncgate.guild_server.support.scheduler;
+
+import com.asyncgate.guild_server.domain.GuildChangeType;
+import com.asyncgate.guild_server.domain.GuildOutboxEvent;
+import com.asyncgate.guild_server.dto.event.GuildChangeEvent;
+import com.asyncgate.guild_server.repository.GuildOutboxEventRepository;
+import com.asyncgate.guild_server.service.GuildOutboxServiceImpl;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = GuildOutboxRelayTest.TOPIC)
+class GuildOutboxRelayTest {
+
+    static final String TOPIC = "guild-change";
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private DefaultKafkaProducerFactory<String, GuildChangeEvent> producerFactory;
+    private Consumer<String, String> consumer;
+    private GuildOutboxRelay relay;
+
+    @BeforeEach
+    void setUp(final EmbeddedKafkaBroker broker) {
+        producerFactory = new DefaultKafkaProducerFactory<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class,
+                ProducerConfig.MAX_BLOCK_MS_CONFIG, 2000
+        ));
+        relay = relay(100);
+
+        consumer = new DefaultKafkaConsumerFactory<>(
+                Map.of(
+                        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                        ConsumerConfig.GROUP_ID_CONFIG, "outbox-relay-test-" + UUID.randomUUID(),
+                        // broker 는 테스트 클래스 단위로 공유되므로 이전 테스트가 발행한 레코드는 읽지 않음
+                        ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                        ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false
+                ),
+                new StringDeserializer(),
+                new StringDeserializer()
+        ).createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+    }
+
+    private GuildOutboxRelay relay(final int batchSize) {
+        GuildOutboxRelay guildOutboxRelay = new GuildOutboxRelay(
+                new GuildOutboxServiceImpl(outbox, event -> {}),
+                new KafkaTemplate<>(producerFactory)
+        );
+        ReflectionTestUtils.setField(guildOutboxRelay, "topic", TOPIC);
+        ReflectionTestUtils.setField(guildOutboxRelay, "batchSize", batchSize);
+        ReflectionTestUtils.setField(guildOutboxRelay, "sendTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(guildOutboxRelay, "leaseTtlMs", 30_000L);
+        return guildOutboxRelay;
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        producerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트를 guildId 를 key 로 발행하고 outbox 에서 제거한다")
+    void relaysPendingEventsKeyedByGuildId() {
+        GuildOutboxEvent first = outbox.add(1L, "guild-a");
+        GuildOutboxEvent second = outbox.add(2L, "guild-b");
+
+        relay.relay();
+
+        List<ConsumerRecord<String, String>> records = poll(2);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("guild-a", "guild-b");
+        assertThat(records.get(0).value()).contains(first.getEventId());
+        assertThat(records.get(1).value()).contains(second.getEventId());
+        assertThat(outbox.rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 길드의 이벤트는 여러 배치에 걸쳐도 id 순서대로 발행된다")
+    void relaysInGuildOrderAcrossBatches() {
+        GuildOutboxRelay smallBatchRelay = relay(2);
+        List<String> guildAEventIds = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            GuildOutboxEvent event = outbox.add(id, id % 3 == 0 ? "guild-b" : "guild-a");
+            if ("guild-a".equals(event.getGuildId())) {
+                guildAEventIds.add(event.getEventId());
+            }
+        }
+
+        for (int i = 0; i < 3; i++) {
+            smallBatchRelay.relay();
+        }
+
+        List<String> guildARecords = poll(6).stream()
+                .filter(record -> "guild-a".equals(record.key()))
+                .map(ConsumerRecord::value)
+                .toList();
+        assertThat(guildARecords).hasSize(guildAEventIds.size());
+        for (int i = 0; i < guildAEventIds.size(); i++) {
+            assertThat(guildARecords.get(i)).contains(guildAEventIds.get(i));
+        }
+        assertThat(outbox.rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 relay 가 lease 를 가지고 있으면 발행하지 않는다")
+    void onlyLeaseOwnerRelays() {
+        GuildOutboxRelay otherReplica = relay(100);
+        relay.relay();
+
+        outbox.add(1L, "guild-a");
+        otherReplica.relay();
+        assertThat(outbox.rows).containsOnlyKeys(1L);
+
+        relay.relay();
+        poll(1);
+        assertThat(outbox.rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 배치는 outbox 에 남는다")
+    void keepsBatchWhenSendFails() {
+        outbox.add(1L, "guild-a");
+        ReflectionTestUtils.setField(relay, "topic", "invalid topic name");
+
+        relay.relay();
+
+        assertThat(outbox.rows).containsOnlyKeys(1L);
+    }
+
+    private List<ConsumerRecord<String, String>> poll(final int expected) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (records.size() < expected && System.currentTimeMillis() < deadline) {
+            consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+        }
+        assertThat(records).hasSize(expected);
+        return records;
+    }
+
+    /**
+     * 커밋된 행만 보이는 outbox 테이블 (findOldest = 남아 있는 행을 id 순으로) 과 relay lease 행
+     */
+    private static class InMemoryOutbox implements GuildOutboxEventRepository {
+
+        private final TreeMap<Long, GuildOutboxEvent> rows = new TreeMap<>();
+        private String leaseOwner;
+        private long leaseUntil;
+
+        GuildOutboxEvent add(final long id, final String guildId) {
+            GuildOutboxEvent event = GuildOutboxEvent.builder()
+                    .id(id)
+                    .eventId(UUID.randomUUID().toString())
+                    .changeType(GuildChangeType.GUILD_UPDATED)
+                    .guildId(guildId)
+                    .targetId(guildId)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            rows.put(id, event);
+            return event;
+        }
+
+        @Override
+        public void save(final GuildOutboxEvent outboxEvent) {
+            rows.put(outboxEvent.getId(), outboxEvent);
+        }
+
+        @Override
+        public boolean acquireRelayLease(final String owner, final long leaseMillis) {
+            long now = System.currentTimeMillis();
+            if (!owner.equals(leaseOwner) && leaseUntil >= now) {
+                return false;
+            }
+            leaseOwner = owner;
+            leaseUntil = now + leaseMillis;
+            return true;
+        }
+
+        @Override
+        public List<GuildOutboxEvent> findOldest(final int limit) {
+            return rows.values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public void deleteAllByIds(final List<Long> ids) {
+            ids.forEach(rows::remove);
+        }
+    }
+}
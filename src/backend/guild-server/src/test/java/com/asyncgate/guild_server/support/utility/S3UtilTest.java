@@ -0,0 +1,221 @@
+package com.asyncgate.guild_server.support.utility;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.asyncgate.guild_server.exception.FailType;
+import com.asyncgate.guild_server.exception.GuildServerException;
+import com.asyncgate.guild_server.support.image.ImageVariant;
+import com.asyncgate.guild_server.support.image.ImageVariantProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class S3UtilTest {
+
+    private static final String BUCKET = "asyncgate-test";
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+            .withServices(LocalStackContainer.Service.S3);
+
+    private static AmazonS3Client amazonS3Client;
+
+    private TransferManager transferManager;
+    private ImageVariantProcessor imageVariantProcessor;
+    private String bucketUrl;
+
+    @BeforeAll
+    static void createBucket() {
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new EndpointConfiguration(LOCALSTACK.getEndpoint().toString(), LOCALSTACK.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(LOCALSTACK.getAccessKey(), LOCALSTACK.getSecretKey())))
+                .enablePathStyleAccess()
+                .build();
+        amazonS3Client.createBucket(BUCKET);
+    }
+
+    @AfterAll
+    static void closeClient() {
+        amazonS3Client.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withShutDownThreadPools(true)
+                .build();
+        imageVariantProcessor = new ImageVariantProcessor(new SimpleMeterRegistry(), 2, 8);
+        ReflectionTestUtils.setField(imageVariantProcessor, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(imageVariantProcessor, "timeoutMs", 10_000L);
+        ReflectionTestUtils.setField(imageVariantProcessor, "jpegQuality", 0.85f);
+        bucketUrl = LOCALSTACK.getEndpoint() + "/" + BUCKET + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.shutdownNow(false);
+        imageVariantProcessor.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본과 변형본이 모두 업로드되면 원본 URL 로 완료된다")
+    void uploadImage() throws IOException {
+        S3Util s3Util = s3Util(BUCKET, 4);
+
+        String url = s3Util.uploadImage(png(), "guild").orTimeout(30, TimeUnit.SECONDS).join();
+
+        assertThat(url).startsWith(bucketUrl).endsWith(ImageVariant.ORIGINAL_KEY);
+        String prefix = url.substring(bucketUrl.length(), url.length() - ImageVariant.ORIGINAL_KEY.length());
+        assertThat(amazonS3Client.doesObjectExist(BUCKET, prefix + ImageVariant.ORIGINAL_KEY)).isTrue();
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertThat(amazonS3Client.doesObjectExist(BUCKET, prefix + variant.keySuffix())).isTrue();
+        }
+        s3Util.shutdown();
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 WebP 는 변형본 없이 원본만 저장하고 변형 URL 은 원본을 가리킨다")
+    void uploadWebpWithoutVariants() {
+        S3Util s3Util = s3Util(BUCKET, 4);
+        MockMultipartFile webp = new MockMultipartFile("file", "image.webp", "image/webp", webp());
+
+        String url = s3Util.uploadImage(webp, "guild").orTimeout(30, TimeUnit.SECONDS).join();
+
+        assertThat(url).endsWith(ImageVariant.SOURCE_ONLY_KEY);
+        assertThat(amazonS3Client.doesObjectExist(BUCKET, url.substring(bucketUrl.length()))).isTrue();
+        assertThat(ImageVariant.urlsOf(url)).containsValues(url);
+        s3Util.shutdown();
+    }
+
+    @Test
+    @DisplayName("변형본 하나라도 업로드에 실패하면 이미 올라간 원본과 변형본을 정리한다")
+    void cleanUpWhenVariantFails() throws IOException {
+        TransferManager failingSmallVariant = spy(transferManager);
+        doAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (request.getKey().endsWith(ImageVariant.SMALL.keySuffix())) {
+                request.setBucketName("missing-bucket");
+            }
+            return invocation.callRealMethod();
+        }).when(failingSmallVariant).upload(any(PutObjectRequest.class));
+        S3Util s3Util = s3Util(failingSmallVariant, BUCKET, 4);
+        String prefix = "guild-cleanup";
+
+        assertThatThrownBy(() -> s3Util.uploadImage(png(), prefix).orTimeout(30, TimeUnit.SECONDS).join())
+                .cause()
+                .extracting("failType").isEqualTo(FailType._UPLOAD_FILE_ERROR);
+        assertThat(amazonS3Client.listObjectsV2(BUCKET, prefix).getKeyCount()).isZero();
+        s3Util.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드가 끝나면 permit 이 반환되어 다음 업로드를 받을 수 있다")
+    void releasePermitAfterCompletion() throws IOException {
+        S3Util s3Util = s3Util(BUCKET, 1);
+
+        for (int i = 0; i < 3; i++) {
+            String url = s3Util.uploadFile(png(), "guild").orTimeout(30, TimeUnit.SECONDS).join();
+            assertThat(amazonS3Client.doesObjectExist(BUCKET, url.substring(bucketUrl.length()))).isTrue();
+        }
+        s3Util.shutdown();
+    }
+
+    @Test
+    @DisplayName("진행 중인 업로드가 permit 을 모두 사용하면 대기하지 않고 바로 거절한다")
+    void rejectWhenBusy() throws IOException {
+        S3Util s3Util = s3Util(BUCKET, 1);
+
+        CompletableFuture<String> first = s3Util.uploadImage(png(), "guild");
+
+        assertThatThrownBy(() -> s3Util.uploadImage(png(), "guild"))
+                .isInstanceOf(GuildServerException.class)
+                .extracting("failType").isEqualTo(FailType._UPLOAD_BUSY);
+        first.orTimeout(30, TimeUnit.SECONDS).join();
+        s3Util.shutdown();
+    }
+
+    @Test
+    @DisplayName("S3 업로드가 실패하면 future 가 업로드 실패로 완료되고 permit 은 반환된다")
+    void failedUpload() throws IOException {
+        S3Util missingBucket = s3Util("missing-bucket", 1);
+
+        assertThatThrownBy(() -> missingBucket.uploadFile(png(), "guild").orTimeout(30, TimeUnit.SECONDS).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(GuildServerException.class)
+                .extracting("failType").isEqualTo(FailType._UPLOAD_FILE_ERROR);
+        assertThatThrownBy(() -> missingBucket.uploadFile(png(), "guild").orTimeout(30, TimeUnit.SECONDS).join())
+                .cause()
+                .extracting("failType").isEqualTo(FailType._UPLOAD_FILE_ERROR);
+        missingBucket.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 업로드를 시작하기 전에 거절한다")
+    void rejectNonImage() {
+        S3Util s3Util = s3Util(BUCKET, 1);
+        MockMultipartFile text = new MockMultipartFile("file", "a.txt", "image/png", "not an image".getBytes());
+
+        assertThatThrownBy(() -> s3Util.uploadImage(text, "guild"))
+                .isInstanceOf(GuildServerException.class)
+                .extracting("failType").isEqualTo(FailType.FILE_TYPE_NOT_SUPPORTED);
+        s3Util.shutdown();
+    }
+
+    private S3Util s3Util(final String bucket, final int maxConcurrentUploads) {
+        return s3Util(transferManager, bucket, maxConcurrentUploads);
+    }
+
+    private S3Util s3Util(final TransferManager transferManager, final String bucket, final int maxConcurrentUploads) {
+        S3Util s3Util = new S3Util(amazonS3Client, transferManager, imageVariantProcessor, maxConcurrentUploads, 2);
+        ReflectionTestUtils.setField(s3Util, "bucketName", bucket);
+        ReflectionTestUtils.setField(s3Util, "bucketUrl", bucketUrl);
+        ReflectionTestUtils.setField(s3Util, "maxFileSize", DataSize.ofMegabytes(10));
+        return s3Util;
+    }
+
+    // validateImage 는 시그니처만 확인하므로 헤더만 있는 WebP 로 충분
+    private byte[] webp() {
+        return new byte[]{'R', 'I', 'F', 'F', 4, 0, 0, 0, 'W', 'E', 'B', 'P'};
+    }
+
+    private MockMultipartFile png() throws IOException {
+        BufferedImage image = new BufferedImage(512, 384, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return new MockMultipartFile("file", "image.png", "image/png", outputStream.toByteArray());
+    }
+}
@@ -1,12 +1,19 @@
 package com.asyncgate.signaling_server.config;
 
+import com.asyncgate.signaling_server.support.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 public class WebClientConfig {
+
+    // http://{service-id} 형태의 주소를 Eureka 인스턴스로 해석
     @Bean
+    @LoadBalanced
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
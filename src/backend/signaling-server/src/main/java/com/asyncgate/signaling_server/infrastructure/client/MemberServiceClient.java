@@ -9,7 +9,6 @@ import com.asyncgate.signaling_server.infrastructure.utility.WebClientUtil;
 import com.asyncgate.signaling_server.support.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -21,10 +20,10 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class MemberServiceClient {
-    private final WebClientUtil webClientUtil;
+    private static final String USER_SERVER = "user-server";
+    private static final String USER_SERVER_URL = "http://" + USER_SERVER;
 
-    @Value("${service.member.url}")
-    private String memberServiceUrl;
+    private final WebClientUtil webClientUtil;
 
     public Mono<Member> fetchMemberById(String userId, String roomId, JoinRoomRequest request) {
         Map<String, String> queryParams = new HashMap<>();
@@ -32,7 +31,7 @@ public class MemberServiceClient {
 
         log.info("✅ 유저가 입장 요청함 - userId: {}, roomId: {}", userId, roomId);
 
-        return webClientUtil.get(memberServiceUrl, "/room/profile", queryParams, new ParameterizedTypeReference<SuccessResponse<ReadUserRoomProfileResponse>>() {})
+        return webClientUtil.get(USER_SERVER, USER_SERVER_URL, "/room/profile", queryParams, new ParameterizedTypeReference<SuccessResponse<ReadUserRoomProfileResponse>>() {})
                 .flatMap(response -> {
                     if (response == null || response.getResult() == null) {
                         log.warn("❌ 유저 정보 조회 실패: userId={}, roomId={}", userId, roomId);
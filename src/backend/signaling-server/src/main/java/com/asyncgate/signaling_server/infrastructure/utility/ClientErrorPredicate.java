@@ -0,0 +1,18 @@
+package com.asyncgate.signaling_server.infrastructure.utility;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * circuit breaker 가 무시할 예외: 4xx 응답은 요청 쪽 문제이므로 대상 서비스 장애로 세지 않는다
+ * resilience4j.circuitbreaker.instances.{target}.ignore-exception-predicate 로 지정
+ */
+public class ClientErrorPredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(final Throwable throwable) {
+        return throwable instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError();
+    }
+}
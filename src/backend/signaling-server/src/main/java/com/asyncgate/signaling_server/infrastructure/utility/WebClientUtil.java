@@ -1,25 +1,68 @@
 package com.asyncgate.signaling_server.infrastructure.utility;
 
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * 서비스 간 조회 호출 (대상 서비스별 timeout / bulkhead / circuit breaker / retry / hedging)
+ * 인스턴스 설정은 resilience4j.{bulkhead,circuitbreaker,retry}.instances.{target}, timeout / hedge 설정은 inter-service.{target}.*
+ * retry 는 hedge 바깥에 하나만 두고 hedge 는 예산(hedge-budget-ratio) 안에서만 보내므로, 조회 한 번의 추가 부하는 retry 횟수 + 예산으로 제한된다
+ * 상태 / 호출 수 metric 은 resilience4j 가 MeterRegistry 에 등록하고, hedge 발생 수는 inter-service.hedged{target} 로 기록
+ */
 @Component
-@RequiredArgsConstructor
 public class WebClientUtil {
-    private final WebClient.Builder webClientBuilder;
 
-    private WebClient getClient() {
-        return webClientBuilder.build();
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+
+    private final WebClient webClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, HedgeBudget> hedgeBudgets = new ConcurrentHashMap<>();
+
+    public WebClientUtil(
+            final WebClient.Builder webClientBuilder,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry,
+            final RetryRegistry retryRegistry,
+            final Environment environment,
+            final MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClientBuilder.build();
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryRegistry = retryRegistry;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
     }
 
-    public <T> Mono<T> get(String baseUrl, String path, Map<String, String> queryParams, ParameterizedTypeReference<T> responseType) {
-        return webClientBuilder.build()
+    /**
+     * GET 은 멱등이므로 제한된 횟수만 재시도하고, hedge-delay 안에 응답이 없으면 (예산이 남아 있고 circuit 이 닫혀 있을 때) 같은 요청을 한 번 더 보내 먼저 받은 응답 사용
+     */
+    public <T> Mono<T> get(String target, String baseUrl, String path, Map<String, String> queryParams, ParameterizedTypeReference<T> responseType) {
+        Mono<T> request = webClient
                 .get()
                 .uri(uriBuilder -> {
                     UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + path);
@@ -29,6 +72,61 @@ public class WebClientUtil {
                     return builder.build().toUri();
                 })
                 .retrieve()
-                .bodyToMono(responseType);
+                .bodyToMono(responseType)
+                .timeout(property(target, "timeout", DEFAULT_TIMEOUT));
+
+        // bulkhead 가 가장 안쪽: 차단된 호출은 동시 실행 슬롯을 차지하지 않는다
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(target);
+        Mono<T> attempt = request
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(target)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+
+        Duration hedgeDelay = property(target, "hedge-delay", Duration.ZERO);
+        if (hedgeDelay.isZero() || hedgeDelay.isNegative()) {
+            return attempt.transformDeferred(RetryOperator.of(retryRegistry.retry(target)));
+        }
+
+        // 예산은 재시도가 아닌 조회 한 번마다 적립
+        HedgeBudget budget = hedgeBudget(target);
+        return hedge(target, attempt, hedgeDelay, budget, circuitBreaker)
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(target)))
+                .doOnSubscribe(subscription -> budget.deposit());
+    }
+
+    private <T> Mono<T> hedge(
+            final String target,
+            final Mono<T> attempt,
+            final Duration hedgeDelay,
+            final HedgeBudget budget,
+            final CircuitBreaker circuitBreaker
+    ) {
+        // 대상이 이미 실패 중(half-open 등)이거나 예산을 다 쓰면 hedge 는 값 없이 끝나고 첫 요청 결과만 기다린다
+        Mono<T> hedge = Mono.delay(hedgeDelay)
+                .filter(tick -> circuitBreaker.getState() == CircuitBreaker.State.CLOSED && budget.tryAcquire())
+                .flatMap(tick -> {
+                    Counter.builder("inter-service.hedged")
+                            .tag("target", target)
+                            .register(meterRegistry)
+                            .increment();
+                    return attempt;
+                });
+
+        // 먼저 성공한 응답을 사용하고 나머지는 취소, 둘 다 실패하면 마지막 실패를 전파 (값 없이 끝난 hedge 는 제외)
+        return Mono.firstWithValue(attempt, hedge)
+                .onErrorMap(NoSuchElementException.class, e -> Exceptions.unwrapMultiple(e.getCause()).stream()
+                        .filter(error -> !(error instanceof NoSuchElementException))
+                        .reduce((first, second) -> second)
+                        .orElse(e));
+    }
+
+    private HedgeBudget hedgeBudget(final String target) {
+        return hedgeBudgets.computeIfAbsent(target, key -> new HedgeBudget(
+                environment.getProperty("inter-service." + key + ".hedge-budget-ratio", Double.class, 0.1),
+                environment.getProperty("inter-service." + key + ".hedge-budget-burst", Integer.class, 10)
+        ));
+    }
+
+    private Duration property(final String target, final String name, final Duration defaultValue) {
+        return environment.getProperty("inter-service." + target + "." + name, Duration.class, defaultValue);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.asyncgate.signaling_server.security.config;
 import com.asyncgate.signaling_server.security.constant.Constants;
 import com.asyncgate.signaling_server.security.filter.JsonWebTokenAuthenticationFilter;
 import com.asyncgate.signaling_server.security.usecase.AuthenticateJsonWebTokenUseCase;
+import com.asyncgate.signaling_server.security.utility.InternalIdentityVerifier;
 import com.asyncgate.signaling_server.security.utility.JsonWebTokenUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +25,8 @@ public class SecurityConfig {
 
     private final JsonWebTokenUtil jsonWebTokenUtil;
 
+    private final InternalIdentityVerifier internalIdentityVerifier;
+
     @Bean
     protected SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
@@ -45,7 +48,8 @@ public class SecurityConfig {
                 .addFilterBefore(
                         new JsonWebTokenAuthenticationFilter(
                                 authenticateJsonWebTokenUseCase,
-                                jsonWebTokenUtil
+                                jsonWebTokenUtil,
+                                internalIdentityVerifier
                         ),
                         LogoutFilter.class
                 )
@@ -20,6 +20,7 @@ public class Constants {
             // Authentication/Authorization
             "/", // root
             "/actuator/info",
+            "/actuator/prometheus",
             "/health",
             "/index.html",
             "/signal",
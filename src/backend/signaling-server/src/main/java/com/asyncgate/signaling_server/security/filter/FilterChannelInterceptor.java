@@ -2,6 +2,7 @@ package com.asyncgate.signaling_server.security.filter;
 
 import com.asyncgate.signaling_server.security.constant.Constants;
 import com.asyncgate.signaling_server.security.utility.JsonWebTokenUtil;
+import com.asyncgate.signaling_server.support.logging.RequestDiagnostics;
 import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,10 +21,13 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
     private static final Logger log = LoggerFactory.getLogger(FilterChannelInterceptor.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String DIAGNOSTICS_ROUTE = "stomp";
     private final JsonWebTokenUtil jsonWebTokenUtil;
+    private final RequestDiagnostics requestDiagnostics;
 
-    public FilterChannelInterceptor(JsonWebTokenUtil jsonWebTokenUtil) {
+    public FilterChannelInterceptor(JsonWebTokenUtil jsonWebTokenUtil, RequestDiagnostics requestDiagnostics) {
         this.jsonWebTokenUtil = jsonWebTokenUtil;
+        this.requestDiagnostics = requestDiagnostics;
     }
 
     private String extractToken(String headerValue) {
@@ -37,11 +41,9 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(message);
-        log.info("📥 [STOMP] Command: {}, sessionId: {}", headerAccessor.getCommand(), headerAccessor.getSessionId());
 
         if (StompCommand.CONNECT.equals(headerAccessor.getCommand())) {
             String rawAuth = headerAccessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
-            log.info("🔑 [STOMP] Raw Authorization Header: {}", rawAuth);
             String jwtToken = extractToken(rawAuth);
             if (jwtToken == null || jwtToken.isEmpty()) {
                 log.error("🚨 [STOMP] Access Token is missing or improperly formatted!");
@@ -51,8 +53,6 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
             if(headerAccessor.getSessionAttributes().get("userId") == null) {
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "userId is missing");
             }
-            
-            log.info("✅ [STOMP] CONNECT 요청 처리 완료");
         }
         return message;
     }
@@ -60,21 +60,25 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
     @Override
     public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        log.info("📡 [STOMP] Command: {}, sessionId: {}, sent: {}", accessor.getCommand(), accessor.getSessionId(), sent);
+
+        // 프레임 단위 로그는 샘플링된 경우에만 남긴다 (네이티브 헤더의 토큰은 가림)
+        if (requestDiagnostics.sampled(DIAGNOSTICS_ROUTE)) {
+            requestDiagnostics.headers(
+                    DIAGNOSTICS_ROUTE,
+                    "[STOMP] Command: " + accessor.getCommand() + ", sessionId: " + accessor.getSessionId() + ", sent: " + sent,
+                    accessor.toNativeHeaderMap()
+            );
+        }
 
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            log.info("✅ [STOMP] CONNECT 성공 - sessionId: {}", accessor.getSessionId());
             handleConnect(accessor);
-            log.info("🔎 [STOMP] CONNECTED 프레임 헤더: {}", accessor.getMessageHeaders());
-            accessor.getMessageHeaders().forEach((key, value) -> log.info("messageHeader = {}: {}", key, value));
         } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
-            log.info("🔌 [STOMP] DISCONNECT 요청 - sessionId: {}", accessor.getSessionId());
             handleDisconnect(accessor);
         }
     }
 
     private void handleDisconnect(StompHeaderAccessor accessor) {
-        log.info("🔌 [STOMP] WebSocket 연결 해제 - sessionId: {}", accessor.getSessionId());
+        log.debug("🔌 [STOMP] WebSocket 연결 해제 - sessionId: {}", accessor.getSessionId());
     }
 
     private void handleConnect(StompHeaderAccessor accessor) {
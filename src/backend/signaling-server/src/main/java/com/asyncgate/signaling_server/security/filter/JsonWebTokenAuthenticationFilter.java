@@ -5,7 +5,9 @@ import com.asyncgate.signaling_server.security.constant.Constants;
 import com.asyncgate.signaling_server.security.exception.CommonException;
 import com.asyncgate.signaling_server.security.info.CustomUserPrincipal;
 import com.asyncgate.signaling_server.security.utility.HeaderUtil;
+import com.asyncgate.signaling_server.security.utility.InternalIdentityVerifier;
 import com.asyncgate.signaling_server.security.utility.JsonWebTokenUtil;
+import com.asyncgate.signaling_server.security.utility.PublicPathMatcher;
 import com.asyncgate.signaling_server.security.usecase.AuthenticateJsonWebTokenUseCase;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -27,10 +29,14 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final PublicPathMatcher NO_NEED_AUTH_PATHS = PublicPathMatcher.of(Constants.NO_NEED_AUTH_URLS);
+
     private final AuthenticateJsonWebTokenUseCase authenticateJsonWebTokenUseCase;
 
     private final JsonWebTokenUtil jsonWebTokenUtil;
 
+    private final InternalIdentityVerifier internalIdentityVerifier;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -38,12 +44,16 @@ public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String token = HeaderUtil.refineHeader(request, Constants.AUTHORIZATION_HEADER, Constants.BEARER_PREFIX)
-                .orElseThrow(() -> new CommonException(FailType.INVALID_HEADER_ERROR));
+        // 게이트웨이가 서명한 내부 신원 헤더가 있으면 JWT 를 다시 파싱하지 않는다
+        String memberId = internalIdentityVerifier.verify(request.getHeader(InternalIdentityVerifier.HEADER));
+        if (memberId == null) {
+            String token = HeaderUtil.refineHeader(request, Constants.AUTHORIZATION_HEADER, Constants.BEARER_PREFIX)
+                    .orElseThrow(() -> new CommonException(FailType.INVALID_HEADER_ERROR));
 
-        Claims claims = jsonWebTokenUtil.validate(token);
+            Claims claims = jsonWebTokenUtil.validate(token);
 
-        String memberId = claims.get(Constants.MEMBER_ID_CLAIM_NAME, String.class);
+            memberId = claims.get(Constants.MEMBER_ID_CLAIM_NAME, String.class);
+        }
 
         CustomUserPrincipal principal = authenticateJsonWebTokenUseCase.execute(memberId);
 
@@ -73,7 +83,6 @@ public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
 
         // 인증이 필요 없는 URL 목록에 포함되는지 확인
-        return Constants.NO_NEED_AUTH_URLS.stream()
-                .anyMatch(excludePattern -> requestURI.matches(excludePattern.replace("**", ".*")));
+        return NO_NEED_AUTH_PATHS.matches(requestURI);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.asyncgate.signaling_server.security.filter;
 
 import com.asyncgate.signaling_server.security.constant.Constants;
 import com.asyncgate.signaling_server.security.utility.JsonWebTokenUtil;
+import com.asyncgate.signaling_server.support.logging.RequestDiagnostics;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -17,27 +18,17 @@ import org.springframework.web.socket.server.HandshakeInterceptor;
 import java.util.List;
 import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.server.ServerHttpRequest;
-import org.springframework.http.server.ServerHttpResponse;
-import org.springframework.stereotype.Component;
-import org.springframework.web.socket.WebSocketHandler;
-import org.springframework.web.socket.server.HandshakeInterceptor;
-
-import java.util.List;
-import java.util.Map;
-
 @Component
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketHandshakeInterceptor.class);
+    private static final String DIAGNOSTICS_ROUTE = "ws-handshake";
     private final JsonWebTokenUtil jsonWebTokenUtil;
+    private final RequestDiagnostics requestDiagnostics;
 
-    public WebSocketHandshakeInterceptor(JsonWebTokenUtil jsonWebTokenUtil) {
+    public WebSocketHandshakeInterceptor(JsonWebTokenUtil jsonWebTokenUtil, RequestDiagnostics requestDiagnostics) {
         this.jsonWebTokenUtil = jsonWebTokenUtil;
+        this.requestDiagnostics = requestDiagnostics;
     }
 
     /**
@@ -61,10 +52,10 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
                                    Map<String, Object> attributes) {
-        log.info("✅ WebSocket Handshake - JWT 검증 시작");
         HttpHeaders headers = request.getHeaders();
-        log.info("headers.size = {}", headers.size());
-        headers.forEach((key, value) -> log.info("header = {} : {}", key, value));
+        if (requestDiagnostics.sampled(DIAGNOSTICS_ROUTE)) {
+            requestDiagnostics.headers(DIAGNOSTICS_ROUTE, "WebSocket Handshake", headers);
+        }
 
         List<String> protocols = headers.get("Sec-WebSocket-Protocol");
         if (protocols == null || protocols.isEmpty()) {
@@ -86,7 +77,7 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
         Claims claims = jsonWebTokenUtil.validate(jwtToken);
 
         String memberId = claims.get(Constants.MEMBER_ID_CLAIM_NAME, String.class);
-        log.info("✅ WebSocket Handshake 성공 - userId: {}", memberId);
+        log.debug("✅ WebSocket Handshake 성공 - userId: {}", memberId);
 
         attributes.put("userId", memberId);
         // attributes.put("token", jwtToken);
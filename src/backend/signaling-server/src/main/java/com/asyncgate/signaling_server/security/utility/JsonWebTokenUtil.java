@@ -3,6 +3,7 @@ package com.asyncgate.signaling_server.security.utility;
 import com.asyncgate.signaling_server.exception.FailType;
 import com.asyncgate.signaling_server.exception.SignalingServerException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.InitializingBean;
@@ -25,19 +26,25 @@ public class JsonWebTokenUtil implements InitializingBean {
 
     private Key key;
 
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private JwtParser parser;
+
     @Override
     public void afterPropertiesSet() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // token 검증 메서드
     public Claims validate(final String token) {
+        if (JwtExpiryPrecheck.isExpired(token, System.currentTimeMillis())) {
+            throw new SignalingServerException(FailType._UNKNOWN_ERROR);
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
             // JWT 예외처리는 apigateway에서 처리
         } catch (Exception e) {
             throw new SignalingServerException(FailType._UNKNOWN_ERROR);
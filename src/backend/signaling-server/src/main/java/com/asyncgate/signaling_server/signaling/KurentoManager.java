@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -39,25 +40,40 @@ public class KurentoManager {
 
     private final SimpMessagingTemplate messagingTemplate;
 
+    // 방 단위 생성 락 - synchronized 는 virtual thread 를 carrier 에 고정(pinning)시키므로 ReentrantLock 사용
+    private final Map<String, ReentrantLock> roomLocks = new ConcurrentHashMap<>();
+
     /**
      * 특정 방에 대한 MediaPipeline을 가져오거나 새로 생성
      */
-    public synchronized MediaPipeline getOrCreatePipeline(String roomId) {
-        return pipelines.computeIfAbsent(roomId, id -> {
-            return kurentoClient.createMediaPipeline();
-        });
+    public MediaPipeline getOrCreatePipeline(String roomId) {
+        MediaPipeline pipeline = pipelines.get(roomId);
+        if (pipeline != null) {
+            return pipeline;
+        }
+
+        // KMS 호출이 computeIfAbsent 의 bin 락 안에서 실행되지 않도록 방 락으로 직렬화
+        ReentrantLock lock = lockRoom(roomId);
+        try {
+            pipeline = pipelines.get(roomId);
+            if (pipeline == null) {
+                pipeline = kurentoClient.createMediaPipeline();
+                pipelines.put(roomId, pipeline);
+            }
+            return pipeline;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * WebRTC 엔드포인트 생성 및 ICE Candidate 리스너 설정
      */
-    public synchronized void getOrCreateEndpoint(String roomId, String userId, JoinRoomRequest request) {
+    public void getOrCreateEndpoint(String roomId, String userId, JoinRoomRequest request) {
         MediaPipeline pipeline = getOrCreatePipeline(roomId);
 
-        // WebRtcEndpoint 가져오기 또는 생성
-        WebRtcEndpoint endpoint = roomEndpoints
-                .computeIfAbsent(roomId, k -> new ConcurrentHashMap<>())
-                .computeIfAbsent(userId, k -> new WebRtcEndpoint.Builder(pipeline).build());
+        // WebRtcEndpoint 가져오기 또는 생성 (멤버 조회는 락 밖에서 수행)
+        WebRtcEndpoint endpoint = getOrCreateUserEndpoint(roomId, userId, pipeline);
 
         // log.info("🛠 WebRTC Endpoint 생성 또는 가져오기 완료: roomId={}, userId={}", roomId, userId);
 
@@ -93,6 +109,42 @@ public class KurentoManager {
         }
     }
 
+    private WebRtcEndpoint getOrCreateUserEndpoint(String roomId, String userId, MediaPipeline pipeline) {
+        Map<String, WebRtcEndpoint> endpoints = roomEndpoints.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        WebRtcEndpoint endpoint = endpoints.get(userId);
+        if (endpoint != null) {
+            return endpoint;
+        }
+
+        ReentrantLock lock = lockRoom(roomId);
+        try {
+            endpoint = endpoints.get(userId);
+            if (endpoint == null) {
+                endpoint = new WebRtcEndpoint.Builder(pipeline).build();
+                endpoints.put(userId, endpoint);
+            }
+            return endpoint;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 방 락 획득
+     * 방 정리 시 락을 보유한 채로 map 에서 제거하므로, 획득한 락이 더 이상 등록된 락이 아니면 새 락으로 다시 시도
+     * (제거된 락과 새 락을 서로 다른 스레드가 동시에 잡는 일이 없도록)
+     */
+    private ReentrantLock lockRoom(final String roomId) {
+        while (true) {
+            ReentrantLock lock = roomLocks.computeIfAbsent(roomId, id -> new ReentrantLock());
+            lock.lock();
+            if (roomLocks.get(roomId) == lock) {
+                return lock;
+            }
+            lock.unlock();
+        }
+    }
+
     // 특정 유저의 endpoint 찾기
     public WebRtcEndpoint getUserEndpoint(String roomId, String userId) {
         if (!roomEndpoints.containsKey(roomId) || !roomEndpoints.get(roomId).containsKey(userId)) {
@@ -485,13 +537,22 @@ public class KurentoManager {
         // 예: 클라이언트 측에서 해당 사용자의 미디어 스트림 제거 처리를 수행하도록 알림 전송
         messagingTemplate.convertAndSend("/topic/removed/" + roomId, userId);
 
-        // 선택사항: 방이 비어있다면 미디어 파이프라인도 정리
+        // 선택사항: 방이 비어있다면 미디어 파이프라인도 정리 (생성과 겹치지 않도록 방 락 안에서 다시 확인)
         if (roomEndpoints.get(roomId).isEmpty()) {
-            MediaPipeline mediaPipeline = pipelines.get(roomId);
-            // 미디어 파이프라인 해제 코드 (예시)
-            mediaPipeline.release();
-            pipelines.remove(roomId); // collection에서 제거
-            log.info("🚮 [Kurento] 방 {}에 남은 사용자가 없어 미디어 파이프라인을 해제합니다.", roomId);
+            ReentrantLock lock = lockRoom(roomId);
+            try {
+                Map<String, WebRtcEndpoint> endpoints = roomEndpoints.get(roomId);
+                MediaPipeline mediaPipeline = pipelines.get(roomId);
+                if (endpoints != null && endpoints.isEmpty() && mediaPipeline != null) {
+                    // 미디어 파이프라인 해제 코드 (예시)
+                    mediaPipeline.release();
+                    pipelines.remove(roomId); // collection에서 제거
+                    roomLocks.remove(roomId, lock);
+                    log.info("🚮 [Kurento] 방 {}에 남은 사용자가 없어 미디어 파이프라인을 해제합니다.", roomId);
+                }
+            } finally {
+                lock.unlock();
+            }
         }
 
         log.info("🛑 [Kurento] 사용자 제거 완료: roomId={}, userId={}", roomId, userId);
@@ -501,14 +562,22 @@ public class KurentoManager {
      * 방을 제거함
      */
     public void removeRoom(final String roomId) {
-        if (roomEndpoints.containsKey(roomId)) {
-            roomEndpoints.get(roomId).values().forEach(WebRtcEndpoint::release);
-            roomEndpoints.remove(roomId);
-        }
+        ReentrantLock lock = lockRoom(roomId);
+        try {
+            if (roomEndpoints.containsKey(roomId)) {
+                roomEndpoints.get(roomId).values().forEach(WebRtcEndpoint::release);
+                roomEndpoints.remove(roomId);
+            }
+
+            if (pipelines.containsKey(roomId)) {
+                pipelines.get(roomId).release();
+                pipelines.remove(roomId);
+            }
 
-        if (pipelines.containsKey(roomId)) {
-            pipelines.get(roomId).release();
-            pipelines.remove(roomId);
+            // 락을 보유한 상태에서 자신의 락만 제거 (대기 중인 스레드는 lockRoom 에서 새 락으로 다시 시도)
+            roomLocks.remove(roomId, lock);
+        } finally {
+            lock.unlock();
         }
 
         log.info("🛑 [Kurento] 방 제거 완료: roomId={}", roomId);
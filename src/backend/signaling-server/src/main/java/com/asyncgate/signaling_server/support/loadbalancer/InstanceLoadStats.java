@@ -0,0 +1,135 @@
+package com.asyncgate.signaling_server.support.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스별 처리 중 요청 수와 응답 지연 EWMA
+ * 복사본: 기준은 guild-server 의 support.loadbalancer.InstanceLoadStats (테스트는 그쪽 기준, 수정 시 함께 변경)
+ */
+@Component
+public class InstanceLoadStats implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private static final double ALPHA = 0.3;
+
+    private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final long latencyFloorNanos;
+
+    public InstanceLoadStats(
+            final @Value("${inter-service.load-balancer.decay:PT10S}") Duration decay,
+            final @Value("${inter-service.load-balancer.failure-penalty:PT1S}") Duration failurePenalty,
+            final @Value("${inter-service.load-balancer.latency-floor:PT0.001S}") Duration latencyFloor
+    ) {
+        this.decayNanos = decay.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.latencyFloorNanos = latencyFloor.toNanos();
+    }
+
+    public double cost(final ServiceInstance instance, final long now) {
+        InstanceLoad load = loads.get(key(instance));
+        if (load == null) {
+            return latencyFloorNanos;
+        }
+        return (load.latency(now, decayNanos) + latencyFloorNanos) * (load.inFlight.get() + 1);
+    }
+
+    public void start(final ServiceInstance instance) {
+        load(instance).inFlight.incrementAndGet();
+    }
+
+    /**
+     * 실패한 호출은 failure-penalty 이상의 지연으로 기록해서 장애 / GC 중인 인스턴스를 피한다
+     */
+    public void complete(final ServiceInstance instance, final long elapsedNanos, final boolean failed) {
+        InstanceLoad load = load(instance);
+        load.inFlight.updateAndGet(count -> Math.max(0, count - 1));
+        if (elapsedNanos > 0 || failed) {
+            load.record(failed ? Math.max(elapsedNanos, failurePenaltyNanos) : elapsedNanos, System.nanoTime(), decayNanos);
+        }
+    }
+
+    @Override
+    public boolean supports(final Class requestContextClass, final Class responseClass, final Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(final Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(final Request<Object> request, final Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+        start(lbResponse.getServer());
+    }
+
+    @Override
+    public void onComplete(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long elapsedNanos = 0;
+        if (completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext context
+                && context.getRequestStartTime() > 0) {
+            elapsedNanos = System.nanoTime() - context.getRequestStartTime();
+        }
+        complete(lbResponse.getServer(), elapsedNanos, failed(completionContext));
+    }
+
+    private static boolean failed(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && response.getHttpStatus().is5xxServerError();
+    }
+
+    private InstanceLoad load(final ServiceInstance instance) {
+        return loads.computeIfAbsent(key(instance), key -> new InstanceLoad());
+    }
+
+    private static String key(final ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class InstanceLoad {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long updatedAt;
+
+        synchronized void record(final long elapsedNanos, final long now, final long decayNanos) {
+            ewmaNanos = updatedAt == 0 ? elapsedNanos : ALPHA * elapsedNanos + (1 - ALPHA) * latency(now, decayNanos);
+            updatedAt = now;
+        }
+
+        synchronized double latency(final long now, final long decayNanos) {
+            if (updatedAt == 0) {
+                return 0;
+            }
+            return ewmaNanos * Math.exp(-(double) (now - updatedAt) / decayNanos);
+        }
+    }
+}
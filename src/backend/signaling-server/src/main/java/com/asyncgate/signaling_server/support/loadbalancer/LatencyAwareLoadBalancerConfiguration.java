@@ -0,0 +1,29 @@
+package com.asyncgate.signaling_server.support.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 child context 설정 (@LoadBalancerClients 의 defaultConfiguration)
+ * component scan 대상이 되면 모든 서비스가 같은 로드밸런서를 공유하게 되므로 @Configuration 을 붙이지 않는다
+ * 복사본: 기준은 guild-server 의 support.loadbalancer.LatencyAwareLoadBalancerConfiguration (수정 시 함께 변경)
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(
+            final Environment environment,
+            final LoadBalancerClientFactory loadBalancerClientFactory,
+            final InstanceLoadStats loadStats
+    ) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                loadStats
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.asyncgate.signaling_server.support.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/diagnostics  구간별 샘플링 비율 조회
+ * 복사본: 기준은 apigateway-server 의 support.logging.DiagnosticsEndpoint (수정 시 함께 변경)
+ */
+@Component
+@Endpoint(id = "diagnostics")
+public class DiagnosticsEndpoint {
+
+    private final RequestDiagnostics requestDiagnostics;
+
+    public DiagnosticsEndpoint(final RequestDiagnostics requestDiagnostics) {
+        this.requestDiagnostics = requestDiagnostics;
+    }
+
+    @ReadOperation
+    public Map<String, Double> sampleRates() {
+        return requestDiagnostics.sampleRates();
+    }
+}
@@ -0,0 +1,74 @@
+package com.asyncgate.signaling_server.support.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 헤더 / 프레임 덤프용 진단 로그
+ * 복사본: 기준은 apigateway-server 의 support.logging.RequestDiagnostics (수정 시 함께 변경)
+ */
+@Component
+@ConfigurationProperties(prefix = "logging.diagnostics")
+public class RequestDiagnostics {
+
+    public static final String DEFAULT_ROUTE = "default";
+
+    private static final Logger log = LoggerFactory.getLogger("RequestDiagnostics");
+
+    private static final Set<String> REDACTED_HEADERS = Set.of(
+            "authorization", "jwt-token", "cookie", "set-cookie", "sec-websocket-protocol", "x-internal-identity"
+    );
+    private static final String REDACTED = "[REDACTED]";
+
+    private volatile double sampleRate = 0.0;
+    private volatile Map<String, Double> routes = Map.of();
+
+    public boolean sampled(final String route) {
+        Double rate = routes.get(route);
+        double sampleRate = rate != null ? rate : this.sampleRate;
+        return sampleRate > 0.0 && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    // 호출 측이 sampled() 로 먼저 거른 뒤 호출한다 (샘플링되지 않은 요청은 헤더 복사 / 문자열 생성 없음)
+    public void headers(final String route, final String message, final Map<String, ? extends List<String>> headers) {
+        Map<String, Object> redacted = new LinkedHashMap<>();
+        headers.forEach((name, values) -> redacted.put(name, redact(name, values)));
+        log.info("[{}] {} headers={}", route, message, redacted);
+    }
+
+    public Map<String, Double> sampleRates() {
+        Map<String, Double> sampleRates = new HashMap<>(routes);
+        sampleRates.put(DEFAULT_ROUTE, sampleRate);
+        return sampleRates;
+    }
+
+    public void setSampleRate(final double sampleRate) {
+        this.sampleRate = validate(sampleRate);
+    }
+
+    // getter 를 두지 않아 refresh 시 기존 값과 병합되지 않고 설정 그대로 교체된다
+    public void setRoutes(final Map<String, Double> routes) {
+        routes.values().forEach(RequestDiagnostics::validate);
+        this.routes = Map.copyOf(routes);
+    }
+
+    public static Object redact(final String name, final Object value) {
+        return REDACTED_HEADERS.contains(name.toLowerCase()) ? REDACTED : value;
+    }
+
+    private static double validate(final double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sampleRate 는 0.0 ~ 1.0 사이여야 합니다: " + sampleRate);
+        }
+        return sampleRate;
+    }
+}
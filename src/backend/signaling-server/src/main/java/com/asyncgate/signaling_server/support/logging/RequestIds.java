@@ -0,0 +1,49 @@
+package com.asyncgate.signaling_server.support.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * requestId 검증 / 생성
+ * 복사본: 기준은 guild-server 의 support.logging.RequestIds (규칙 / 테스트는 그쪽 기준, 수정 시 함께 변경)
+ */
+public final class RequestIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_LENGTH = 64;
+
+    private RequestIds() {
+    }
+
+    // 외부에서 들어온 값은 게이트웨이와 같은 길이, 문자 집합 검사를 통과할 때만 이어받고 아니면 새로 발급 (로그 인젝션 방지)
+    public static String resolve(final String incoming) {
+        return isValid(incoming) ? incoming : next();
+    }
+
+    public static boolean isValid(final String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] buffer = new char[32];
+        writeHex(buffer, 0, random.nextLong());
+        writeHex(buffer, 16, random.nextLong());
+        return new String(buffer);
+    }
+
+    private static void writeHex(final char[] buffer, final int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
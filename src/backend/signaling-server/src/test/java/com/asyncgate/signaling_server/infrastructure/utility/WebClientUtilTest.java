@@ -0,0 +1,158 @@
+package com.asyncgate.signaling_server.infrastructure.utility;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebClientUtilTest {
+
+    private static final String TARGET = "user-server";
+    private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+    };
+
+    private MockWebServer server;
+    private MockEnvironment environment;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private WebClientUtil webClientUtil;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        environment = new MockEnvironment();
+        environment.setConversionService(new ApplicationConversionService());
+        environment.setProperty("inter-service.user-server.timeout", "3s");
+
+        // application-*.yml 의 user-server 인스턴스 설정과 같은 규칙 (창 크기만 작게)
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .ignoreException(new ClientErrorPredicate())
+                .build());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(
+                        TimeoutException.class,
+                        WebClientRequestException.class,
+                        WebClientResponseException.BadGateway.class,
+                        WebClientResponseException.ServiceUnavailable.class,
+                        WebClientResponseException.GatewayTimeout.class
+                )
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        webClientUtil = new WebClientUtil(
+                WebClient.builder(),
+                circuitBreakerRegistry,
+                BulkheadRegistry.ofDefaults(),
+                retryRegistry,
+                environment,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("503 은 한 번 재시도해 성공 응답을 사용한다")
+    void retryOnServiceUnavailable() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("users"));
+
+        assertThat(get()).isEqualTo("users");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4xx 는 재시도하지 않고 circuit breaker 실패로도 세지 않는다")
+    void clientErrorIsNotFailure() {
+        for (int i = 0; i < 6; i++) {
+            server.enqueue(new MockResponse().setResponseCode(404));
+            assertThatThrownBy(this::get).isInstanceOf(WebClientResponseException.NotFound.class);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(TARGET);
+        assertThat(server.getRequestCount()).isEqualTo(6);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("5xx 실패율이 임계치를 넘으면 circuit 이 열리고 이후 호출은 서비스로 보내지 않는다")
+    void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+            assertThatThrownBy(this::get).isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(TARGET).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::get).isInstanceOf(CallNotPermittedException.class);
+        assertThat(server.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("hedge-delay 안에 응답이 없으면 hedge 요청을 보내 먼저 온 응답을 사용한다")
+    void hedgeWins() {
+        environment.setProperty("inter-service.user-server.hedge-delay", "100ms");
+        server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(1, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setBody("hedged"));
+
+        assertThat(get()).isEqualTo("hedged");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("inter-service.hedged", "target", TARGET).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hedge 예산을 다 쓰면 느린 응답이라도 hedge 없이 첫 요청을 기다린다")
+    void hedgeBudgetExhausted() {
+        environment.setProperty("inter-service.user-server.hedge-delay", "50ms");
+        environment.setProperty("inter-service.user-server.hedge-budget-ratio", "0");
+        environment.setProperty("inter-service.user-server.hedge-budget-burst", "1");
+        server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody("hedged"));
+        server.enqueue(new MockResponse().setBody("primary").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        assertThat(get()).isEqualTo("hedged");
+        assertThat(get()).isEqualTo("primary");
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("inter-service.hedged", "target", TARGET).count()).isEqualTo(1);
+    }
+
+    private String get() {
+        return webClientUtil.get(TARGET, server.url("").toString(), "users", null, STRING)
+                .block(Duration.ofSeconds(10));
+    }
+}
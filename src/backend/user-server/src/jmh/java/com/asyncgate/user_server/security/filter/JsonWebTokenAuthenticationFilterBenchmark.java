@@ -0,0 +1,71 @@
+package com.asyncgate.user_server.security.filter;
+
+import com.asyncgate.user_server.security.constant.Constants;
+import com.asyncgate.user_server.security.service.AuthenticateJsonWebTokenService;
+import com.asyncgate.user_server.security.utility.InternalIdentityVerifier;
+import com.asyncgate.user_server.security.utility.JsonWebTokenUtil;
+import com.asyncgate.user_server.security.utility.RevokedMemberCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 클레임 기반 인증 필터 처리량 (서명 검증 + revoked 캐시 조회, DB 조회 없음)
+ * 이전 구현은 여기에 요청당 MySQL findById 1회가 더해졌다
+ */
+@State(Scope.Benchmark)
+public class JsonWebTokenAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Param({"0", "10000"})
+    public int revokedMembers;
+
+    private JsonWebTokenAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JsonWebTokenUtil jsonWebTokenUtil = new JsonWebTokenUtil();
+        ReflectionTestUtils.setField(jsonWebTokenUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jsonWebTokenUtil, "accessTokenExpirePeriod", 3_600_000L);
+        jsonWebTokenUtil.afterPropertiesSet();
+
+        // 캐시 조회 경로만 사용하므로 Redis / DB 연결 없이 생성 (afterPropertiesSet 의 복원은 호출하지 않음)
+        RevokedMemberCache revokedMemberCache = new RevokedMemberCache(new StringRedisTemplate(), null, 3_600_000L);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> revoked = (Map<String, Long>) ReflectionTestUtils.getField(revokedMemberCache, "revoked");
+        for (int i = 0; i < revokedMembers; i++) {
+            revoked.put(UUID.randomUUID().toString(), System.currentTimeMillis());
+        }
+
+        filter = new JsonWebTokenAuthenticationFilter(
+                new AuthenticateJsonWebTokenService(revokedMemberCache),
+                jsonWebTokenUtil,
+                new InternalIdentityVerifier("")
+        );
+        authorization = Constants.BEARER_PREFIX + jsonWebTokenUtil.generate(UUID.randomUUID().toString()).getAccessToken();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/friends");
+        request.addHeader(Constants.AUTHORIZATION_HEADER, authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,48 @@
+package com.asyncgate.user_server.security.utility;
+
+import com.asyncgate.user_server.security.constant.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 경로 목록 길이에 따른 요청당 매칭 비용
+ * 기존 방식(패턴마다 String.matches) 은 목록 길이에 비례하고, PublicPathMatcher 는 경로 깊이에만 비례한다
+ */
+@State(Scope.Benchmark)
+public class PublicPathMatcherBenchmark {
+
+    // 인증이 필요한 일반 요청 (모든 패턴을 확인해야 하는 최악의 경우)
+    private static final String PROTECTED_PATH = "/users/me/friends/requests";
+
+    @Param({"16", "256", "4096"})
+    public int patternCount;
+
+    private List<String> patterns;
+    private PublicPathMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>(Constants.NO_NEED_AUTH_URLS);
+        for (int i = patterns.size(); i < patternCount; i++) {
+            patterns.add(i % 2 == 0 ? "/public/" + i : "/static/" + i + "/**");
+        }
+        matcher = PublicPathMatcher.of(patterns);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return patterns.stream()
+                .anyMatch(excludePattern -> PROTECTED_PATH.matches(excludePattern.replace("**", ".*")));
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        return matcher.matches(PROTECTED_PATH);
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -102,14 +103,14 @@ public class MemberCommandController implements MemberControllerDocs {
      */
     @Override
     @PatchMapping("/info")
-    public SuccessResponse<?> updateUserInfo(
+    public CompletableFuture<SuccessResponse<?>> updateUserInfo(
             final @MemberID String userId,
             @RequestPart(value = "name", required = false) final String name,
             @RequestPart(value = "nickname", required = false) final String nickname,
             @RequestPart(value = "profile_image", required = false) final MultipartFile profileImage
     ) {
-        UpdateUserInfoUseCase.execute(userId, name, nickname, profileImage);
-        return SuccessResponse.ok("유저 정보 수정 완료");
+        return UpdateUserInfoUseCase.execute(userId, name, nickname, profileImage)
+                .<SuccessResponse<?>>thenApply(ignored -> SuccessResponse.ok("유저 정보 수정 완료"));
     }
 
     /**
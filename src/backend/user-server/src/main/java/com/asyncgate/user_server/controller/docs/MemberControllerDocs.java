@@ -17,6 +17,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "User", description = "유저 관련 API")
 public interface MemberControllerDocs {
 
@@ -60,7 +62,7 @@ public interface MemberControllerDocs {
             @ApiResponse(responseCode = "200", description = "유저 정보 수정 완료")
     })
     @PatchMapping(value = "/info", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    SuccessResponse<?> updateUserInfo(
+    CompletableFuture<SuccessResponse<?>> updateUserInfo(
             @MemberID String userId,
             @RequestPart(value = "name", required = false) String name,
             @RequestPart(value = "nickname", required = false) String nickname,
@@ -1,9 +1,11 @@
 package com.asyncgate.user_server.dto.response;
 
 import com.asyncgate.user_server.domain.Member;
+import com.asyncgate.user_server.support.image.ImageVariant;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public record UserClientInfoResponses(List<UserClientInfoResponse> responses) {
     public static UserClientInfoResponses from(List<Member> members) {
@@ -14,10 +16,12 @@ public record UserClientInfoResponses(List<UserClientInfoResponse> responses) {
         );
     }
 
-    public record UserClientInfoResponse(String userId, String name, String nickname, String profileImageUrl, String email, LocalDate birth) {
+    public record UserClientInfoResponse(String userId, String name, String nickname, String profileImageUrl,
+                                         Map<ImageVariant, String> profileImageVariants, String email, LocalDate birth) {
         public static UserClientInfoResponse from(final Member member) {
             return new UserClientInfoResponse(
-                    member.getId(), member.getName(), member.getNickname(), member.getProfileImgUrl(), member.getEmail(), member.getBirth()
+                    member.getId(), member.getName(), member.getNickname(), member.getProfileImgUrl(),
+                    ImageVariant.urlsOf(member.getProfileImgUrl()), member.getEmail(), member.getBirth()
             );
         }
     }
@@ -18,6 +18,9 @@ public enum FailType {
     _UPLOAD_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5001", "S3 이미지 업로드에 실패하였습니다."),
     _DELETE_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3_5002", "S3 이미지 제거에 실패하였습니다."),
     _FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "S3_5003", "파일이 S3에 존재하지 않습니다."),
+    _UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S3_5031", "업로드 요청이 많아 잠시 후 다시 시도해주세요."),
+    FILE_TYPE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "S3_4001", "지원하지 않는 이미지 형식입니다."),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "S3_4131", "업로드 가능한 파일 크기를 초과했습니다."),
 
     // email
     _SEND_EMAIL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Email_5000", "이메일 전송에 실패하였습니다."),
@@ -6,13 +6,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberJpaRepository extends JpaRepository<MemberEntity, String> {
 
     @Modifying
-    @Query("UPDATE MemberEntity m SET m.deleted = true WHERE m.id = :id")
-    void softDeleteById(@Param("id") String id);
+    @Query("UPDATE MemberEntity m SET m.deleted = true, m.lastModifiedDate = :now WHERE m.id = :id")
+    void softDeleteById(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT m.id FROM MemberEntity m WHERE m.deleted = true AND m.lastModifiedDate >= :since")
+    List<String> findDeletedIdsSince(@Param("since") LocalDateTime since);
 
     @Query("SELECT m FROM MemberEntity m WHERE m.id = :id AND m.deleted = false")
     Optional<MemberEntity> findByNotDeletedId(@Param("id") String id);
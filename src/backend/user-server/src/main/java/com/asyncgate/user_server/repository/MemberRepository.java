@@ -3,6 +3,7 @@ package com.asyncgate.user_server.repository;
 import com.asyncgate.user_server.domain.Member;
 import com.asyncgate.user_server.entity.MemberEntity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +20,7 @@ public interface MemberRepository {
 
     void softDeleteById(String id);
 
+    List<String> findDeletedIdsSince(LocalDateTime since);
+
     List<Member> getByMemberIds(List<String> memberIds);
 }
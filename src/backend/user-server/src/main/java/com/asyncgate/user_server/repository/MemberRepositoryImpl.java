@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +26,13 @@ public class MemberRepositoryImpl implements MemberRepository {
 
     @Override
     public void softDeleteById(final String id) {
+        // 벌크 update 는 auditing 을 거치지 않으므로 탈퇴 시각을 직접 기록 (재시작 시 차단 목록 복원에 사용)
+        memberJpaRepository.softDeleteById(id, LocalDateTime.now());
+    }
 
-        memberJpaRepository.softDeleteById(id);
+    @Override
+    public List<String> findDeletedIdsSince(final LocalDateTime since) {
+        return memberJpaRepository.findDeletedIdsSince(since);
     }
 
     @Override
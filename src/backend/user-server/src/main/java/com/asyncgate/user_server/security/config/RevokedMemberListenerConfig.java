@@ -0,0 +1,23 @@
+package com.asyncgate.user_server.security.config;
+
+import com.asyncgate.user_server.security.utility.RevokedMemberCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RevokedMemberListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer revokedMemberListenerContainer(
+            final RedisConnectionFactory redisConnectionFactory,
+            final RevokedMemberCache revokedMemberCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(revokedMemberCache, new ChannelTopic(RevokedMemberCache.CHANNEL));
+        return container;
+    }
+}
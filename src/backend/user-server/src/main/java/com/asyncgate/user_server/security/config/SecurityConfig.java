@@ -3,7 +3,9 @@ package com.asyncgate.user_server.security.config;
 import com.asyncgate.user_server.security.constant.Constants;
 import com.asyncgate.user_server.security.filter.JsonWebTokenAuthenticationFilter;
 import com.asyncgate.user_server.security.usecase.AuthenticateJsonWebTokenUseCase;
+import com.asyncgate.user_server.security.utility.InternalIdentityVerifier;
 import com.asyncgate.user_server.security.utility.JsonWebTokenUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -24,6 +26,8 @@ public class SecurityConfig {
 
     private final JsonWebTokenUtil jsonWebTokenUtil;
 
+    private final InternalIdentityVerifier internalIdentityVerifier;
+
     @Bean
     protected SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
@@ -37,6 +41,8 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(configurer -> configurer
+                        // CompletableFuture 응답의 async dispatch (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(Constants.NO_NEED_AUTH_URLS.toArray(String[]::new)).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -45,7 +51,8 @@ public class SecurityConfig {
                 .addFilterBefore(
                         new JsonWebTokenAuthenticationFilter(
                                 authenticateJsonWebTokenUseCase,
-                                jsonWebTokenUtil
+                                jsonWebTokenUtil,
+                                internalIdentityVerifier
                         ),
                         LogoutFilter.class
                 )
@@ -25,6 +25,7 @@ public class Constants {
             "/validation/email",
             "/", // root
             "/actuator/info",
+            "/actuator/prometheus",
             "/health",
             "/room/profile",
 
@@ -6,7 +6,9 @@ import com.asyncgate.user_server.security.constant.Constants;
 import com.asyncgate.user_server.security.exception.CommonException;
 import com.asyncgate.user_server.security.info.CustomUserPrincipal;
 import com.asyncgate.user_server.security.utility.HeaderUtil;
+import com.asyncgate.user_server.security.utility.InternalIdentityVerifier;
 import com.asyncgate.user_server.security.utility.JsonWebTokenUtil;
+import com.asyncgate.user_server.security.utility.PublicPathMatcher;
 import io.jsonwebtoken.*;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,10 +29,16 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final PublicPathMatcher NO_NEED_AUTH_PATHS = PublicPathMatcher.of(Constants.NO_NEED_AUTH_URLS);
+
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     private final AuthenticateJsonWebTokenUseCase authenticateJsonWebTokenUseCase;
 
     private final JsonWebTokenUtil jsonWebTokenUtil;
 
+    private final InternalIdentityVerifier internalIdentityVerifier;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -38,12 +46,16 @@ public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String token = HeaderUtil.refineHeader(request, Constants.AUTHORIZATION_HEADER, Constants.BEARER_PREFIX)
-                .orElseThrow(() -> new CommonException(FailType.INVALID_HEADER_ERROR));
+        // 게이트웨이가 서명한 내부 신원 헤더가 있으면 JWT 를 다시 파싱하지 않는다
+        String memberId = internalIdentityVerifier.verify(request.getHeader(InternalIdentityVerifier.HEADER));
+        if (memberId == null) {
+            String token = HeaderUtil.refineHeader(request, Constants.AUTHORIZATION_HEADER, Constants.BEARER_PREFIX)
+                    .orElseThrow(() -> new CommonException(FailType.INVALID_HEADER_ERROR));
 
-        Claims claims = jsonWebTokenUtil.validate(token);
+            Claims claims = jsonWebTokenUtil.validate(token);
 
-        String memberId = claims.get(Constants.MEMBER_ID_CLAIM_NAME, String.class);
+            memberId = claims.get(Constants.MEMBER_ID_CLAIM_NAME, String.class);
+        }
 
         CustomUserPrincipal principal = authenticateJsonWebTokenUseCase.execute(memberId);
 
@@ -55,7 +67,7 @@ public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
         );
 
         // SecurityContext에 AuthenticationToken 저장
-        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authenticationToken.setDetails(DETAILS_SOURCE.buildDetails(request));
 
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(authenticationToken);
@@ -73,7 +85,6 @@ public class JsonWebTokenAuthenticationFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
 
         // 인증이 필요 없는 URL 목록에 포함되는지 확인
-        return Constants.NO_NEED_AUTH_URLS.stream()
-                .anyMatch(excludePattern -> requestURI.matches(excludePattern.replace("**", ".*")));
+        return NO_NEED_AUTH_PATHS.matches(requestURI);
     }
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -19,12 +18,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserPrincipal implements UserDetails {
 
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     @Getter
     private final String id;
     @Getter
     private final String email;
     private final String password;
 
+    // 토큰 클레임만으로 만드는 principal (인증 시 DB 조회 없음)
+    public static CustomUserPrincipal fromClaims(final String memberId) {
+        return CustomUserPrincipal.builder()
+                .id(memberId)
+                .build();
+    }
+
     public static CustomUserPrincipal create(MemberEntity member) {
         return CustomUserPrincipal.builder()
                 .id(member.getId())
@@ -41,11 +49,7 @@ public class CustomUserPrincipal implements UserDetails {
     // 임시 권한 user
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        SimpleGrantedAuthority adminAuthority = new SimpleGrantedAuthority("ROLE_USER");
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(adminAuthority);
-
-        return authorities;
+        return USER_AUTHORITIES;
     }
 
     @Override
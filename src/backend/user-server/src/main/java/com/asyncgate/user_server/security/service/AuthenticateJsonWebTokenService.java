@@ -1,25 +1,28 @@
 package com.asyncgate.user_server.security.service;
 
-import com.asyncgate.user_server.domain.Member;
 import com.asyncgate.user_server.exception.FailType;
 import com.asyncgate.user_server.exception.UserServerException;
-import com.asyncgate.user_server.repository.MemberRepository;
 import com.asyncgate.user_server.security.info.CustomUserPrincipal;
 import com.asyncgate.user_server.security.usecase.AuthenticateJsonWebTokenUseCase;
-import com.asyncgate.user_server.support.utility.DomainUtil;
+import com.asyncgate.user_server.security.utility.RevokedMemberCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AuthenticateJsonWebTokenService implements AuthenticateJsonWebTokenUseCase {
-    private final MemberRepository memberRepository;
+    private final RevokedMemberCache revokedMemberCache;
 
+    /**
+     * 서명 검증이 끝난 토큰의 클레임으로 principal 생성 (DB 조회 없음)
+     * 탈퇴 회원은 토큰이 만료되기 전까지 revoked 캐시로 차단한다
+     */
     @Override
     public CustomUserPrincipal execute(final String id) {
-        Member member = memberRepository.findById(id)
-                .orElseThrow(() -> new UserServerException(FailType.MEMBER_NOT_FOUND));
+        if (id == null || revokedMemberCache.isRevoked(id)) {
+            throw new UserServerException(FailType.MEMBER_NOT_FOUND);
+        }
 
-        return CustomUserPrincipal.create(DomainUtil.MemberMapper.toEntity(member));
+        return CustomUserPrincipal.fromClaims(id);
     }
 }
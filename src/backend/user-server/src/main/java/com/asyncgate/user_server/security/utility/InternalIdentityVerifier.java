@@ -0,0 +1,79 @@
+package com.asyncgate.user_server.security.utility;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 게이트웨이가 JWT 검증 후 붙여 주는 내부 신원 헤더(X-Internal-Identity) 검증
+ * 복사본: 기준은 guild-server 의 security.filter.InternalIdentityVerifier (서비스 신원용 verifyService 는 그쪽에만 있음, 수정 시 함께 변경)
+ */
+@Component
+public class InternalIdentityVerifier {
+
+    public static final String HEADER = "X-Internal-Identity";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    private final Mac prototype;
+
+    public InternalIdentityVerifier(@Value("${internal.identity.secret-key:}") final String secretKey) {
+        this.prototype = secretKey.isBlank() ? null : initMac(secretKey);
+    }
+
+    public String verify(final String headerValue) {
+        if (prototype == null || headerValue == null) {
+            return null;
+        }
+
+        int signatureAt = headerValue.lastIndexOf('.');
+        int expiresAt = signatureAt <= 0 ? -1 : headerValue.lastIndexOf('.', signatureAt - 1);
+        if (expiresAt <= 0) {
+            return null;
+        }
+
+        long expiresAtMillis;
+        try {
+            expiresAtMillis = Long.parseLong(headerValue, expiresAt + 1, signatureAt, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(headerValue.substring(signatureAt + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        byte[] expected = newMac().doFinal(headerValue.substring(0, signatureAt).getBytes(StandardCharsets.UTF_8));
+        return MessageDigest.isEqual(expected, signature) ? headerValue.substring(0, expiresAt) : null;
+    }
+
+    // Mac 은 thread-safe 하지 않으므로 초기화된 prototype 을 복제해서 사용
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Mac initMac(final String secretKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_SHA256));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("internal identity 키 초기화 실패", e);
+        }
+    }
+}
@@ -26,9 +26,15 @@ public class JsonWebTokenUtil implements InitializingBean {
 
     private Key key;
 
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 생성해 재사용
+    private JwtParser parser;
+
     @Override
     public void afterPropertiesSet() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // token 생성 메서드
@@ -41,12 +47,12 @@ public class JsonWebTokenUtil implements InitializingBean {
 
     // token 검증 메서드
     public Claims validate(final String token) {
+        if (JwtExpiryPrecheck.isExpired(token, System.currentTimeMillis())) {
+            throw new UserServerException(FailType._UNKNOWN_ERROR);
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
             // JWT 예외처리는 apigateway에서 처리
         } catch (Exception e) {
             throw new UserServerException(FailType._UNKNOWN_ERROR);
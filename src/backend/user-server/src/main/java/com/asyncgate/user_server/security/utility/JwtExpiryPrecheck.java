@@ -0,0 +1,66 @@
+package com.asyncgate.user_server.security.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 서명 검증 전에 payload 의 exp 만 읽어 만료 토큰을 먼저 거르는 용도
+ * 복사본: 기준은 guild-server 의 security.filter.JwtExpiryPrecheck (수정 시 함께 변경)
+ */
+final class JwtExpiryPrecheck {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final byte[] EXP_CLAIM = "\"exp\":".getBytes(StandardCharsets.US_ASCII);
+
+    private JwtExpiryPrecheck() {
+    }
+
+    static boolean isExpired(final String token, final long nowMillis) {
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (second < 0) {
+            return false;
+        }
+
+        byte[] payload;
+        try {
+            payload = DECODER.decode(token.substring(first + 1, second));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        int index = indexOfExp(payload);
+        if (index < 0) {
+            return false;
+        }
+
+        long exp = 0;
+        int digits = 0;
+        while (index < payload.length && payload[index] == ' ') {
+            index++;
+        }
+        while (index < payload.length && payload[index] >= '0' && payload[index] <= '9' && digits < 18) {
+            exp = exp * 10 + (payload[index] - '0');
+            index++;
+            digits++;
+        }
+        return digits > 0 && exp * 1000 < nowMillis;
+    }
+
+    private static int indexOfExp(final byte[] payload) {
+        outer:
+        for (int i = 0; i <= payload.length - EXP_CLAIM.length; i++) {
+            for (int j = 0; j < EXP_CLAIM.length; j++) {
+                if (payload[i + j] != EXP_CLAIM[j]) {
+                    continue outer;
+                }
+            }
+            // 문자열 값 안에 이스케이프되어 들어간 "exp": 는 무시
+            if (i > 0 && payload[i - 1] == '\\') {
+                continue;
+            }
+            return i + EXP_CLAIM.length;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,69 @@
+package com.asyncgate.user_server.security.utility;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 인증이 필요 없는 경로 matcher
+ * 복사본: 기준은 guild-server 의 security.PublicPathMatcher (패턴 규칙 / 테스트는 그쪽 기준, 수정 시 함께 변경)
+ */
+public final class PublicPathMatcher {
+
+    private static final String ANY_SUB_PATH = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Set<String> prefixPaths = new HashSet<>();
+
+    private PublicPathMatcher(final Collection<String> patterns) {
+        for (String pattern : patterns) {
+            if (pattern.endsWith(ANY_SUB_PATH)) {
+                String prefix = pattern.substring(0, pattern.length() - ANY_SUB_PATH.length());
+                validate(pattern, prefix);
+                // "/v3/**" 는 "/v3" 자체도 포함한다 (Spring PathPattern 과 동일)
+                exactPaths.add(prefix);
+                prefixPaths.add(prefix);
+            } else {
+                validate(pattern, pattern);
+                exactPaths.add(pattern);
+            }
+        }
+    }
+
+    public static PublicPathMatcher of(final Collection<String> patterns) {
+        return new PublicPathMatcher(patterns);
+    }
+
+    public static PublicPathMatcher of(final String... patterns) {
+        return new PublicPathMatcher(Arrays.asList(patterns));
+    }
+
+    public boolean matches(final String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (prefixPaths.isEmpty()) {
+            return false;
+        }
+
+        // "/a/b/c" -> "/a", "/a/b" 순서로 "/**" 패턴의 prefix 인지 확인
+        int slash = path.indexOf('/', 1);
+        while (slash > 0) {
+            if (prefixPaths.contains(path.substring(0, slash))) {
+                return true;
+            }
+            slash = path.indexOf('/', slash + 1);
+        }
+        return false;
+    }
+
+    private static void validate(final String pattern, final String path) {
+        if (!path.startsWith("/") || path.indexOf('*') >= 0 || path.indexOf('?') >= 0 || path.indexOf('{') >= 0) {
+            throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+        }
+    }
+}
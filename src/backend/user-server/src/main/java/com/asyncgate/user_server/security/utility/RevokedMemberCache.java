@@ -0,0 +1,88 @@
+package com.asyncgate.user_server.security.utility;
+
+import com.asyncgate.user_server.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴 / 차단된 회원 id 캐시
+ * 인증 필터는 DB 대신 이 캐시만 조회하고, 다른 인스턴스와는 Redis pub/sub 으로 동기화한다
+ * 토큰 만료 시간이 지난 항목은 더 이상 유효한 토큰이 없으므로 제거한다
+ */
+@Slf4j
+@Component
+public class RevokedMemberCache implements MessageListener, InitializingBean {
+
+    public static final String CHANNEL = "member:revoked";
+    private static final String KEY = "member:revoked";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MemberRepository memberRepository;
+    private final long retentionMillis;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public RevokedMemberCache(
+            final StringRedisTemplate redisTemplate,
+            final MemberRepository memberRepository,
+            @Value("${jwt.access-token-expire-period}") final long retentionMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.memberRepository = memberRepository;
+        this.retentionMillis = retentionMillis;
+    }
+
+    // 재시작한 인스턴스도 만료 전 토큰을 가진 탈퇴 회원을 막을 수 있도록 Redis 와 DB(토큰 만료 기간 내 탈퇴 회원)에서 복원
+    // Redis 전파가 실패했던 탈퇴도 DB 에는 남아 있으므로 함께 복원된다
+    @Override
+    public void afterPropertiesSet() {
+        long now = System.currentTimeMillis();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(KEY, now - retentionMillis, Double.MAX_VALUE);
+            if (entries != null) {
+                entries.forEach(entry -> revoked.put(entry.getValue(), entry.getScore().longValue()));
+            }
+        } catch (Exception e) {
+            log.warn("revoked member 목록 복원 실패: {}", e.getMessage());
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+            memberRepository.findDeletedIdsSince(since).forEach(memberId -> revoked.putIfAbsent(memberId, now));
+        } catch (Exception e) {
+            log.warn("탈퇴 회원 목록 DB 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(final String memberId) {
+        return !revoked.isEmpty() && revoked.containsKey(memberId);
+    }
+
+    public void revoke(final String memberId) {
+        long now = System.currentTimeMillis();
+        revoked.put(memberId, now);
+
+        redisTemplate.opsForZSet().add(KEY, memberId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(KEY, 0, now - retentionMillis);
+        redisTemplate.convertAndSend(CHANNEL, memberId);
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        long now = System.currentTimeMillis();
+        revoked.put(new String(message.getBody(), StandardCharsets.UTF_8), now);
+        revoked.values().removeIf(revokedAt -> revokedAt < now - retentionMillis);
+    }
+}
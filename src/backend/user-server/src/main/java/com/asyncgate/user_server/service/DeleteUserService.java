@@ -4,11 +4,14 @@ import com.asyncgate.user_server.domain.Member;
 import com.asyncgate.user_server.exception.FailType;
 import com.asyncgate.user_server.exception.UserServerException;
 import com.asyncgate.user_server.repository.MemberRepository;
+import com.asyncgate.user_server.security.utility.RevokedMemberCache;
 import com.asyncgate.user_server.usecase.DeleteUserUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteUserService implements DeleteUserUseCase {
 
     private final MemberRepository memberRepository;
+    private final RevokedMemberCache revokedMemberCache;
 
     @Override
     @Transactional
@@ -24,5 +28,18 @@ public class DeleteUserService implements DeleteUserUseCase {
                 .orElseThrow(() -> new UserServerException(FailType.MEMBER_NOT_FOUND));
 
         memberRepository.softDeleteById(member.getId());
+
+        // 커밋 이후에 모든 인스턴스의 인증 캐시에서 차단
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 탈퇴는 이미 커밋되었으므로 Redis 전파 실패로 요청을 실패시키지 않음 (다른 인스턴스는 재시작 시 DB 에서 복원)
+                try {
+                    revokedMemberCache.revoke(member.getId());
+                } catch (RuntimeException e) {
+                    log.warn("탈퇴 회원 차단 전파 실패 - memberId={}", member.getId(), e);
+                }
+            }
+        });
     }
 }
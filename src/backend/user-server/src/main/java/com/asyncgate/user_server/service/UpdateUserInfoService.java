@@ -6,13 +6,15 @@ import com.asyncgate.user_server.exception.UserServerException;
 import com.asyncgate.user_server.repository.MemberRepository;
 import com.asyncgate.user_server.support.utility.S3Util;
 import com.asyncgate.user_server.usecase.UpdateUserInfoUseCase;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,28 +22,41 @@ public class UpdateUserInfoService implements UpdateUserInfoUseCase {
 
     private final MemberRepository memberRepository;
     private final S3Util s3Util;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${cloud.aws.s3.profile.default.url}")
     private String defaultProfileImageUrl;
 
+    /**
+     * S3 업로드가 끝난 뒤에 트랜잭션을 시작하여 업로드 동안 DB 커넥션을 점유하지 않음
+     * 업로드는 future 로 이어져 요청 스레드가 대기하지 않으며, DB 반영이 실패하면 업로드한 이미지를 정리
+     */
     @Override
-    @Transactional
-    public void execute(final String userId, final String name, final String nickname, final MultipartFile profileImage) {
-        String profileImageUrl = getProfileImageUrl(profileImage);
-
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new UserServerException(FailType.MEMBER_NOT_FOUND));
-
-        member.update(name, nickname, profileImageUrl);
-
-        memberRepository.save(member);
+    public CompletableFuture<Void> execute(final String userId, final String name, final String nickname, final MultipartFile profileImage) {
+        return getProfileImageUrl(profileImage).thenAccept(profileImageUrl -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Member member = memberRepository.findById(userId)
+                            .orElseThrow(() -> new UserServerException(FailType.MEMBER_NOT_FOUND));
+
+                    member.update(name, nickname, profileImageUrl);
+
+                    memberRepository.save(member);
+                });
+            } catch (RuntimeException e) {
+                if (!profileImageUrl.equals(defaultProfileImageUrl)) {
+                    s3Util.deleteFileQuietly(profileImageUrl);
+                }
+                throw e;
+            }
+        });
     }
 
-    private String getProfileImageUrl(final MultipartFile profileImage) {
+    private CompletableFuture<String> getProfileImageUrl(final MultipartFile profileImage) {
         if (profileImage != null && !profileImage.isEmpty()) {
-            return s3Util.uploadFile(profileImage, Member.class.getName());
+            return s3Util.uploadImage(profileImage, Member.class.getName());
         } else {
-            return defaultProfileImageUrl;
+            return CompletableFuture.completedFuture(defaultProfileImageUrl);
         }
     }
 }
@@ -1,27 +1,43 @@
 package com.asyncgate.user_server.support.logging;
 
 import jakarta.servlet.http.HttpServletRequest;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Aspect
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class RequestResponseLoggingAspect {
 
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
     private static final Logger requestLogger = LoggerFactory.getLogger("HttpRequestLog");
     private static final Logger responseLogger = LoggerFactory.getLogger("HttpResponseLog");
 
+    private static final String[] ACCESS_KEYS = {
+            "method", "requestUri", "sourceIp", "userAgent", "xForwardedFor", "xForwardedProto", "responseTime"
+    };
+
+    // 0.0 ~ 1.0, 샘플링되지 않은 요청도 requestId 는 MDC 에 남기고 실패 응답은 항상 기록
+    private final double sampleRate;
+
+    public RequestResponseLoggingAspect(@Value("${logging.access.sample-rate:1.0}") final double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
     @Pointcut("execution(* com.asyncgate.user_server.controller..*Controller.*(..))")
     public void apiControllerMethods() {}
 
@@ -31,37 +47,60 @@ public class RequestResponseLoggingAspect {
     @Pointcut("apiControllerMethods() && excludeHealthCheck()")
     public void apiControllerMethodsExcludingHealthCheck() {}
 
-    @Before("apiControllerMethodsExcludingHealthCheck()")
-    public void logRequest(JoinPoint joinPoint) {
-        setMDC();
-        requestLogger.info("Request received for method: {}", joinPoint.getSignature().getName());
+    @Around("apiControllerMethodsExcludingHealthCheck()")
+    public Object logAccess(final ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = getCurrentHttpRequest();
+        if (request == null) {
+            return joinPoint.proceed();
+        }
+
+        // 게이트웨이가 발급한 requestId 를 이어받되, 형식이 맞지 않으면 새로 발급
+        MDC.put("requestId", RequestIds.resolve(request.getHeader(REQUEST_ID_HEADER)));
+
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (sampled) {
+            putAccessMDC(request);
+            requestLogger.info("Request received for method: {}", joinPoint.getSignature().getName());
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            if (sampled) {
+                putResponseTime(startTime);
+                responseLogger.info("Response sent successfully");
+            }
+            return result;
+        } catch (Throwable e) {
+            if (!sampled) {
+                putAccessMDC(request);
+            }
+            putResponseTime(startTime);
+            responseLogger.warn("Response failed: {}", e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            clearMDC();
+        }
     }
 
-    @AfterReturning(pointcut = "apiControllerMethodsExcludingHealthCheck()")
-    public void logResponse() {
-        String startTimeStr = MDC.get("startTime");
-        long startTime = startTimeStr != null ? Long.parseLong(startTimeStr) : 0L;
-        double executionTime = (System.nanoTime() - startTime) / 1_000_000_000.0;
-        MDC.put("responseTime", String.format("%.3f초", executionTime));
-        responseLogger.info("Response sent successfully");
+    private void putAccessMDC(final HttpServletRequest request) {
+        String realIp = request.getHeader("X-Real-IP");
+        MDC.put("method", request.getMethod());
+        MDC.put("requestUri", request.getRequestURI());
+        MDC.put("sourceIp", realIp != null ? realIp : request.getRemoteAddr());
+        MDC.put("userAgent", request.getHeader("User-Agent"));
+        MDC.put("xForwardedFor", request.getHeader("X-Forwarded-For"));
+        MDC.put("xForwardedProto", request.getHeader("X-Forwarded-Proto"));
     }
 
-    @After("apiControllerMethodsExcludingHealthCheck()")
-    public void clearMDC() {
-        MDC.clear();
+    private void putResponseTime(final long startTime) {
+        MDC.put("responseTime", (System.nanoTime() - startTime) / 1_000_000 + "ms");
     }
 
-    private void setMDC() {
-        HttpServletRequest request = getCurrentHttpRequest();
-        if (request != null) {
-            MDC.put("method", request.getMethod());
-            MDC.put("requestUri", request.getRequestURI());
-            MDC.put("sourceIp", request.getHeader("X-Real-IP") != null ? request.getHeader("X-Real-IP") : request.getRemoteAddr());
-            MDC.put("userAgent", request.getHeader("User-Agent"));
-            MDC.put("xForwardedFor", request.getHeader("X-Forwarded-For"));
-            MDC.put("xForwardedProto", request.getHeader("X-Forwarded-Proto"));
-            MDC.put("requestId", UUID.randomUUID().toString());
-            MDC.put("startTime", String.valueOf(System.nanoTime()));
+    private void clearMDC() {
+        MDC.remove("requestId");
+        for (String key : ACCESS_KEYS) {
+            MDC.remove(key);
         }
     }
 
@@ -69,4 +108,4 @@ public class RequestResponseLoggingAspect {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         return attributes != null ? attributes.getRequest() : null;
     }
-}
\ No newline at end of file
+}
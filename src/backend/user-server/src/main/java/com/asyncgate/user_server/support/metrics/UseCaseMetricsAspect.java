@@ -0,0 +1,123 @@
+package com.asyncgate.user_server.support.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * use case 단위 지연 히스토그램 / 에러 수 / 처리 중 요청 수 기록
+ * 복사본: 기준은 guild-server 의 support.metrics.UseCaseMetricsAspect (pointcut 만 다름, 수정 시 함께 변경)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class UseCaseMetricsAspect {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, UseCaseMeters> meters = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // usecase 패키지 인터페이스를 구현한 서비스, 혹은 @UseCase 가 붙은 빈
+    @Pointcut("execution(public * com.asyncgate.user_server.usecase..*(..)) || @within(com.asyncgate.user_server.support.annotation.UseCase)")
+    public void useCaseMethods() {}
+
+    @Around("useCaseMethods()")
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        UseCaseMeters useCaseMeters = meters.computeIfAbsent(
+                method, key -> new UseCaseMeters(AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(), key.getName())
+        );
+
+        useCaseMeters.inFlight.incrementAndGet();
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            useCaseMeters.recordError(e, System.nanoTime() - startTime);
+            useCaseMeters.inFlight.decrementAndGet();
+            throw e;
+        }
+
+        // 비동기 결과는 완료 시점에 기록 (업로드처럼 future 를 반환하는 서비스)
+        if (result instanceof CompletionStage<?> stage) {
+            return stage.whenComplete((value, e) -> {
+                if (e == null) {
+                    useCaseMeters.success.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                } else {
+                    useCaseMeters.recordError(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e, System.nanoTime() - startTime);
+                }
+                useCaseMeters.inFlight.decrementAndGet();
+            });
+        }
+        useCaseMeters.success.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        useCaseMeters.inFlight.decrementAndGet();
+        return result;
+    }
+
+    private final class UseCaseMeters {
+
+        private final String useCase;
+        private final String methodName;
+        private final Timer success;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private UseCaseMeters(final String useCase, final String methodName) {
+            this.useCase = useCase;
+            this.methodName = methodName;
+            this.success = timer("success", NONE);
+            Gauge.builder("usecase.in.flight", inFlight, AtomicInteger::get)
+                    .tag("usecase", useCase)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+        }
+
+        private void recordError(final Throwable e, final long elapsedNanos) {
+            // 에러 meter 는 발생한 예외 종류만큼만 생성되고, 이후에는 registry 에서 재사용된다
+            String exception = e.getClass().getSimpleName();
+            timer("error", exception).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            Counter.builder("usecase.errors")
+                    .tag("usecase", useCase)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        private Timer timer(final String outcome, final String exception) {
+            return Timer.builder("usecase.duration")
+                    .tag("usecase", useCase)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.asyncgate.user_server.support.response;
+
+import com.asyncgate.user_server.controller.FriendController;
+import com.asyncgate.user_server.controller.MemberCommandController;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 조회 API(/friends, /info) 응답에 result 기준 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304 로 응답
+ * 복사본: 기준은 guild-server 의 support.response.ResultEtagAdvice (적용 controller 만 다름, 수정 시 함께 변경)
+ */
+@RestControllerAdvice(assignableTypes = {FriendController.class, MemberCommandController.class})
+public class ResultEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public ResultEtagAdvice(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(
+            final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return SuccessResponse.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            final Object body,
+            final MethodParameter returnType,
+            final MediaType selectedContentType,
+            final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response
+    ) {
+        if (!(body instanceof SuccessResponse<?> successResponse)
+                || !HttpMethod.GET.equals(request.getMethod())
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+
+        String etag;
+        try {
+            etag = "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(successResponse.getResult())) + "\"";
+        } catch (JsonProcessingException e) {
+            return body;
+        }
+
+        // 일치하면 304 상태와 ETag 가 설정되고, null 을 반환하면 본문을 쓰지 않는다
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(), servletResponse.getServletResponse());
+        return webRequest.checkNotModified(etag) ? null : body;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.LocalDateTime;
+import lombok.Getter;
 import lombok.ToString;
 
 @ToString
@@ -19,6 +20,7 @@ public class SuccessResponse<T> {
     @JsonProperty("time")
     private final LocalDateTime time;
 
+    @Getter
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonProperty("result")
     private final T result;
@@ -1,23 +1,50 @@
 package com.asyncgate.user_server.support.utility;
 
 import com.amazonaws.SdkClientException;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListener;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import com.asyncgate.user_server.exception.FailType;
 import com.asyncgate.user_server.exception.UserServerException;
-import lombok.RequiredArgsConstructor;
+import com.asyncgate.user_server.support.image.ImageVariant;
+import com.asyncgate.user_server.support.image.ImageVariantProcessor;
+import com.asyncgate.user_server.support.image.ImageVariantProcessor.ResizedImage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+@Slf4j
 @Configuration
-@RequiredArgsConstructor
 public class S3Util {
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final Semaphore uploadPermits;
+    private final ThreadPoolExecutor completionExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -25,23 +52,157 @@ public class S3Util {
     @Value("${cloud.aws.s3.url}")
     private String bucketUrl;
 
-    // S3 이미지 업로드
-    public String uploadFile(final MultipartFile file, final String id) {
+    @Value("${cloud.aws.s3.upload.max-size:10MB}")
+    private DataSize maxFileSize;
+
+    public S3Util(
+            final AmazonS3Client amazonS3Client,
+            final TransferManager transferManager,
+            final ImageVariantProcessor imageVariantProcessor,
+            @Value("${cloud.aws.s3.upload.max-concurrent:16}") final int maxConcurrentUploads,
+            @Value("${cloud.aws.s3.upload.completion-threads:4}") final int completionThreads
+    ) {
+        this.amazonS3Client = amazonS3Client;
+        this.transferManager = transferManager;
+        this.imageVariantProcessor = imageVariantProcessor;
+        this.uploadPermits = new Semaphore(maxConcurrentUploads);
+        // 동시 업로드 수가 permit 으로 제한되므로 큐도 그 이상 쌓이지 않는다
+        this.completionExecutor = new ThreadPoolExecutor(
+                completionThreads, completionThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentUploads)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+    }
+
+    /**
+     * 업로드를 시작하고 바로 반환, 객체가 생성되면 URL 로 완료되는 future 반환 (요청 스레드는 대기하지 않음)
+     * future 는 completion 풀에서 완료되므로 이어서 DB 트랜잭션을 실행해도 SDK 스레드를 점유하지 않는다
+     */
+    public CompletableFuture<String> uploadFile(final MultipartFile file, final String id) {
+        String contentType = validateImage(file);
+        acquireUploadPermit();
         try {
             String fileName = id + "/" + UUID.randomUUID().toString();
             ObjectMetadata objectMetadata = new ObjectMetadata();
             objectMetadata.setContentLength(file.getSize());
-            objectMetadata.setContentType(file.getContentType());
+            objectMetadata.setContentType(contentType);
 
             PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, fileName, file.getInputStream(), objectMetadata);
-
-            amazonS3Client.putObject(putObjectRequest);
-
-            return bucketUrl + fileName;
+            return completeOnPool(completion(transferManager.upload(putObjectRequest)).thenApply(ignored -> bucketUrl + fileName), () -> {});
         } catch (SdkClientException | IOException e) {
+            uploadPermits.release();
             throw new UserServerException(FailType._UPLOAD_FILE_ERROR);
-        } catch (Exception e) {
-            throw new UserServerException(FailType._UNKNOWN_ERROR);
+        }
+    }
+
+    // 원본과 리사이즈 변형본을 같은 prefix 아래 결정적인 key 로 저장하고, 모두 업로드되면 원본 URL 로 완료
+    public CompletableFuture<String> uploadImage(final MultipartFile file, final String id) {
+        String contentType = validateImage(file);
+        byte[] original;
+        try {
+            original = file.getBytes();
+        } catch (IOException e) {
+            throw new UserServerException(FailType._UPLOAD_FILE_ERROR);
+        }
+
+        acquireUploadPermit();
+        String prefix = id + "/" + UUID.randomUUID().toString();
+        if (!imageVariantProcessor.supports(contentType)) {
+            return completeOnPool(
+                    upload(prefix + ImageVariant.SOURCE_ONLY_KEY, original, contentType).thenApply(ignored -> bucketUrl + prefix + ImageVariant.SOURCE_ONLY_KEY),
+                    () -> {}
+            );
+        }
+
+        AtomicBoolean uploadStarted = new AtomicBoolean();
+        CompletableFuture<String> uploaded;
+        try {
+            uploaded = imageVariantProcessor.resizeAsync(original).thenCompose(resizedImages -> {
+                uploadStarted.set(true);
+                List<CompletableFuture<Void>> uploads = new ArrayList<>();
+                uploads.add(upload(prefix + ImageVariant.ORIGINAL_KEY, original, contentType));
+                for (ResizedImage resizedImage : resizedImages) {
+                    uploads.add(upload(prefix + resizedImage.variant().keySuffix(), resizedImage.bytes(), resizedImage.contentType()));
+                }
+                // allOf 는 모든 업로드가 끝난 뒤에 완료되므로 실패 시 정리 시점에 진행 중인 업로드는 없다
+                return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new));
+            }).thenApply(ignored -> bucketUrl + prefix + ImageVariant.ORIGINAL_KEY);
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            throw e;
+        }
+        // 일부만 업로드된 경우 원본/변형본을 모두 정리하여 변형본 없는 원본이나 고아 객체를 남기지 않음
+        return completeOnPool(uploaded, () -> {
+            if (uploadStarted.get()) {
+                deleteImageQuietly(prefix);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> upload(final String key, final byte[] bytes, final String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(bytes.length);
+        objectMetadata.setContentType(contentType);
+        try {
+            return completion(transferManager.upload(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(bytes), objectMetadata)));
+        } catch (SdkClientException e) {
+            return CompletableFuture.failedFuture(new UserServerException(FailType._UPLOAD_FILE_ERROR));
+        }
+    }
+
+    // 전송 완료/실패 이벤트로 future 를 완료 (SDK 의 progress 스레드에서 호출됨)
+    private CompletableFuture<Void> completion(final Upload upload) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        upload.addProgressListener((ProgressListener) event -> {
+            if (event.getEventType() == ProgressEventType.TRANSFER_COMPLETED_EVENT) {
+                future.complete(null);
+            } else if (event.getEventType() == ProgressEventType.TRANSFER_FAILED_EVENT
+                    || event.getEventType() == ProgressEventType.TRANSFER_CANCELED_EVENT) {
+                future.completeExceptionally(new UserServerException(FailType._UPLOAD_FILE_ERROR));
+            }
+        });
+        // 리스너 등록 전에 이미 끝난 전송
+        if (upload.isDone()) {
+            if (upload.getState() == Transfer.TransferState.Completed) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(new UserServerException(FailType._UPLOAD_FILE_ERROR));
+            }
+        }
+        return future;
+    }
+
+    // 결과를 completion 풀로 넘기고 permit 반환 (이어지는 작업이 SDK 스레드에서 실행되지 않도록), 실패 시 정리 작업도 이 풀에서 수행
+    private CompletableFuture<String> completeOnPool(final CompletableFuture<String> uploaded, final Runnable onFailure) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        uploaded.whenComplete((url, e) -> completionExecutor.execute(() -> {
+            uploadPermits.release();
+            if (e == null) {
+                result.complete(url);
+                return;
+            }
+            onFailure.run();
+            result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        }));
+        return result;
+    }
+
+    private void deleteImageQuietly(final String prefix) {
+        List<String> keys = new ArrayList<>();
+        keys.add(prefix + ImageVariant.ORIGINAL_KEY);
+        for (ImageVariant variant : ImageVariant.values()) {
+            keys.add(prefix + variant.keySuffix());
+        }
+        for (String key : keys) {
+            try {
+                amazonS3Client.deleteObject(bucketName, key);
+            } catch (SdkClientException e) {
+                log.warn("업로드 실패 후 S3 객체 정리 실패 - {}", key, e);
+            }
         }
     }
 
@@ -59,6 +220,7 @@ public class S3Util {
             }
 
             amazonS3Client.deleteObject(bucketName, fileName);
+            deleteVariants(fileName);
 
         } catch (SdkClientException e) {
             throw new UserServerException(FailType._DELETE_FILE_ERROR);
@@ -66,4 +228,73 @@ public class S3Util {
             throw new UserServerException(FailType._UNKNOWN_ERROR);
         }
     }
+
+    // DB 반영 실패 시 업로드된 파일 정리 / 커밋 이후 이전 파일 정리 (실패해도 요청은 성공 처리)
+    public void deleteFileQuietly(final String fileUrl) {
+        try {
+            deleteFile(fileUrl);
+        } catch (Exception e) {
+            log.warn("S3 파일 삭제 실패 - {}", fileUrl, e);
+        }
+    }
+
+    private void deleteVariants(final String fileName) {
+        if (!fileName.endsWith(ImageVariant.ORIGINAL_KEY)) {
+            return;
+        }
+        String prefix = fileName.substring(0, fileName.length() - ImageVariant.ORIGINAL_KEY.length());
+        for (ImageVariant variant : ImageVariant.values()) {
+            amazonS3Client.deleteObject(bucketName, prefix + variant.keySuffix());
+        }
+    }
+
+    // 대기하지 않고 바로 거절 (요청 스레드를 붙잡지 않음)
+    private void acquireUploadPermit() {
+        if (!uploadPermits.tryAcquire()) {
+            throw new UserServerException(FailType._UPLOAD_BUSY);
+        }
+    }
+
+    // 클라이언트가 보낸 Content-Type 대신 파일 시그니처로 이미지 형식을 판별
+    private String validateImage(final MultipartFile file) {
+        if (file.getSize() > maxFileSize.toBytes()) {
+            throw new UserServerException(FailType.FILE_TOO_LARGE);
+        }
+        byte[] header = new byte[12];
+        int read;
+        try (InputStream inputStream = file.getInputStream()) {
+            read = inputStream.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            throw new UserServerException(FailType._UPLOAD_FILE_ERROR);
+        }
+        if (read >= 8 && startsWith(header, 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (read >= 3 && startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (read >= 6 && new String(header, 0, 4, StandardCharsets.US_ASCII).equals("GIF8")) {
+            return "image/gif";
+        }
+        if (read == 12 && new String(header, 0, 4, StandardCharsets.US_ASCII).equals("RIFF")
+                && new String(header, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+            return "image/webp";
+        }
+        throw new UserServerException(FailType.FILE_TYPE_NOT_SUPPORTED);
+    }
+
+    private boolean startsWith(final byte[] header, final int... signature) {
+        return Arrays.equals(
+                Arrays.copyOf(header, signature.length),
+                toBytes(signature)
+        );
+    }
+
+    private byte[] toBytes(final int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
 }
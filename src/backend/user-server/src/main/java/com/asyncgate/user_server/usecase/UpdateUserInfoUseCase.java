@@ -3,6 +3,8 @@ package com.asyncgate.user_server.usecase;
 import com.asyncgate.user_server.support.annotation.UseCase;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 @UseCase
 public interface UpdateUserInfoUseCase {
     /**
@@ -11,6 +13,7 @@ public interface UpdateUserInfoUseCase {
      * @param name
      * @param nickname
      * @param profileImage
+     * @return 업로드와 DB 반영이 끝나면 완료되는 future
      */
-    void execute(final String userId, final String name, final String nickname, final MultipartFile profileImage);
+    CompletableFuture<Void> execute(final String userId, final String name, final String nickname, final MultipartFile profileImage);
 }